@@ -28,6 +28,8 @@ import org.jabref.model.groups.GroupHierarchyType;
 import org.jabref.model.groups.KeywordGroup;
 import org.jabref.model.groups.WordKeywordGroup;
 import org.jabref.model.metadata.MetaData;
+import org.jabref.model.search.SearchIndex;
+import org.jabref.model.search.SearchMatcher;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.preferences.JabRefPreferences;
 
@@ -45,6 +47,7 @@ public class Benchmarks {
 
     private String bibtexString;
     private final BibDatabase database = new BibDatabase();
+    private SearchIndex searchIndex;
     private String latexConversionString;
     private String htmlConversionString;
 
@@ -66,6 +69,7 @@ public class Benchmarks {
         }
 
         bibtexString = getOutputWriter().toString();
+        searchIndex = new SearchIndex(database);
 
         latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
 
@@ -104,6 +108,13 @@ public class Benchmarks {
         return database.getEntries().parallelStream().filter(searchQuery::isMatch).collect(Collectors.toList());
     }
 
+    @Benchmark
+    public List<BibEntry> indexedSearch() {
+        SearchQuery searchQuery = new SearchQuery("Journal Title 500", false, false);
+        SearchMatcher matcher = searchQuery.getIndexedMatcher(searchIndex);
+        return database.getEntries().stream().filter(matcher::isMatch).collect(Collectors.toList());
+    }
+
     @Benchmark
     public BibDatabaseMode inferBibDatabaseMode() {
         return BibDatabaseModeDetection.inferMode(database);
@@ -0,0 +1,59 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+@State(Scope.Thread)
+public class CrossrefBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 100_000;
+
+    private final BibDatabase database = new BibDatabase();
+
+    @Setup
+    public void init() {
+        // every second entry is an article referencing the proceedings entry following it
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i += 2) {
+            BibEntry article = new BibEntry();
+            article.setCiteKey("article" + i);
+            article.setField(StandardField.TITLE, "This is my title " + i);
+            article.setField(StandardField.CROSSREF, "proceedings" + i);
+            database.insertEntry(article);
+
+            BibEntry proceedings = new BibEntry();
+            proceedings.setCiteKey("proceedings" + i);
+            proceedings.setField(StandardField.BOOKTITLE, "Proceedings Title " + i);
+            proceedings.setField(StandardField.YEAR, "2020");
+            database.insertEntry(proceedings);
+        }
+    }
+
+    @Benchmark
+    public void resolveCrossrefs(Blackhole blackhole) {
+        for (BibEntry entry : database.getEntries()) {
+            blackhole.consume(entry.getResolvedFieldOrAlias(StandardField.BOOKTITLE, database));
+        }
+    }
+
+    @Benchmark
+    public void getEntryByKey(Blackhole blackhole) {
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i += 2) {
+            blackhole.consume(database.getEntryByKey("proceedings" + i));
+        }
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,105 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.logic.bibtex.BibEntryWriter;
+import org.jabref.logic.bibtex.FieldWriter;
+import org.jabref.logic.bibtex.FieldWriterPreferences;
+import org.jabref.logic.exporter.AtomicFileWriter;
+import org.jabref.logic.exporter.BibtexDatabaseWriter;
+import org.jabref.logic.exporter.SavePreferences;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.metadata.MetaData;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.RunnerException;
+
+import static org.mockito.Mockito.mock;
+
+@State(Scope.Thread)
+public class FileWriteBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 100_000;
+
+    private final BibDatabase database = new BibDatabase();
+    private final List<String> serializedEntries = new ArrayList<>(NUMBER_OF_ENTRIES);
+    private Path file;
+
+    @Setup
+    public void init() throws IOException {
+        BibEntryTypesManager entryTypesManager = new BibEntryTypesManager();
+        BibEntryWriter entryWriter = new BibEntryWriter(new FieldWriter(new FieldWriterPreferences()), entryTypesManager);
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            BibEntry entry = new BibEntry();
+            entry.setCiteKey("id" + i);
+            entry.setField(StandardField.TITLE, "This is my title " + i);
+            entry.setField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA and Fïrstnäme Lästnäme" + i);
+            entry.setField(StandardField.JOURNAL, "Journal Title " + i);
+            entry.setField(StandardField.ABSTRACT, "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(4));
+            entry.setField(StandardField.YEAR, "1" + i);
+            database.insertEntry(entry);
+
+            StringWriter serialization = new StringWriter();
+            entryWriter.write(entry, serialization, BibDatabaseMode.BIBTEX);
+            serializedEntries.add(serialization.toString());
+        }
+
+        file = Files.createTempFile("jabref-benchmark", ".bib");
+    }
+
+    @TearDown
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    private boolean writeEntries(Charset encoding) throws IOException {
+        try (AtomicFileWriter writer = new AtomicFileWriter(file, encoding)) {
+            for (String entry : serializedEntries) {
+                writer.write(entry);
+            }
+            writer.close();
+            return writer.hasEncodingProblems();
+        }
+    }
+
+    @Benchmark
+    public boolean writeUtf8() throws IOException {
+        return writeEntries(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public boolean writeWithEncodingProblems() throws IOException {
+        // the names contain umlauts which cannot be encoded in ASCII
+        return writeEntries(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public boolean writeDatabase() throws IOException {
+        try (AtomicFileWriter writer = new AtomicFileWriter(file, StandardCharsets.UTF_8)) {
+            BibtexDatabaseWriter databaseWriter = new BibtexDatabaseWriter(writer, mock(SavePreferences.class), new BibEntryTypesManager());
+            databaseWriter.savePartOfDatabase(new BibDatabaseContext(database, new MetaData()), database.getEntries());
+            return writer.hasEncodingProblems();
+        }
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
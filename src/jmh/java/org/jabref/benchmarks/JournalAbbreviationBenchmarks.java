@@ -0,0 +1,73 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.jabref.logic.journals.Abbreviation;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+@State(Scope.Thread)
+public class JournalAbbreviationBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 100_000;
+
+    private final JournalAbbreviationRepository repository = new JournalAbbreviationRepository();
+    private final BibDatabase database = new BibDatabase();
+
+    @Setup
+    public void init() {
+        repository.addEntries(JournalAbbreviationLoader.getBuiltInAbbreviations());
+        List<Abbreviation> abbreviations = new ArrayList<>(repository.getAbbreviations());
+
+        // mix of full names, abbreviations in other case and unknown journals
+        Random randomizer = new Random(42);
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            Abbreviation abbreviation = abbreviations.get(randomizer.nextInt(abbreviations.size()));
+            String journal;
+            switch (i % 3) {
+                case 0:
+                    journal = abbreviation.getName();
+                    break;
+                case 1:
+                    journal = abbreviation.getAbbreviation().toUpperCase(Locale.ROOT);
+                    break;
+                default:
+                    journal = "Unknown Journal " + i;
+            }
+            database.insertEntry(new BibEntry().withField(StandardField.JOURNAL, journal));
+        }
+    }
+
+    @Benchmark
+    public void abbreviateAllJournals(Blackhole blackhole) {
+        for (BibEntry entry : database.getEntries()) {
+            blackhole.consume(entry.getField(StandardField.JOURNAL).flatMap(repository::getDefaultAbbreviation));
+        }
+    }
+
+    @Benchmark
+    public void checkAllJournalsAreAbbreviated(Blackhole blackhole) {
+        for (BibEntry entry : database.getEntries()) {
+            blackhole.consume(entry.getField(StandardField.JOURNAL).map(repository::isAbbreviatedName));
+        }
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -17,10 +17,13 @@ import org.jabref.gui.util.ThemeLoader;
 import org.jabref.logic.exporter.ExporterFactory;
 import org.jabref.logic.importer.ImportFormatReader;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.pdf.PdfContentCache;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
 import org.jabref.logic.remote.server.RemoteListenerServerLifecycle;
 import org.jabref.logic.util.BuildInfo;
+import org.jabref.logic.util.OS;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.util.FileDirectoryCache;
 import org.jabref.model.util.FileUpdateMonitor;
 import org.jabref.preferences.JabRefPreferences;
 
@@ -44,6 +47,11 @@ public class Globals {
     public static final ImportFormatReader IMPORT_FORMAT_READER = new ImportFormatReader();
     public static final TaskExecutor TASK_EXECUTOR = new DefaultTaskExecutor();
 
+    /**
+     * What has been read from PDF files, e.g., their annotations. At most 256 MB are kept.
+     */
+    public static final PdfContentCache PDF_CONTENT_CACHE = new PdfContentCache(OS.getCacheDirectory().resolve("pdfs"), 256L * 1024 * 1024);
+
     /**
      * Each test case initializes this field if required
      */
@@ -75,6 +83,7 @@ public class Globals {
     private static KeyBindingRepository keyBindingRepository;
 
     private static DefaultFileUpdateMonitor fileUpdateMonitor;
+    private static FileDirectoryCache fileDirectoryCache;
     private static ThemeLoader themeLoader;
     private static TelemetryClient telemetryClient;
 
@@ -94,6 +103,9 @@ public class Globals {
         Globals.fileUpdateMonitor = new DefaultFileUpdateMonitor();
         JabRefExecutorService.INSTANCE.executeInterruptableTask(Globals.fileUpdateMonitor, "FileUpdateMonitor");
 
+        fileDirectoryCache = new FileDirectoryCache(fileUpdateMonitor, OS.getCacheDirectory().resolve("directories.snapshot"));
+        JabRefExecutorService.INSTANCE.execute(fileDirectoryCache::readSnapshot);
+
         themeLoader = new ThemeLoader(fileUpdateMonitor, prefs);
 
         if (Globals.prefs.shouldCollectTelemetry() && !GraphicsEnvironment.isHeadless()) {
@@ -131,6 +143,10 @@ public class Globals {
         return fileUpdateMonitor;
     }
 
+    public static FileDirectoryCache getFileDirectoryCache() {
+        return fileDirectoryCache;
+    }
+
     public static void shutdownThreadPools() {
         TASK_EXECUTOR.shutdown();
         JabRefExecutorService.INSTANCE.shutdownEverything();
@@ -139,6 +155,9 @@ public class Globals {
     public static void stopBackgroundTasks() {
         stopTelemetryClient();
         Unirest.shutDown();
+        if (fileDirectoryCache != null) {
+            fileDirectoryCache.writeSnapshot();
+        }
     }
 
     public static Optional<TelemetryClient> getTelemetryClient() {
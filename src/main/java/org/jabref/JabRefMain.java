@@ -1,6 +1,7 @@
 package org.jabref;
 
 import java.net.Authenticator;
+import java.time.Duration;
 
 import javafx.application.Application;
 import javafx.application.Platform;
@@ -13,9 +14,11 @@ import org.jabref.gui.FXDialog;
 import org.jabref.gui.remote.JabRefMessageHandler;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.net.HttpResponseCache;
 import org.jabref.logic.net.ProxyAuthenticator;
 import org.jabref.logic.net.ProxyPreferences;
 import org.jabref.logic.net.ProxyRegisterer;
+import org.jabref.logic.net.URLDownload;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
 import org.jabref.logic.remote.RemotePreferences;
 import org.jabref.logic.remote.client.RemoteClient;
@@ -161,7 +164,10 @@ public class JabRefMain extends Application {
 
     private static void applyPreferences(JabRefPreferences preferences) {
         // Read list(s) of journal names and abbreviations
-        Globals.journalAbbreviationLoader = new JournalAbbreviationLoader();
+        Globals.journalAbbreviationLoader = new JournalAbbreviationLoader(OS.getCacheDirectory().resolve("journals"));
+
+        // Keep the responses of web services, which are revalidated after a day
+        URLDownload.setResponseCache(new HttpResponseCache(OS.getCacheDirectory().resolve("http"), Duration.ofDays(1), 64L * 1024 * 1024));
 
         // Build list of Import and Export formats
         Globals.IMPORT_FORMAT_READER.resetImportFormats(Globals.prefs.getImportFormatPreferences(),
@@ -34,6 +34,7 @@ import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.SearchBasedFetcher;
 import org.jabref.logic.importer.WebFetchers;
+import org.jabref.logic.importer.fileformat.BibtexFileIndex;
 import org.jabref.logic.importer.fileformat.BibtexParser;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.layout.LayoutFormatterPreferences;
@@ -190,6 +191,12 @@ public class ArgumentProcessor {
             importPreferences();
         }
 
+        if (isAuxImportOnly()) {
+            // Only the cited entries are needed, thus the library is indexed instead of parsed completely
+            doIndexedAuxImport();
+            return Collections.emptyList();
+        }
+
         // List to put imported/loaded database(s) in.
         List<ParserResult> loaded = importAndOpenFiles();
 
@@ -304,9 +311,50 @@ public class ArgumentProcessor {
         }
 
         if (usageMsg) {
-            System.out.println(Localization.lang("no base-BibTeX-file specified") + "!");
-            System.out.println(Localization.lang("usage") + " :");
-            System.out.println("jabref --aux infile[.aux],outfile[.bib] base-BibTeX-file");
+            printAuxUsage();
+        }
+    }
+
+    private void printAuxUsage() {
+        System.out.println(Localization.lang("no base-BibTeX-file specified") + "!");
+        System.out.println(Localization.lang("usage") + " :");
+        System.out.println("jabref --aux infile[.aux],outfile[.bib] base-BibTeX-file");
+    }
+
+    /**
+     * Checks whether the aux import is the only action requested and no GUI is shown afterwards
+     */
+    private boolean isAuxImportOnly() {
+        return !cli.isBlank() && cli.isDisableGui() && cli.isAuxImport()
+                && (cli.getLeftOver().size() == 1)
+                && cli.getLeftOver().get(0).toLowerCase(Locale.ENGLISH).endsWith("bib")
+                && !cli.isFileImport() && !cli.isImportToOpenBase() && !cli.isBibtexImport()
+                && !cli.isFetcherEngine() && !cli.isExportMatches() && !cli.isGenerateBibtexKeys()
+                && !cli.isAutomaticallySetFileLinks() && !cli.isFileExport() && !cli.isPreferencesExport();
+    }
+
+    private void doIndexedAuxImport() {
+        String[] data = cli.getAuxImport().split(",");
+        if (data.length != 2) {
+            printAuxUsage();
+            return;
+        }
+
+        Path file = Paths.get(cli.getLeftOver().get(0));
+        BibtexFileIndex index;
+        try {
+            index = BibtexFileIndex.create(file, Globals.prefs.getImportFormatPreferences(), Globals.getFileUpdateMonitor());
+        } catch (IOException ex) {
+            // e.g., the encoding of the library is not ASCII-compatible
+            LOGGER.info("Could not index {}, parsing it completely", file, ex);
+            doAuxImport(importAndOpenFiles());
+            return;
+        }
+
+        try {
+            saveAuxDatabase(new AuxCommandLine(data[0], index).perform(), data[1]);
+        } catch (IOException ex) {
+            System.err.println(Localization.lang("Error opening file") + " '" + data[0] + "': " + ex.getLocalizedMessage());
         }
     }
 
@@ -365,19 +413,10 @@ public class ArgumentProcessor {
         if (data.length == 2) {
             ParserResult pr = loaded.get(0);
             AuxCommandLine acl = new AuxCommandLine(data[0], pr.getDatabase());
-            BibDatabase newBase = acl.perform();
-
-            boolean notSavedMsg = false;
-
-            // write an output, if something could be resolved
-            if ((newBase != null) && newBase.hasEntries()) {
-                String subName = StringUtil.getCorrectFileName(data[1], "bib");
-                saveDatabase(newBase, subName);
-                notSavedMsg = true;
-            }
-
-            if (!notSavedMsg) {
-                System.out.println(Localization.lang("no library generated"));
+            try {
+                saveAuxDatabase(acl.perform(), data[1]);
+            } catch (IOException ex) {
+                System.err.println(Localization.lang("Error opening file") + " '" + data[0] + "': " + ex.getLocalizedMessage());
             }
             return false;
         } else {
@@ -385,6 +424,16 @@ public class ArgumentProcessor {
         }
     }
 
+    private void saveAuxDatabase(BibDatabase newBase, String fileName) {
+        // write an output, if something could be resolved
+        if ((newBase != null) && newBase.hasEntries()) {
+            String subName = StringUtil.getCorrectFileName(fileName, "bib");
+            saveDatabase(newBase, subName);
+        } else {
+            System.out.println(Localization.lang("no library generated"));
+        }
+    }
+
     private void saveDatabase(BibDatabase newBase, String subName) {
         try {
             System.out.println(Localization.lang("Saving") + ": " + subName);
@@ -1,9 +1,11 @@
 package org.jabref.cli;
 
+import java.io.IOException;
 import java.nio.file.Paths;
 
 import org.jabref.gui.auximport.AuxParserResultViewModel;
 import org.jabref.logic.auxparser.DefaultAuxParser;
+import org.jabref.logic.importer.fileformat.BibtexFileIndex;
 import org.jabref.model.auxparser.AuxParser;
 import org.jabref.model.auxparser.AuxParserResult;
 import org.jabref.model.database.BibDatabase;
@@ -11,16 +13,33 @@ import org.jabref.model.strings.StringUtil;
 
 public class AuxCommandLine {
     private final String auxFile;
-    private final BibDatabase database;
+    private BibDatabase database;
+    private final BibtexFileIndex index;
 
     public AuxCommandLine(String auxFile, BibDatabase database) {
         this.auxFile = StringUtil.getCorrectFileName(auxFile, "aux");
         this.database = database;
+        this.index = null;
     }
 
-    public BibDatabase perform() {
+    /**
+     * Uses the given index as base library. Only the entries cited in the AUX file are parsed.
+     */
+    public AuxCommandLine(String auxFile, BibtexFileIndex index) {
+        this.auxFile = StringUtil.getCorrectFileName(auxFile, "aux");
+        this.database = null;
+        this.index = index;
+    }
+
+    public BibDatabase perform() throws IOException {
         BibDatabase subDatabase = null;
 
+        if (!auxFile.isEmpty() && (index != null)) {
+            // parsing against an empty library yields all cited keys as unresolved keys
+            AuxParserResult citedKeys = new DefaultAuxParser(new BibDatabase()).parse(Paths.get(auxFile));
+            database = index.load(citedKeys.getUniqueKeys()).getDatabase();
+        }
+
         if (!auxFile.isEmpty() && (database != null)) {
             AuxParser auxParser = new DefaultAuxParser(database);
             AuxParserResult result = auxParser.parse(Paths.get(auxFile));
@@ -65,6 +65,7 @@ import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.gui.worker.SendAsEMailAction;
 import org.jabref.logic.citationstyle.CitationStyleCache;
 import org.jabref.logic.citationstyle.CitationStyleOutputFormat;
+import org.jabref.logic.exporter.IncrementalSaveState;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.layout.Layout;
 import org.jabref.logic.layout.LayoutHelper;
@@ -111,6 +112,7 @@ public class BasePanel extends StackPane {
 
     private final CitationStyleCache citationStyleCache;
     private final FileAnnotationCache annotationCache;
+    private final IncrementalSaveState saveState;
 
     private final JabRefFrame frame;
     // The undo manager.
@@ -156,12 +158,14 @@ public class BasePanel extends StackPane {
 
         bibDatabaseContext.getDatabase().registerListener(this);
         bibDatabaseContext.getMetaData().registerListener(this);
+        bibDatabaseContext.setFileDirectoryCache(Globals.getFileDirectoryCache());
 
         this.sidePaneManager = frame.getSidePaneManager();
         this.tableModel = new MainTableDataModel(getBibDatabaseContext());
 
         citationStyleCache = new CitationStyleCache(bibDatabaseContext);
-        annotationCache = new FileAnnotationCache(bibDatabaseContext, Globals.prefs.getFilePreferences());
+        annotationCache = new FileAnnotationCache(bibDatabaseContext, Globals.prefs.getFilePreferences(), Globals.PDF_CONTENT_CACHE);
+        saveState = new IncrementalSaveState(bibDatabaseContext);
 
         setupMainPanel();
 
@@ -1001,6 +1005,10 @@ public class BasePanel extends StackPane {
         return this.bibDatabaseContext;
     }
 
+    public IncrementalSaveState getSaveState() {
+        return saveState;
+    }
+
     public SidePaneManager getSidePaneManager() {
         return sidePaneManager;
     }
@@ -22,6 +22,6 @@ class FieldValueSuggestionProvider extends StringSuggestionProvider implements A
             return;
         }
 
-        entry.getField(field).ifPresent(fieldValue -> addPossibleSuggestions(fieldValue.trim()));
+        entry.getField(field).ifPresent(fieldValue -> addPossibleSuggestion(fieldValue.trim()));
     }
 }
@@ -0,0 +1,65 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+
+import javafx.util.Callback;
+
+import org.controlsfx.control.textfield.AutoCompletionBinding.ISuggestionRequest;
+
+/**
+ * A suggestion provider which suggests everything whose search text contains the text typed by the user, ignoring
+ * case. In contrast to {@link SuggestionProvider}, the suggestions are kept in a {@link SuggestionIndex}, so that
+ * requests do not check every suggestion and do not block each other or the indexing of entries.
+ * <p>
+ * The search text and the order of a suggestion must not change after it has been added.
+ *
+ * @param <T> Type of suggestions
+ */
+public abstract class IndexedSuggestionProvider<T> implements Callback<ISuggestionRequest, Collection<T>> {
+
+    private final SuggestionIndex<T> index = new SuggestionIndex<>(this::getSearchText,
+            (first, second) -> getComparator().compare(first, second));
+
+    /**
+     * Add the given new possible suggestion to this SuggestionProvider
+     */
+    public void addPossibleSuggestion(T newPossible) {
+        index.add(newPossible);
+    }
+
+    /**
+     * Add the given new possible suggestions to this SuggestionProvider
+     */
+    public void addPossibleSuggestions(Collection<T> newPossible) {
+        for (T suggestion : newPossible) {
+            index.add(suggestion);
+        }
+    }
+
+    /**
+     * Remove all current possible suggestions
+     */
+    public void clearSuggestions() {
+        index.clear();
+    }
+
+    @Override
+    public final Collection<T> call(final ISuggestionRequest request) {
+        if (request.getUserText().isEmpty()) {
+            return new ArrayList<>();
+        }
+        return index.find(request.getUserText());
+    }
+
+    /**
+     * Get the comparator to order the suggestions
+     */
+    protected abstract Comparator<T> getComparator();
+
+    /**
+     * Get the text which has to contain the text typed by the user for the given suggestion to be suggested
+     */
+    protected abstract String getSearchText(T suggestion);
+}
@@ -10,12 +10,10 @@ import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
 
-import org.controlsfx.control.textfield.AutoCompletionBinding;
-
 /**
  * Delivers possible completions as a list of {@link Author}s.
  */
-public class PersonNameSuggestionProvider extends SuggestionProvider<Author> implements AutoCompleteSuggestionProvider<Author> {
+public class PersonNameSuggestionProvider extends IndexedSuggestionProvider<Author> implements AutoCompleteSuggestionProvider<Author> {
 
     private final Collection<Field> fields;
     private final Comparator<Author> authorComparator = Comparator.comparing(Author::getNameForAlphabetization);
@@ -41,7 +39,7 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> imp
             entry.getField(field).ifPresent(fieldValue -> {
                 AuthorList authorList = AuthorList.parse(fieldValue);
                 for (Author author : authorList.getAuthors()) {
-                    addPossibleSuggestions(author);
+                    addPossibleSuggestion(author);
                 }
             });
         }
@@ -53,9 +51,7 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> imp
     }
 
     @Override
-    protected boolean isMatch(Author suggestion, AutoCompletionBinding.ISuggestionRequest request) {
-        String userTextLower = request.getUserText().toLowerCase();
-        String suggestionStr = suggestion.getLastFirst(false).toLowerCase();
-        return suggestionStr.contains(userTextLower);
+    protected String getSearchText(Author suggestion) {
+        return suggestion.getLastFirst(false);
     }
 }
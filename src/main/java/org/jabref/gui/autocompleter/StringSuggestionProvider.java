@@ -2,9 +2,7 @@ package org.jabref.gui.autocompleter;
 
 import java.util.Comparator;
 
-import org.controlsfx.control.textfield.AutoCompletionBinding;
-
-class StringSuggestionProvider extends SuggestionProvider<String> {
+class StringSuggestionProvider extends IndexedSuggestionProvider<String> {
 
     private final Comparator<String> stringComparator = Comparator.naturalOrder();
 
@@ -18,9 +16,7 @@ class StringSuggestionProvider extends SuggestionProvider<String> {
     }
 
     @Override
-    protected boolean isMatch(String suggestion, AutoCompletionBinding.ISuggestionRequest request) {
-        String userTextLower = request.getUserText().toLowerCase();
-        String suggestionStr = suggestion.toLowerCase();
-        return suggestionStr.contains(userTextLower);
+    protected String getSearchText(String suggestion) {
+        return suggestion;
     }
 }
@@ -0,0 +1,232 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Finds the suggestions whose search text contains what the user typed, ignoring case, without looking at every
+ * suggestion.
+ * <p>
+ * For each suggestion, the lower-cased search text is stored together with its trigrams, i.e., the substrings of three
+ * characters. A request of at least three characters only has to look at the suggestions containing its rarest
+ * trigram. The order of all suggestions is computed once and reused by later requests; suggestions added since are
+ * sorted on their own and merged, until there are enough of them to rank all suggestions again.
+ * <p>
+ * Suggestions are only added, so requests never wait for a lock: a suggestion is published by increasing the size after
+ * it has been stored, and a request only considers the suggestions below the size it has read first.
+ */
+class SuggestionIndex<T> {
+
+    private static final int GRAM_LENGTH = 3;
+
+    /**
+     * The number of unranked suggestions which are sorted on each request before all suggestions are ranked again
+     */
+    private static final int MINIMUM_UNRANKED = 1024;
+
+    private final Function<T, String> searchText;
+    private final Comparator<T> comparator;
+
+    /**
+     * The suggestions which have been added, only used by writers
+     */
+    private final Set<T> known = new HashSet<>();
+    private volatile Storage storage = new Storage();
+
+    SuggestionIndex(Function<T, String> searchText, Comparator<T> comparator) {
+        this.searchText = Objects.requireNonNull(searchText);
+        this.comparator = Objects.requireNonNull(comparator);
+    }
+
+    synchronized void add(T suggestion) {
+        if (!known.add(suggestion)) {
+            return;
+        }
+
+        Storage current = storage;
+        String key = searchText.apply(suggestion).toLowerCase(Locale.ROOT);
+        int id = current.size;
+        current.ensureCapacity(id + 1);
+        current.suggestions[id] = suggestion;
+        current.keys[id] = key;
+        current.size = id + 1;
+
+        for (String gram : getGrams(key)) {
+            current.grams.computeIfAbsent(gram, ignored -> new Postings()).add(id);
+        }
+    }
+
+    synchronized void clear() {
+        known.clear();
+        storage = new Storage();
+    }
+
+    /**
+     * Returns all suggestions whose search text contains the given text, ignoring case, in the order of the
+     * comparator.
+     */
+    List<T> find(String text) {
+        Storage current = storage;
+        // the size is read before the arrays, so that all suggestions below it are visible
+        int size = current.size;
+        Object[] suggestions = current.suggestions;
+        String[] keys = current.keys;
+        String query = text.toLowerCase(Locale.ROOT);
+
+        int[] candidates;
+        int candidateCount;
+        if (query.length() < GRAM_LENGTH) {
+            candidates = null;
+            candidateCount = size;
+        } else {
+            Postings rarest = null;
+            for (String gram : getGrams(query)) {
+                Postings postings = current.grams.get(gram);
+                if (postings == null) {
+                    return new ArrayList<>();
+                }
+                if ((rarest == null) || (postings.size < rarest.size)) {
+                    rarest = postings;
+                }
+            }
+            candidateCount = rarest.size;
+            candidates = rarest.ids;
+        }
+
+        Ranking ranking = getRanking(current, size, suggestions);
+        int[] ranked = new int[candidateCount];
+        int rankedCount = 0;
+        List<T> unranked = new ArrayList<>();
+        for (int i = 0; i < candidateCount; i++) {
+            int id = (candidates == null) ? i : candidates[i];
+            if ((id < size) && keys[id].contains(query)) {
+                if (id < ranking.size) {
+                    ranked[rankedCount++] = id;
+                } else {
+                    unranked.add(getSuggestion(suggestions, id));
+                }
+            }
+        }
+
+        long[] byRank = new long[rankedCount];
+        for (int i = 0; i < rankedCount; i++) {
+            byRank[i] = ((long) ranking.ranks[ranked[i]] << 32) | ranked[i];
+        }
+        Arrays.sort(byRank);
+        unranked.sort(comparator);
+
+        List<T> result = new ArrayList<>(rankedCount + unranked.size());
+        int next = 0;
+        for (long rankAndId : byRank) {
+            T suggestion = getSuggestion(suggestions, (int) rankAndId);
+            while ((next < unranked.size()) && (comparator.compare(unranked.get(next), suggestion) < 0)) {
+                result.add(unranked.get(next++));
+            }
+            result.add(suggestion);
+        }
+        result.addAll(unranked.subList(next, unranked.size()));
+        return result;
+    }
+
+    /**
+     * Returns the current ranking, or ranks all given suggestions again if too many are not ranked yet. Concurrent
+     * requests may rank at the same time; the rankings are equal then.
+     */
+    private Ranking getRanking(Storage current, int size, Object[] suggestions) {
+        Ranking ranking = current.ranking;
+        if ((size - ranking.size) <= Math.max(MINIMUM_UNRANKED, ranking.size / 8)) {
+            return ranking;
+        }
+
+        Integer[] ids = new Integer[size];
+        for (int id = 0; id < size; id++) {
+            ids[id] = id;
+        }
+        Arrays.sort(ids, Comparator.comparing(id -> getSuggestion(suggestions, id), comparator));
+        int[] ranks = new int[size];
+        for (int rank = 0; rank < size; rank++) {
+            ranks[ids[rank]] = rank;
+        }
+        ranking = new Ranking(size, ranks);
+        current.ranking = ranking;
+        return ranking;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T getSuggestion(Object[] suggestions, int id) {
+        return (T) suggestions[id];
+    }
+
+    private static Set<String> getGrams(String key) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; (i + GRAM_LENGTH) <= key.length(); i++) {
+            grams.add(key.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * All suggestions added since the index has been cleared last
+     */
+    private static class Storage {
+
+        private final Map<String, Postings> grams = new ConcurrentHashMap<>();
+        private volatile Object[] suggestions = new Object[16];
+        private volatile String[] keys = new String[16];
+        private volatile int size;
+        private volatile Ranking ranking = new Ranking(0, new int[0]);
+
+        /**
+         * Replaces the arrays by larger copies if needed. Readers still holding the old arrays find all suggestions
+         * below the size they have read in them.
+         */
+        private void ensureCapacity(int capacity) {
+            if (capacity > suggestions.length) {
+                int length = Math.max(capacity, suggestions.length * 2);
+                suggestions = Arrays.copyOf(suggestions, length);
+                keys = Arrays.copyOf(keys, length);
+            }
+        }
+    }
+
+    /**
+     * The suggestions containing one trigram, in the order they have been added
+     */
+    private static class Postings {
+
+        private volatile int[] ids = new int[4];
+        private volatile int size;
+
+        private void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size] = id;
+            size++;
+        }
+    }
+
+    /**
+     * The positions of the first suggestions in the order of the comparator
+     */
+    private static class Ranking {
+
+        private final int size;
+        private final int[] ranks;
+
+        private Ranking(int size, int[] ranks) {
+            this.size = size;
+            this.ranks = ranks;
+        }
+    }
+}
@@ -28,7 +28,7 @@ public class WordSuggestionProvider extends StringSuggestionProvider implements
         entry.getField(field).ifPresent(fieldValue -> {
             StringTokenizer tok = new StringTokenizer(fieldValue, SEPARATING_CHARS);
             while (tok.hasMoreTokens()) {
-                addPossibleSuggestions(tok.nextToken());
+                addPossibleSuggestion(tok.nextToken());
             }
         });
     }
@@ -1,8 +1,16 @@
 package org.jabref.gui.collab;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.TaskExecutor;
@@ -22,6 +30,12 @@ public class DatabaseChangeMonitor implements FileUpdateListener {
     private final List<DatabaseChangeListener> listeners;
     private TaskExecutor taskExecutor;
 
+    /**
+     * The digest of the file content seen by the last scan. Sync clients often touch the file without changing its
+     * content, such a touch does not need to be scanned again.
+     */
+    private byte[] lastScannedDigest;
+
     public DatabaseChangeMonitor(BibDatabaseContext database, FileUpdateMonitor fileMonitor, TaskExecutor taskExecutor) {
         this.database = database;
         this.fileMonitor = fileMonitor;
@@ -40,8 +54,7 @@ public class DatabaseChangeMonitor implements FileUpdateListener {
     @Override
     public void fileUpdated() {
         // File on disk has changed, thus look for notable changes and notify listeners in case there are such changes
-        ChangeScanner scanner = new ChangeScanner(database);
-        BackgroundTask.wrap(scanner::scanForChanges)
+        BackgroundTask.wrap(this::scanForChangesIfContentChanged)
                       .onSuccess(changes -> {
                           if (!changes.isEmpty()) {
                               listeners.forEach(listener -> listener.databaseChanged(changes));
@@ -51,6 +64,43 @@ public class DatabaseChangeMonitor implements FileUpdateListener {
                       .executeWith(taskExecutor);
     }
 
+    private synchronized List<DatabaseChangeViewModel> scanForChangesIfContentChanged() {
+        Optional<Path> file = database.getDatabasePath();
+        if (file.isPresent()) {
+            try {
+                byte[] digest = computeDigest(file.get());
+                if (Arrays.equals(digest, lastScannedDigest)) {
+                    return Collections.emptyList();
+                }
+                lastScannedDigest = digest;
+            } catch (IOException e) {
+                LOGGER.debug("Could not compute digest of " + file.get(), e);
+                lastScannedDigest = null;
+            }
+        }
+
+        return new ChangeScanner(database).scanForChanges();
+    }
+
+    private static byte[] computeDigest(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            int length;
+            while ((length = inputStream.read(buffer)) > 0) {
+                digest.update(buffer, 0, length);
+            }
+        }
+        return digest.digest();
+    }
+
     public void addListener(DatabaseChangeListener listener) {
         listeners.add(listener);
     }
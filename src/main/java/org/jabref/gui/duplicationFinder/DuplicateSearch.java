@@ -26,6 +26,7 @@ import org.jabref.gui.undo.UndoableRemoveEntries;
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.logic.bibtex.DuplicateCheck;
+import org.jabref.logic.bibtex.DuplicateFinder;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
@@ -35,6 +36,11 @@ import static org.jabref.gui.actions.ActionHelper.needsDatabase;
 
 public class DuplicateSearch extends SimpleCommand {
 
+    /**
+     * The progress of the search is reported in steps of this many percent
+     */
+    private static final int PROGRESS_STEP = 25;
+
     private final JabRefFrame frame;
     private final BlockingQueue<List<BibEntry>> duplicates = new LinkedBlockingQueue<>();
 
@@ -75,21 +81,19 @@ public class DuplicateSearch extends SimpleCommand {
     }
 
     private void searchPossibleDuplicates(List<BibEntry> entries, BibDatabaseMode databaseMode) {
-        for (int i = 0; (i < (entries.size() - 1)); i++) {
-            for (int j = i + 1; (j < entries.size()); j++) {
-                if (Thread.interrupted()) {
-                    return;
-                }
-
-                BibEntry first = entries.get(i);
-                BibEntry second = entries.get(j);
-
-                if (new DuplicateCheck(Globals.entryTypesManager).isDuplicate(first, second, databaseMode)) {
+        AtomicInteger reportedPercentage = new AtomicInteger();
+        new DuplicateFinder(Globals.entryTypesManager).findDuplicates(entries, databaseMode,
+                (first, second) -> {
                     duplicates.add(Arrays.asList(first, second));
                     duplicateCount.getAndIncrement();
-                }
-            }
-        }
+                },
+                progress -> {
+                    int percentage = (int) (progress * 100) / PROGRESS_STEP * PROGRESS_STEP;
+                    if ((percentage > reportedPercentage.get()) && (percentage < 100)) {
+                        reportedPercentage.set(percentage);
+                        DefaultTaskExecutor.runInJavaFXThread(() -> dialogService.notify(Localization.lang("Searching for duplicates...") + " " + percentage + "%"));
+                    }
+                });
         libraryAnalyzed.set(true);
     }
 
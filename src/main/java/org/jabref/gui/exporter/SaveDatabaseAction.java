@@ -78,7 +78,7 @@ public class SaveDatabaseAction {
             if (selectedOnly) {
                 databaseWriter.savePartOfDatabase(panel.getBibDatabaseContext(), panel.getSelectedEntries());
             } else {
-                databaseWriter.saveDatabase(panel.getBibDatabaseContext());
+                databaseWriter.saveDatabase(panel.getBibDatabaseContext(), panel.getSaveState());
             }
 
             panel.registerUndoableChanges(databaseWriter.getSaveActionsFieldChanges());
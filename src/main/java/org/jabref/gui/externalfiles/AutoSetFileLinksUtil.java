@@ -15,6 +15,7 @@ import org.jabref.gui.undo.NamedCompound;
 import org.jabref.gui.undo.UndoableFieldChange;
 import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.logic.util.io.AutoLinkPreferences;
+import org.jabref.logic.util.io.FileDirectoryIndex;
 import org.jabref.logic.util.io.FileFinder;
 import org.jabref.logic.util.io.FileFinders;
 import org.jabref.logic.util.io.FileUtil;
@@ -36,6 +37,11 @@ public class AutoSetFileLinksUtil {
     private AutoLinkPreferences autoLinkPreferences;
     private ExternalFileTypes externalFileTypes;
 
+    /**
+     * Shared by the searches for all entries, so that the directories are walked only once
+     */
+    private FileDirectoryIndex fileDirectoryIndex;
+
     public AutoSetFileLinksUtil(BibDatabaseContext databaseContext, FilePreferences filePreferences, AutoLinkPreferences autoLinkPreferences, ExternalFileTypes externalFileTypes) {
         this(databaseContext.getFileDirectoriesAsPaths(filePreferences), autoLinkPreferences, externalFileTypes);
     }
@@ -44,6 +50,7 @@ public class AutoSetFileLinksUtil {
         this.directories = directories;
         this.autoLinkPreferences = autoLinkPreferences;
         this.externalFileTypes = externalFileTypes;
+        this.fileDirectoryIndex = new FileDirectoryIndex(directories);
     }
 
     public List<BibEntry> linkAssociatedFiles(List<BibEntry> entries, NamedCompound ce) {
@@ -85,7 +92,7 @@ public class AutoSetFileLinksUtil {
 
         // Run the search operation
         FileFinder fileFinder = FileFinders.constructFromConfiguration(autoLinkPreferences);
-        List<Path> result = fileFinder.findAssociatedFiles(entry, directories, extensions);
+        List<Path> result = fileFinder.findAssociatedFiles(entry, fileDirectoryIndex, extensions);
 
         // Collect the found files that are not yet linked
         for (Path foundFile : result) {
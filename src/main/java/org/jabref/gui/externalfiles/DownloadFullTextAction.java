@@ -3,9 +3,13 @@ package org.jabref.gui.externalfiles;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javafx.concurrent.Task;
 
@@ -72,13 +76,22 @@ public class DownloadFullTextAction extends SimpleCommand {
 
         Task<Map<BibEntry, Optional<URL>>> findFullTextsTask = new Task<Map<BibEntry, Optional<URL>>>() {
             @Override
-            protected Map<BibEntry, Optional<URL>> call() {
+            protected Map<BibEntry, Optional<URL>> call() throws ExecutionException {
                 Map<BibEntry, Optional<URL>> downloads = new ConcurrentHashMap<>();
-                int count = 0;
-                for (BibEntry entry : basePanel.getSelectedEntries()) {
-                    FulltextFetchers fetchers = new FulltextFetchers(Globals.prefs.getImportFormatPreferences());
-                    downloads.put(entry, fetchers.findFullTextPDF(entry));
-                    updateProgress(++count, basePanel.getSelectedEntries().size());
+                List<BibEntry> entries = basePanel.getSelectedEntries();
+                AtomicInteger count = new AtomicInteger();
+                FulltextFetchers fetchers = new FulltextFetchers(Globals.prefs.getImportFormatPreferences());
+                CompletableFuture<Void> search = fetchers.findFullTextPDFs(entries, (entry, url) -> {
+                    if (!isCancelled()) {
+                        downloads.put(entry, url);
+                        updateProgress(count.incrementAndGet(), entries.size());
+                    }
+                });
+                try {
+                    search.get();
+                } catch (InterruptedException e) {
+                    // the task has been cancelled, thus the requests which are still running or waiting are dropped
+                    search.cancel(true);
                 }
                 return downloads;
             }
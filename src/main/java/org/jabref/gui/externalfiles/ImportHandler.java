@@ -1,11 +1,17 @@
 package org.jabref.gui.externalfiles;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
-import javax.swing.undo.CompoundEdit;
 import javax.swing.undo.UndoManager;
 
 import org.jabref.Globals;
@@ -28,8 +34,13 @@ import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.metadata.FilePreferences;
 import org.jabref.model.util.FileUpdateMonitor;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 public class ImportHandler {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImportHandler.class);
+
     private final BibDatabaseContext database;
     private final UpdateFieldPreferences updateFieldPreferences;
     private final DialogService dialogService;
@@ -56,7 +67,7 @@ public class ImportHandler {
         this.stateManager = stateManager;
 
         this.linker = new ExternalFilesEntryLinker(externalFileTypes, filePreferences, database);
-        this.contentImporter = new ExternalFilesContentImporter(importFormatPreferences);
+        this.contentImporter = new ExternalFilesContentImporter(importFormatPreferences, Globals.PDF_CONTENT_CACHE);
         this.undoManager = undoManager;
     }
 
@@ -64,40 +75,75 @@ public class ImportHandler {
         return linker;
     }
 
+    /**
+     * Imports the given files as new entries. The files are read concurrently, but the entries of all files are
+     * inserted at once, in the order of the files, and can be undone in one step.
+     */
     public void importAsNewEntries(List<Path> files) {
-        CompoundEdit ce = new CompoundEdit();
-        for (Path file : files) {
-            List<BibEntry> entriesToAdd;
-            if (FileUtil.getFileExtension(file).filter("pdf"::equals).isPresent()) {
-                List<BibEntry> pdfResult = contentImporter.importPDFContent(file);
-                List<BibEntry> xmpEntriesInFile = contentImporter.importXMPContent(file);
-
-                // First try xmp import, if empty try pdf import, otherwise create empty entry
-                if (!xmpEntriesInFile.isEmpty()) {
-                    if (!pdfResult.isEmpty()) {
-                        //FIXME: Show merge dialog?
-                        entriesToAdd = xmpEntriesInFile;
-                    } else {
-                        entriesToAdd = xmpEntriesInFile;
-                    }
-                } else {
-                    if (!pdfResult.isEmpty()) {
-                        entriesToAdd = pdfResult;
-                    } else {
-                        entriesToAdd = Collections.singletonList(createEmptyEntryWithLink(file));
-                    }
+        List<BibEntry> entriesToAdd = new ArrayList<>(files.size());
+        for (List<BibEntry> entriesOfFile : readEntriesOfFiles(files)) {
+            entriesToAdd.addAll(entriesOfFile);
+        }
+        if (entriesToAdd.isEmpty()) {
+            return;
+        }
+
+        importEntries(entriesToAdd);
+        undoManager.addEdit(new UndoableInsertEntries(database.getDatabase(), entriesToAdd));
+    }
+
+    /**
+     * Reads the entries of the given files on a pool of at most one thread per processor, since reading a PDF file
+     * mostly keeps the processor busy.
+     *
+     * @return the entries of the files read, in the order of the files
+     */
+    private List<List<BibEntry>> readEntriesOfFiles(List<Path> files) {
+        if (files.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int threads = Math.min(files.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<List<BibEntry>>> tasks = files.stream()
+                                                        .map(file -> (Callable<List<BibEntry>>) () -> readEntriesOfFile(file))
+                                                        .collect(Collectors.toList());
+            List<Future<List<BibEntry>>> futures = executor.invokeAll(tasks);
+            List<List<BibEntry>> entriesOfFiles = new ArrayList<>(files.size());
+            for (int i = 0; i < files.size(); i++) {
+                try {
+                    entriesOfFiles.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    // the file is still linked to an entry, as if nothing could be read from it
+                    LOGGER.error("Could not import file {}", files.get(i), e.getCause());
+                    entriesOfFiles.add(Collections.singletonList(createEmptyEntryWithLink(files.get(i))));
                 }
-            } else if (FileUtil.isBibFile(file)) {
-                entriesToAdd = contentImporter.importFromBibFile(file, fileUpdateMonitor);
-            } else {
-                entriesToAdd = Collections.singletonList(createEmptyEntryWithLink(file));
             }
+            return entriesOfFiles;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Collections.emptyList();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<BibEntry> readEntriesOfFile(Path file) {
+        List<BibEntry> entries;
+        if (FileUtil.getFileExtension(file).filter("pdf"::equals).isPresent()) {
+            // XMP metadata is preferred to the contents of the first page
+            entries = contentImporter.importPDF(file);
+        } else if (FileUtil.isBibFile(file)) {
+            return contentImporter.importFromBibFile(file, fileUpdateMonitor);
+        } else {
+            entries = Collections.emptyList();
+        }
 
-            importEntries(entriesToAdd);
-            ce.addEdit(new UndoableInsertEntries(database.getDatabase(), entriesToAdd));
+        if (entries.isEmpty()) {
+            return Collections.singletonList(createEmptyEntryWithLink(file));
         }
-        ce.end();
-        undoManager.addEdit(ce);
+        return entries;
     }
 
     private BibEntry createEmptyEntryWithLink(Path file) {
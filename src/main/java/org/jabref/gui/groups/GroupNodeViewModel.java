@@ -225,11 +225,9 @@ public class GroupNodeViewModel {
     }
 
     private void calculateNumberOfMatches() {
-        // We calculate the new hit value
-        // We could be more intelligent and try to figure out the new number of hits based on the entry change
-        // for example, a previously matched entry gets removed -> hits = hits - 1
+        // The index only checks the changed entries against the groups, thus counting the hits is cheap
         BackgroundTask
-                .wrap(() -> groupNode.calculateNumberOfMatches(databaseContext.getDatabase()))
+                .wrap(() -> databaseContext.getGroupMembershipIndex().getNumberOfMatches(groupNode))
                 .onSuccess(hits::setValue)
                 .executeWith(taskExecutor);
     }
@@ -6,6 +6,8 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javafx.scene.control.CheckBoxTreeItem;
 
@@ -14,6 +16,7 @@ import org.jabref.gui.util.BackgroundTask;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.util.FileDirectoryCache;
 
 /**
  * Util class for searching files on the file system which are not linked to a provided {@link BibDatabase}.
@@ -59,24 +62,37 @@ public class UnlinkedFilesCrawler extends BackgroundTask<CheckBoxTreeItem<FileNo
             return null;
         }
 
-        File[] filesArray = directory.listFiles(ff);
         List<File> files;
-        if (filesArray == null) {
-            files = Collections.emptyList();
+        List<File> subDirectories;
+        Optional<FileDirectoryCache> fileDirectoryCache = databaseContext.getFileDirectoryCache();
+        if (fileDirectoryCache.isPresent()) {
+            // the listings of watched directories are cached
+            files = fileDirectoryCache.get().getFiles(directory.toPath()).stream()
+                                      .map(Path::toFile)
+                                      .filter(ff::accept)
+                                      .collect(Collectors.toList());
+            subDirectories = fileDirectoryCache.get().getSubDirectories(directory.toPath()).stream()
+                                               .map(Path::toFile)
+                                               .collect(Collectors.toList());
         } else {
-            files = Arrays.asList(filesArray);
+            File[] filesArray = directory.listFiles(ff);
+            if (filesArray == null) {
+                files = Collections.emptyList();
+            } else {
+                files = Arrays.asList(filesArray);
+            }
+
+            filesArray = directory.listFiles(pathname -> (pathname != null) && pathname.isDirectory());
+            if (filesArray == null) {
+                subDirectories = Collections.emptyList();
+            } else {
+                subDirectories = Arrays.asList(filesArray);
+            }
         }
         CheckBoxTreeItem<FileNodeWrapper> root = new CheckBoxTreeItem<>(new FileNodeWrapper(directory.toPath(), 0));
 
         int filesCount = 0;
 
-        filesArray = directory.listFiles(pathname -> (pathname != null) && pathname.isDirectory());
-        List<File> subDirectories;
-        if (filesArray == null) {
-            subDirectories = Collections.emptyList();
-        } else {
-            subDirectories = Arrays.asList(filesArray);
-        }
         for (File subDirectory : subDirectories) {
             if (isCanceled()) {
                 return root;
@@ -3,7 +3,6 @@ package org.jabref.gui.integrity;
 import java.util.ArrayList;
 import java.util.List;
 
-import javafx.collections.ObservableList;
 import javafx.concurrent.Task;
 
 import org.jabref.Globals;
@@ -17,7 +16,6 @@ import org.jabref.logic.integrity.IntegrityCheck;
 import org.jabref.logic.integrity.IntegrityMessage;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.entry.BibEntry;
 import org.jabref.preferences.JabRefPreferences;
 
 import static org.jabref.gui.actions.ActionHelper.needsDatabase;
@@ -53,16 +51,8 @@ public class IntegrityCheckAction extends SimpleCommand {
             protected List<IntegrityMessage> call() {
                 List<IntegrityMessage> result = new ArrayList<>();
 
-                ObservableList<BibEntry> entries = database.getDatabase().getEntries();
-                for (int i = 0; i < entries.size(); i++) {
-                    if (isCancelled()) {
-                        break;
-                    }
-
-                    BibEntry entry = entries.get(i);
-                    result.addAll(check.checkEntry(entry));
-                    updateProgress(i, entries.size());
-                }
+                // the messages arrive chunk by chunk, the check stops as soon as the task is cancelled
+                check.checkEntries(database.getDatabase().getEntries(), result::addAll, progress -> updateProgress(progress, 1));
 
                 return result;
             }
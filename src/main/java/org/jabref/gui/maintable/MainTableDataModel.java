@@ -2,6 +2,7 @@ package org.jabref.gui.maintable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.IntegerProperty;
@@ -15,23 +16,28 @@ import org.jabref.gui.groups.GroupViewMode;
 import org.jabref.gui.util.BindingsHelper;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.groups.GroupTreeNode;
-import org.jabref.model.search.matchers.MatcherSet;
-import org.jabref.model.search.matchers.MatcherSets;
+import org.jabref.model.search.SearchMatcher;
 
 public class MainTableDataModel {
     private final FilteredList<BibEntryTableViewModel> entriesFiltered;
     private final SortedList<BibEntryTableViewModel> entriesSorted;
     private final GroupViewMode groupViewMode;
+    private final BibDatabaseContext context;
 
     public MainTableDataModel(BibDatabaseContext context) {
+        this.context = context;
+        // the indexes have to be created before the filtered list, so that they are updated before the list filters a changed entry
+        context.getSearchIndex();
+        context.getGroupMembershipIndex();
         ObservableList<BibEntry> allEntries = BindingsHelper.forUI(context.getDatabase().getEntries());
 
         ObservableList<BibEntryTableViewModel> entriesViewModel = BindingsHelper.mapBacked(allEntries, BibEntryTableViewModel::new);
 
         entriesFiltered = new FilteredList<>(entriesViewModel);
         entriesFiltered.predicateProperty().bind(
-                Bindings.createObjectBinding(() -> this::isMatched,
+                Bindings.createObjectBinding(this::createMatcher,
                         Globals.stateManager.activeGroupProperty(), Globals.stateManager.activeSearchQueryProperty())
 
         );
@@ -44,34 +50,31 @@ public class MainTableDataModel {
         groupViewMode = Globals.prefs.getGroupViewMode();
     }
 
-    private boolean isMatched(BibEntryTableViewModel entry) {
-        return isMatchedByGroup(entry) && isMatchedBySearch(entry);
+    private Predicate<BibEntryTableViewModel> createMatcher() {
+        // the candidates of the search are determined once per search using the index
+        Optional<SearchMatcher> searchMatcher = Globals.stateManager.activeSearchQueryProperty().getValue()
+                .map(query -> query.getIndexedMatcher(context.getSearchIndex()));
+        return entry -> isMatchedByGroup(entry) && isMatchedBySearch(searchMatcher, entry);
     }
 
-    private boolean isMatchedBySearch(BibEntryTableViewModel entry) {
-        return Globals.stateManager.activeSearchQueryProperty().getValue()
-                .map(matcher -> matcher.isMatch(entry.getEntry()))
-                .orElse(true);
+    private boolean isMatchedBySearch(Optional<SearchMatcher> searchMatcher, BibEntryTableViewModel entry) {
+        return searchMatcher.map(matcher -> matcher.isMatch(entry.getEntry()))
+                            .orElse(true);
     }
 
     private boolean isMatchedByGroup(BibEntryTableViewModel entry) {
-        return createGroupMatcher(Globals.stateManager.activeGroupProperty().getValue())
-                .map(matcher -> matcher.isMatch(entry.getEntry()))
-                .orElse(true);
-    }
-
-    private Optional<MatcherSet> createGroupMatcher(List<GroupTreeNode> selectedGroups) {
+        List<GroupTreeNode> selectedGroups = Globals.stateManager.activeGroupProperty().getValue();
         if ((selectedGroups == null) || selectedGroups.isEmpty()) {
             // No selected group, show all entries
-            return Optional.empty();
+            return true;
         }
 
-        final MatcherSet searchRules = MatcherSets.build(groupViewMode == GroupViewMode.INTERSECTION ? MatcherSets.MatcherType.AND : MatcherSets.MatcherType.OR);
-
-        for (GroupTreeNode node : selectedGroups) {
-            searchRules.addRule(node.getSearchMatcher());
+        GroupMembershipIndex index = context.getGroupMembershipIndex();
+        if (groupViewMode == GroupViewMode.INTERSECTION) {
+            return selectedGroups.stream().allMatch(node -> index.matches(node, entry.getEntry()));
+        } else {
+            return selectedGroups.stream().anyMatch(node -> index.matches(node, entry.getEntry()));
         }
-        return Optional.of(searchRules);
     }
 
     public SortedList<BibEntryTableViewModel> getEntriesFilteredAndSorted() {
@@ -24,7 +24,6 @@ import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.gui.util.ThemeLoader;
 import org.jabref.logic.citationstyle.PreviewLayout;
-import org.jabref.logic.exporter.ExporterFactory;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.model.database.BibDatabaseContext;
@@ -178,8 +177,6 @@ public class PreviewViewer extends ScrollPane implements InvalidationListener {
             return;
         }
 
-        ExporterFactory.entryNumber = 1; // Set entry number in case that is included in the preview layout.
-
         BackgroundTask
                       .wrap(() -> layout.generatePreview(entry.get(), database.getDatabase()))
                       .onRunning(() -> setPreviewText("<i>" + Localization.lang("Processing %0", Localization.lang("Citation Style")) + ": " + layout.getName() + " ..." + "</i>"))
@@ -7,6 +7,8 @@ import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import org.jabref.model.util.FileUpdateListener;
@@ -14,6 +16,7 @@ import org.jabref.model.util.FileUpdateMonitor;
 
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.Multimaps;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,7 +31,8 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultFileUpdateMonitor.class);
 
     private final Multimap<Path, FileUpdateListener> listeners = ArrayListMultimap.create(20, 4);
-    private WatchService watcher;
+    private final Multimap<Path, FileUpdateListener> directoryListeners = Multimaps.synchronizedMultimap(ArrayListMultimap.create());
+    private volatile WatchService watcher;
 
     @Override
     public void run() {
@@ -42,25 +46,35 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
                     return;
                 }
 
+                Path directory = (Path) key.watchable();
+                boolean directoryChanged = false;
                 for (WatchEvent<?> event : key.pollEvents()) {
                     WatchEvent.Kind<?> kind = event.kind();
+                    // also lost events (OVERFLOW) may have changed the directory
+                    directoryChanged = true;
 
                     if (kind == StandardWatchEventKinds.OVERFLOW) {
                         Thread.yield();
                         continue;
                     } else if (kind == StandardWatchEventKinds.ENTRY_MODIFY) {
-                        // We only handle "ENTRY_MODIFY" here, so the context is always a Path
+                        // The context of ENTRY_CREATE, ENTRY_DELETE and ENTRY_MODIFY events is always a Path
                         @SuppressWarnings("unchecked")
                         WatchEvent<Path> ev = (WatchEvent<Path>) event;
-                        Path path = ((Path) key.watchable()).resolve(ev.context());
+                        Path path = directory.resolve(ev.context());
                         notifyAboutChange(path);
                     }
-                    key.reset();
+                }
+                // reset the key after all events, otherwise a key having only lost events is never signalled again
+                key.reset();
+                if (directoryChanged) {
+                    notifyAboutDirectoryChange(directory);
                 }
                 Thread.yield();
             }
         } catch (Throwable e) {
             LOGGER.error("FileUpdateMonitor has been interrupted.", e);
+        } finally {
+            watcher = null;
         }
     }
 
@@ -68,18 +82,48 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
         listeners.get(path).forEach(FileUpdateListener::fileUpdated);
     }
 
+    private void notifyAboutDirectoryChange(Path directory) {
+        List<FileUpdateListener> listenersOfDirectory;
+        synchronized (directoryListeners) {
+            listenersOfDirectory = new ArrayList<>(directoryListeners.get(directory));
+        }
+        listenersOfDirectory.forEach(FileUpdateListener::fileUpdated);
+    }
+
     @Override
     public void addListenerForFile(Path file, FileUpdateListener listener) throws IOException {
         Objects.requireNonNull(watcher, "You need to start the file monitor before watching files");
 
         // We can't watch files directly, so monitor their parent directory for updates
         Path directory = file.toAbsolutePath().getParent();
-        directory.register(watcher, StandardWatchEventKinds.ENTRY_MODIFY);
+        register(directory);
         listeners.put(file, listener);
     }
 
+    @Override
+    public void addListenerForDirectory(Path directory, FileUpdateListener listener) throws IOException {
+        Objects.requireNonNull(watcher, "You need to start the file monitor before watching files");
+
+        Path absoluteDirectory = directory.toAbsolutePath();
+        register(absoluteDirectory);
+        directoryListeners.put(absoluteDirectory, listener);
+    }
+
+    /**
+     * Registers the directory for all kinds of events, as registering it again replaces the kinds registered before
+     */
+    private void register(Path directory) throws IOException {
+        directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+    }
+
     @Override
     public void removeListener(Path path, FileUpdateListener listener) {
         listeners.remove(path, listener);
+        directoryListeners.remove(path.toAbsolutePath(), listener);
+    }
+
+    @Override
+    public boolean isActive() {
+        return watcher != null;
     }
 }
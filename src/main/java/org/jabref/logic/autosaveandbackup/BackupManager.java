@@ -14,6 +14,7 @@ import java.util.concurrent.ExecutorService;
 import org.jabref.logic.bibtex.InvalidFieldValueException;
 import org.jabref.logic.exporter.AtomicFileWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
+import org.jabref.logic.exporter.IncrementalSaveState;
 import org.jabref.logic.exporter.SavePreferences;
 import org.jabref.logic.util.DelayTaskThrottler;
 import org.jabref.logic.util.io.FileUtil;
@@ -32,6 +33,9 @@ import org.slf4j.LoggerFactory;
  * An intelligent {@link ExecutorService} with a {@link BlockingQueue} prevents a high load while making backups and
  * rejects all redundant backup tasks.
  * This class does not manage the .bak file which is created when opening a database.
+ * <p>
+ * The backups are written incrementally like the saves of the library, but remember their previous backup on their
+ * own: the changes since the previous save of the library and since the previous backup differ.
  */
 public class BackupManager {
 
@@ -46,12 +50,14 @@ public class BackupManager {
     private final DelayTaskThrottler throttler;
     private final CoarseChangeFilter changeFilter;
     private final BibEntryTypesManager entryTypesManager;
+    private final IncrementalSaveState saveState;
 
     private BackupManager(BibDatabaseContext bibDatabaseContext, BibEntryTypesManager entryTypesManager, JabRefPreferences preferences) {
         this.bibDatabaseContext = bibDatabaseContext;
         this.entryTypesManager = entryTypesManager;
         this.preferences = preferences;
         this.throttler = new DelayTaskThrottler(15000);
+        this.saveState = new IncrementalSaveState(bibDatabaseContext);
 
         changeFilter = new CoarseChangeFilter(bibDatabaseContext);
         changeFilter.registerListener(this);
@@ -119,7 +125,7 @@ public class BackupManager {
             SavePreferences savePreferences = preferences.loadForSaveFromPreferences().withEncoding
                     (charset).withMakeBackup(false);
             new BibtexDatabaseWriter(new AtomicFileWriter(backupPath, savePreferences.getEncoding()), savePreferences, entryTypesManager)
-                    .saveDatabase(bibDatabaseContext);
+                    .saveDatabase(bibDatabaseContext, saveState);
         } catch (IOException e) {
             logIfCritical(backupPath, e);
         }
@@ -155,6 +161,7 @@ public class BackupManager {
         changeFilter.unregisterListener(this);
         changeFilter.shutdown();
         throttler.shutdown();
+        saveState.shutdown();
         determineBackupPath().ifPresent(this::deleteBackupFile);
     }
 
@@ -0,0 +1,249 @@
+package org.jabref.logic.bibtex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.BiConsumer;
+import java.util.function.DoubleConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.StandardField;
+
+/**
+ * Finds the pairs of duplicate entries of a list of entries without checking every pair.
+ * <p>
+ * First, each entry is assigned blocking keys: its normalized identifiers (DOI, eprint, ...), the
+ * <a href="https://en.wikipedia.org/wiki/Locality-sensitive_hashing">LSH</a> bands of the MinHash signature of its
+ * title and the last name of its first author together with its year. Only pairs of entries sharing a key are checked
+ * by {@link DuplicateCheck}. Thus, the search is approximate: duplicates having neither similar titles nor the same
+ * first author and year nor the same identifier are not found.
+ */
+public class DuplicateFinder {
+
+    /**
+     * Keys shared by more entries do not identify a publication (e.g., a title "Introduction") and are ignored
+     */
+    private static final int MAXIMUM_BLOCK_SIZE = 200;
+
+    private static final int SHINGLE_LENGTH = 3;
+
+    /**
+     * A pair of titles with a shingle similarity of 0.7 shares a band with a probability of 97.5%, whereas a pair with
+     * a similarity of 0.2 only does with a probability of 0.6%.
+     */
+    private static final int BANDS = 20;
+    private static final int ROWS_PER_BAND = 5;
+
+    private static final long[] HASH_SEEDS = new Random(4711).longs(BANDS * ROWS_PER_BAND).toArray();
+
+    private static final int PAIRS_PER_CHUNK = 4096;
+
+    private final DuplicateCheck duplicateCheck;
+
+    public DuplicateFinder(BibEntryTypesManager entryTypesManager) {
+        this.duplicateCheck = new DuplicateCheck(entryTypesManager);
+    }
+
+    /**
+     * Checks the candidate pairs of the given entries in parallel and passes the duplicates to the given consumer in
+     * the order of the entries. The search stops if the calling thread is interrupted.
+     *
+     * @param duplicateConsumer receives each pair of duplicates, the first entry precedes the second one in the list
+     * @param progressListener  receives the fraction of the checked pairs
+     */
+    public void findDuplicates(List<BibEntry> entries, BibDatabaseMode databaseMode,
+                               BiConsumer<BibEntry, BibEntry> duplicateConsumer, DoubleConsumer progressListener) {
+        long[] pairs = getCandidatePairs(entries);
+        progressListener.accept(0);
+
+        for (int chunkStart = 0; chunkStart < pairs.length; chunkStart += PAIRS_PER_CHUNK) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+
+            List<Long> duplicates = Arrays.stream(pairs, chunkStart, Math.min(chunkStart + PAIRS_PER_CHUNK, pairs.length))
+                                          .parallel()
+                                          .filter(pair -> duplicateCheck.isDuplicate(entries.get(getFirst(pair)), entries.get(getSecond(pair)), databaseMode))
+                                          .boxed()
+                                          .collect(Collectors.toList());
+            for (long pair : duplicates) {
+                duplicateConsumer.accept(entries.get(getFirst(pair)), entries.get(getSecond(pair)));
+            }
+            progressListener.accept((double) Math.min(chunkStart + PAIRS_PER_CHUNK, pairs.length) / pairs.length);
+        }
+    }
+
+    /**
+     * Returns the sorted pairs of indices of the entries sharing a blocking key. Each pair is encoded as a long, the
+     * upper half is the smaller index.
+     */
+    static long[] getCandidatePairs(List<BibEntry> entries) {
+        List<List<String>> keysOfEntries = IntStream.range(0, entries.size())
+                                                    .parallel()
+                                                    .mapToObj(i -> getBlockingKeys(entries.get(i)))
+                                                    .collect(Collectors.toList());
+
+        Map<String, List<Integer>> blocks = new HashMap<>();
+        for (int i = 0; i < keysOfEntries.size(); i++) {
+            for (String key : keysOfEntries.get(i)) {
+                List<Integer> block = blocks.computeIfAbsent(key, k -> new ArrayList<>(2));
+                // an entry may have the same key twice, e.g., the same band hash of two different bands
+                if (block.isEmpty() || (block.get(block.size() - 1) != i)) {
+                    block.add(i);
+                }
+            }
+        }
+
+        long[] pairs = new long[16];
+        int pairCount = 0;
+        for (Map.Entry<String, List<Integer>> block : blocks.entrySet()) {
+            List<Integer> indices = block.getValue();
+            if ((indices.size() < 2) || ((indices.size() > MAXIMUM_BLOCK_SIZE) && !isIdentifierKey(block.getKey()))) {
+                continue;
+            }
+            for (int i = 0; i < (indices.size() - 1); i++) {
+                for (int j = i + 1; j < indices.size(); j++) {
+                    if (pairCount == pairs.length) {
+                        pairs = Arrays.copyOf(pairs, pairCount * 2);
+                    }
+                    // indices were added in ascending order
+                    pairs[pairCount++] = ((long) indices.get(i) << 32) | indices.get(j);
+                }
+            }
+        }
+
+        Arrays.parallelSort(pairs, 0, pairCount);
+        return removeDuplicates(pairs, pairCount);
+    }
+
+    private static long[] removeDuplicates(long[] sortedPairs, int pairCount) {
+        int uniqueCount = 0;
+        for (int i = 0; i < pairCount; i++) {
+            if ((uniqueCount == 0) || (sortedPairs[uniqueCount - 1] != sortedPairs[i])) {
+                sortedPairs[uniqueCount++] = sortedPairs[i];
+            }
+        }
+        return Arrays.copyOf(sortedPairs, uniqueCount);
+    }
+
+    private static int getFirst(long pair) {
+        return (int) (pair >>> 32);
+    }
+
+    private static int getSecond(long pair) {
+        return (int) pair;
+    }
+
+    private static boolean isIdentifierKey(String key) {
+        return key.startsWith("id#");
+    }
+
+    private static List<String> getBlockingKeys(BibEntry entry) {
+        List<String> keys = new ArrayList<>();
+
+        // DuplicateCheck regards entries with the same identifier as duplicates regardless of their type
+        for (Field field : FieldFactory.getIdentifierFieldNames()) {
+            entry.getField(field)
+                 .map(value -> normalizeIdentifier(field, value))
+                 .filter(value -> !value.isEmpty())
+                 .ifPresent(value -> keys.add("id#" + field.getName() + '#' + value));
+        }
+
+        // otherwise, duplicates are of the same type
+        String type = entry.getType().getName();
+
+        entry.getLatexFreeField(StandardField.TITLE)
+             .map(DuplicateFinder::normalize)
+             .filter(title -> title.length() >= SHINGLE_LENGTH)
+             .ifPresent(title -> {
+                 long[] signature = getMinHashSignature(title);
+                 for (int band = 0; band < BANDS; band++) {
+                     long bandHash = band;
+                     for (int row = 0; row < ROWS_PER_BAND; row++) {
+                         bandHash = (bandHash * 31) + signature[(band * ROWS_PER_BAND) + row];
+                     }
+                     keys.add("title#" + type + '#' + Long.toHexString(bandHash));
+                 }
+             });
+
+        Optional<String> firstAuthor = entry.getLatexFreeField(StandardField.AUTHOR)
+                                            .or(() -> entry.getLatexFreeField(StandardField.EDITOR))
+                                            .map(AuthorList::parse)
+                                            .filter(authors -> !authors.isEmpty())
+                                            .flatMap(authors -> authors.getAuthors().get(0).getLast())
+                                            .map(DuplicateFinder::normalize);
+        String year = entry.getFieldOrAlias(StandardField.YEAR).orElse("");
+        firstAuthor.ifPresent(author -> keys.add("author#" + type + '#' + author + '#' + year));
+
+        return keys;
+    }
+
+    private static String normalizeIdentifier(Field field, String value) {
+        String identifier = value.trim().toLowerCase(Locale.ROOT);
+        if (StandardField.DOI.equals(field)) {
+            identifier = identifier.replaceFirst("^(https?://(dx\\.)?doi\\.org/|doi:)", "");
+        }
+        return identifier;
+    }
+
+    /**
+     * Lower-cases the given text and replaces each run of other characters than letters and digits by a single space
+     */
+    private static String normalize(String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        boolean separator = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (separator && (result.length() > 0)) {
+                    result.append(' ');
+                }
+                result.append(Character.toLowerCase(c));
+                separator = false;
+            } else {
+                separator = true;
+            }
+        }
+        return result.toString();
+    }
+
+    private static long[] getMinHashSignature(String text) {
+        long[] signature = new long[HASH_SEEDS.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (int i = 0; i <= (text.length() - SHINGLE_LENGTH); i++) {
+            long shingle = 0;
+            for (int j = 0; j < SHINGLE_LENGTH; j++) {
+                shingle = (shingle << 16) | text.charAt(i + j);
+            }
+            for (int k = 0; k < HASH_SEEDS.length; k++) {
+                signature[k] = Math.min(signature[k], mix(shingle ^ HASH_SEEDS[k]));
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * The finalizer of MurmurHash3, which spreads the bits of the given value over the whole result
+     */
+    private static long mix(long value) {
+        long hash = value;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb93fe53a87e5L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -1,16 +1,18 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 
 import org.jabref.logic.bibtex.DuplicateCheck;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
-import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.Field;
 
 public class BibDatabaseDiff {
 
@@ -25,95 +27,77 @@ public class BibDatabaseDiff {
         preambleDiff = PreambleDiff.compare(originalDatabase, newDatabase);
         bibStringDiffs = BibStringDiff.compare(originalDatabase.getDatabase(), newDatabase.getDatabase());
 
-        // Sort both databases according to a common sort key.
-        EntryComparator comparator = getEntryComparator();
-        List<BibEntry> originalEntriesSorted = originalDatabase.getDatabase().getEntriesSorted(comparator);
-        List<BibEntry> newEntriesSorted = newDatabase.getDatabase().getEntriesSorted(comparator);
-
-        entryDiffs = compareEntries(originalEntriesSorted, newEntriesSorted);
-    }
-
-    private static EntryComparator getEntryComparator() {
-        EntryComparator comparator = new EntryComparator(false, true, StandardField.TITLE);
-        comparator = new EntryComparator(false, true, StandardField.AUTHOR, comparator);
-        comparator = new EntryComparator(false, true, StandardField.YEAR, comparator);
-        return comparator;
+        // The entries are matched by their content and key, thus their order does not matter
+        entryDiffs = compareEntries(originalDatabase.getDatabase().getEntries(), newDatabase.getDatabase().getEntries());
     }
 
     private static List<BibEntryDiff> compareEntries(List<BibEntry> originalEntries, List<BibEntry> newEntries) {
         List<BibEntryDiff> differences = new ArrayList<>();
 
-        // Create pointers that are incremented as the entries of each base are used in
-        // successive order from the beginning. Entries "further down" in the new database
-        // can also be matched.
-        int positionNew = 0;
-
-        // Create a HashSet where we can put references to entries in the new
-        // database that we have matched. This is to avoid matching them twice.
-        Set<Integer> used = new HashSet<>(newEntries.size());
-        Set<BibEntry> notMatched = new HashSet<>(originalEntries.size());
+        // Mark the entries of the new database that we have matched. This is to avoid matching them twice.
+        boolean[] used = new boolean[newEntries.size()];
 
-        // Loop through the entries of the original database, looking for exact matches in the new one.
+        // Look for exact matches first. Two entries match exactly if all their fields are equal, thus an index of the
+        // new entries by their fields finds them in linear time.
         // We must finish scanning for exact matches before looking for near matches, to avoid an exact
         // match being "stolen" from another entry.
-        mainLoop:
+        Map<Map<Field, String>, Deque<Integer>> newEntriesByFields = new HashMap<>(newEntries.size() * 2);
+        for (int i = 0; i < newEntries.size(); i++) {
+            newEntriesByFields.computeIfAbsent(newEntries.get(i).getFieldMap(), fields -> new ArrayDeque<>(1)).add(i);
+        }
+        List<BibEntry> notMatched = new ArrayList<>();
         for (BibEntry originalEntry : originalEntries) {
-            // First check if the similarly placed entry in the other base matches exactly.
-            if (!used.contains(positionNew) && (positionNew < newEntries.size())) {
-                double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(positionNew));
-                if (score > 1) {
-                    used.add(positionNew);
-                    positionNew++;
-                    continue;
-                }
-            }
-            // No? Then check if another entry matches exactly.
-            for (int i = positionNew + 1; i < newEntries.size(); i++) {
-                if (!used.contains(i)) {
-                    double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                    if (score > 1) {
-                        used.add(i);
-                        continue mainLoop;
-                    }
-                }
+            Deque<Integer> exactMatches = newEntriesByFields.get(originalEntry.getFieldMap());
+            if ((exactMatches != null) && !exactMatches.isEmpty()) {
+                used[exactMatches.poll()] = true;
+            } else {
+                notMatched.add(originalEntry);
             }
-
-            // No? Add this entry to the list of non-matched entries.
-            notMatched.add(originalEntry);
         }
 
-        // Now we've found all exact matches, look through the remaining entries, looking for close matches.
-        for (Iterator<BibEntry> iteratorNotMatched = notMatched.iterator(); iteratorNotMatched.hasNext(); ) {
-            BibEntry originalEntry = iteratorNotMatched.next();
-
-            // These two variables will keep track of which entry most closely matches the one we're looking at.
-            double bestMatch = 0;
-            int bestMatchIndex = -1;
-            if (positionNew < (newEntries.size() - 1)) {
-                for (int i = positionNew; i < newEntries.size(); i++) {
-                    if (!used.contains(i)) {
-                        double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                        if (score > bestMatch) {
-                            bestMatch = score;
-                            bestMatchIndex = i;
-                        }
-                    }
-                }
+        // Changed entries usually keep their key, thus look for close matches among the entries with the same key.
+        Map<String, List<Integer>> unusedNewEntriesByKey = new HashMap<>();
+        for (int i = 0; i < newEntries.size(); i++) {
+            if (!used[i]) {
+                int index = i;
+                newEntries.get(i).getCiteKeyOptional().ifPresent(key ->
+                        unusedNewEntriesByKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(index));
             }
+        }
+        List<BibEntry> notMatchedByKey = new ArrayList<>();
+        for (BibEntry originalEntry : notMatched) {
+            List<Integer> candidates = originalEntry.getCiteKeyOptional()
+                                                    .map(unusedNewEntriesByKey::get)
+                                                    .orElse(Collections.emptyList());
+            int bestMatchIndex = findBestMatch(originalEntry, newEntries, candidates, used);
+            if (bestMatchIndex >= 0) {
+                used[bestMatchIndex] = true;
+                differences.add(new BibEntryDiff(originalEntry, newEntries.get(bestMatchIndex)));
+            } else {
+                notMatchedByKey.add(originalEntry);
+            }
+        }
 
-            if (bestMatch > MATCH_THRESHOLD) {
-                used.add(bestMatchIndex);
-                iteratorNotMatched.remove();
-
+        // Now look through the small remainder of entries, looking for close matches.
+        List<Integer> unusedNewEntries = new ArrayList<>();
+        for (int i = 0; i < newEntries.size(); i++) {
+            if (!used[i]) {
+                unusedNewEntries.add(i);
+            }
+        }
+        for (BibEntry originalEntry : notMatchedByKey) {
+            int bestMatchIndex = findBestMatch(originalEntry, newEntries, unusedNewEntries, used);
+            if (bestMatchIndex >= 0) {
+                used[bestMatchIndex] = true;
                 differences.add(new BibEntryDiff(originalEntry, newEntries.get(bestMatchIndex)));
             } else {
                 differences.add(new BibEntryDiff(originalEntry, null));
             }
         }
-        
+
         // Finally, look if there are still untouched entries in the new database. These may have been added.
         for (int i = 0; i < newEntries.size(); i++) {
-            if (!used.contains(i)) {
+            if (!used[i]) {
                 differences.add(new BibEntryDiff(null, newEntries.get(i)));
             }
         }
@@ -121,6 +105,25 @@ public class BibDatabaseDiff {
         return differences;
     }
 
+    /**
+     * Returns the index of the unused candidate which most closely matches the given entry, or -1 if none matches
+     * closely enough.
+     */
+    private static int findBestMatch(BibEntry originalEntry, List<BibEntry> newEntries, List<Integer> candidates, boolean[] used) {
+        double bestMatch = 0;
+        int bestMatchIndex = -1;
+        for (int candidate : candidates) {
+            if (!used[candidate]) {
+                double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(candidate));
+                if (score > bestMatch) {
+                    bestMatch = score;
+                    bestMatchIndex = candidate;
+                }
+            }
+        }
+        return bestMatch > MATCH_THRESHOLD ? bestMatchIndex : -1;
+    }
+
     public static BibDatabaseDiff compare(BibDatabaseContext base, BibDatabaseContext changed) {
         return new BibDatabaseDiff(base, changed);
     }
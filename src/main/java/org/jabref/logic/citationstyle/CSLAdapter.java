@@ -3,77 +3,91 @@ package org.jabref.logic.citationstyle;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
-import org.jabref.logic.formatter.bibtexfields.RemoveNewlinesFormatter;
 import org.jabref.model.entry.BibEntry;
-import org.jabref.model.entry.Month;
-import org.jabref.model.entry.field.Field;
-import org.jabref.model.entry.field.StandardField;
-import org.jabref.model.strings.LatexToUnicodeAdapter;
 
 import de.undercouch.citeproc.CSL;
 import de.undercouch.citeproc.ItemDataProvider;
-import de.undercouch.citeproc.bibtex.BibTeXConverter;
+import de.undercouch.citeproc.SelectionMode;
 import de.undercouch.citeproc.csl.CSLItemData;
+import de.undercouch.citeproc.csl.CSLItemDataBuilder;
 import de.undercouch.citeproc.output.Bibliography;
-import org.jbibtex.BibTeXEntry;
-import org.jbibtex.DigitStringValue;
-import org.jbibtex.Key;
 
 /**
- * Provides an adapter class to CSL. It holds a CSL instance under the hood that is only recreated when
- * the style changes.
+ * Provides an adapter class to CSL. It holds a CSL instance under the hood for a fixed style and output format.
  *
- * @apiNote The first call to {@link #makeBibliography} is expensive since the
- * CSL instance will be created. As long as the style stays the same, we can reuse this instance. On style-change, the
- * engine is re-instantiated. Therefore, the use-case of this class is many calls to {@link #makeBibliography} with the
- * same style. Changing the output format is cheap.
- * @implNote The main function {@link #makeBibliography} will enforce
- * synchronized calling. The main CSL engine under the hood is not thread-safe. Since this class is usually called from
- * a BackgroundTakk, the only other option would be to create several CSL instances which is wasting a lot of resources and very slow.
- * In the current scheme, {@link #makeBibliography} can be called as usual
- * background task and to the best of my knowledge, concurrent calls will pile up and processed sequentially.
+ * @apiNote The creation of an adapter is expensive since the CSL instance is created. Therefore, the use-case of this
+ * class is many calls to {@link #makeBibliography} with the same style. The adapters are kept in a
+ * {@link CSLAdapterPool} for this purpose.
+ * @implNote The CSL engine under the hood is not thread-safe. Thus, an adapter may only be used by one thread at a
+ * time. In contrast, different adapters can be used at the same time, since each of them has its own JavaScript
+ * context.
  */
 public class CSLAdapter {
 
-    private static final BibTeXConverter BIBTEX_CONVERTER = new BibTeXConverter();
+    private static final CSLItemDataCache ITEM_DATA_CACHE = new CSLItemDataCache();
+
     private final JabRefItemDataProvider dataProvider = new JabRefItemDataProvider();
-    private String style;
-    private CitationStyleOutputFormat format;
-    private CSL cslInstance;
+    private final String style;
+    private final CitationStyleOutputFormat format;
+    private final CSL cslInstance;
+
+    /**
+     * @param style  journal style of the output
+     * @param format usually HTML or RTF.
+     * @throws IOException An error occurred in the underlying JavaScript framework
+     */
+    public CSLAdapter(String style, CitationStyleOutputFormat format) throws IOException {
+        this.style = Objects.requireNonNull(style);
+        this.format = Objects.requireNonNull(format);
+
+        // lang and forceLang are set to the default values of other CSL constructors
+        cslInstance = new CSL(dataProvider, new JabRefLocaleProvider(), style, "en-US", false);
+        // CSL shares the JavaScript context between all instances created by the same thread. The next instance shall
+        // get a context of its own, so that it can be used at the same time as this one.
+        CSL.removeThreadLocals();
+        cslInstance.setOutputFormat(format.getFormat());
+    }
+
+    public boolean isFor(String style, CitationStyleOutputFormat format) {
+        return this.style.equals(style) && this.format.equals(format);
+    }
+
+    /**
+     * Creates the bibliography of the provided items.
+     */
+    public List<String> makeBibliography(List<BibEntry> bibEntries) {
+        registerCitationItems(bibEntries);
+        return Arrays.asList(cslInstance.makeBibliography().getEntries());
+    }
 
     /**
-     * Creates the bibliography of the provided items. This method needs to run synchronized because the underlying
-     * CSL engine is not thread-safe.
+     * Creates the part of the bibliography of the provided items which contains the items with the given ids. The
+     * numbering and the disambiguation of the items still take all provided items into account.
      */
-    public synchronized List<String> makeBibliography(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat) throws IOException, IllegalArgumentException {
+    public List<String> makeBibliography(List<BibEntry> bibEntries, List<String> selectedIds) {
+        registerCitationItems(bibEntries);
+        CSLItemData[] selection = selectedIds.stream()
+                                             .map(id -> new CSLItemDataBuilder().id(id).build())
+                                             .toArray(CSLItemData[]::new);
+        final Bibliography bibliography = cslInstance.makeBibliography(SelectionMode.INCLUDE, selection);
+        return Arrays.asList(bibliography.getEntries());
+    }
+
+    private void registerCitationItems(List<BibEntry> bibEntries) {
         dataProvider.setData(bibEntries);
-        initialize(style, outputFormat);
         cslInstance.registerCitationItems(dataProvider.getIds());
-        final Bibliography bibliography = cslInstance.makeBibliography();
-        return Arrays.asList(bibliography.getEntries());
     }
 
     /**
-     * Initialized the static CSL instance if needed.
-     *
-     * @param newStyle  journal style of the output
-     * @param newFormat usually HTML or RTF.
-     * @throws IOException An error occurred in the underlying JavaScript framework
+     * Returns the id of the entry in the bibliography
      */
-    private void initialize(String newStyle, CitationStyleOutputFormat newFormat) throws IOException {
-        if ((cslInstance == null) || !Objects.equals(newStyle, style)) {
-            // lang and forceLang are set to the default values of other CSL constructors
-            cslInstance = new CSL(dataProvider, new JabRefLocaleProvider(), newStyle, "en-US", false);
-            style = newStyle;
-        }
-
-        if (!Objects.equals(newFormat, format)) {
-            cslInstance.setOutputFormat(newFormat.getFormat());
-            format = newFormat;
-        }
+    static String getId(BibEntry entry) {
+        return entry.getCiteKeyOptional().orElse("");
     }
 
     /**
@@ -82,50 +96,35 @@ public class CSLAdapter {
      */
     private static class JabRefItemDataProvider implements ItemDataProvider {
 
-        private final ArrayList<BibEntry> data = new ArrayList<>();
+        private final List<String> ids = new ArrayList<>();
 
         /**
-         * Converts the {@link BibEntry} into {@link CSLItemData}.
+         * The first entry of each id
          */
-        private static CSLItemData bibEntryToCSLItemData(BibEntry bibEntry) {
-            String citeKey = bibEntry.getCiteKeyOptional().orElse("");
-            BibTeXEntry bibTeXEntry = new BibTeXEntry(new Key(bibEntry.getType().getName()), new Key(citeKey));
-
-            // Not every field is already generated into latex free fields
-            RemoveNewlinesFormatter removeNewlinesFormatter = new RemoveNewlinesFormatter();
-            for (Field key : bibEntry.getFieldMap().keySet()) {
-                bibEntry.getField(key)
-                        .map(removeNewlinesFormatter::format)
-                        .map(LatexToUnicodeAdapter::format)
-                        .ifPresent(value -> {
-                            if (StandardField.MONTH.equals(key)) {
-                                // Change month from #mon# to mon because CSL does not support the former format
-                                value = bibEntry.getMonth().map(Month::getShortName).orElse(value);
-                            }
-                            bibTeXEntry.addField(new Key(key.getName()), new DigitStringValue(value));
-                        });
-            }
-            return BIBTEX_CONVERTER.toItemData(bibTeXEntry);
-        }
+        private final Map<String, BibEntry> data = new HashMap<>();
 
         public void setData(List<BibEntry> data) {
+            this.ids.clear();
             this.data.clear();
-            this.data.addAll(data);
+            for (BibEntry entry : data) {
+                String id = getId(entry);
+                ids.add(id);
+                this.data.putIfAbsent(id, entry);
+            }
         }
 
         @Override
         public CSLItemData retrieveItem(String id) {
-            return data.stream()
-                    .filter(entry -> entry.getCiteKeyOptional().orElse("").equals(id))
-                    .map(JabRefItemDataProvider::bibEntryToCSLItemData)
-                    .findFirst().orElse(null);
+            BibEntry entry = data.get(id);
+            if (entry == null) {
+                return null;
+            }
+            return ITEM_DATA_CACHE.get(entry);
         }
 
         @Override
         public String[] getIds() {
-            return data.stream()
-                    .map(entry -> entry.getCiteKeyOptional().orElse(""))
-                    .toArray(String[]::new);
+            return ids.toArray(String[]::new);
         }
     }
 }
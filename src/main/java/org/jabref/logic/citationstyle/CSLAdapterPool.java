@@ -0,0 +1,103 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Iterator;
+import java.util.LinkedList;
+
+/**
+ * A bounded pool of warmed {@link CSLAdapter}s, each of them for a style and an output format.
+ * <p>
+ * A borrowed adapter is used by the borrowing thread only and has to be given back to the pool afterwards. If no idle
+ * adapter for the requested style and output format exists, a new one is created as long as the maximum number of
+ * adapters is not reached. Otherwise, the least recently used idle adapter for another style or output format is
+ * dropped. If all adapters are in use, the caller waits until one of them is given back.
+ */
+class CSLAdapterPool {
+
+    private final int maximumSize;
+
+    /**
+     * The idle adapters, the most recently used one first
+     */
+    private final LinkedList<CSLAdapter> idleAdapters = new LinkedList<>();
+
+    /**
+     * The number of idle, borrowed and currently created adapters
+     */
+    private int size;
+
+    CSLAdapterPool(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The pool needs to hold at least one adapter");
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns an adapter for the given style and output format, which has to be handed back using {@link
+     * #giveBack(CSLAdapter)} or dropped using {@link #discard()}.
+     *
+     * @throws IOException An error occurred in the underlying JavaScript framework or the thread was interrupted while
+     *                     waiting for an adapter
+     */
+    public CSLAdapter borrow(String style, CitationStyleOutputFormat format) throws IOException {
+        synchronized (this) {
+            while (true) {
+                Iterator<CSLAdapter> iterator = idleAdapters.iterator();
+                while (iterator.hasNext()) {
+                    CSLAdapter adapter = iterator.next();
+                    if (adapter.isFor(style, format)) {
+                        iterator.remove();
+                        return adapter;
+                    }
+                }
+
+                if ((size >= maximumSize) && !idleAdapters.isEmpty()) {
+                    idleAdapters.removeLast();
+                    size--;
+                }
+                if (size < maximumSize) {
+                    size++;
+                    break;
+                }
+
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for a citation style engine");
+                }
+            }
+        }
+
+        // the engine is created outside of the lock, since this takes a while
+        try {
+            return new CSLAdapter(style, format);
+        } catch (IOException | RuntimeException e) {
+            discard();
+            throw e;
+        }
+    }
+
+    /**
+     * Gives the borrowed adapter back to the pool, so that it can be used again.
+     */
+    public synchronized void giveBack(CSLAdapter adapter) {
+        idleAdapters.addFirst(adapter);
+        notifyAll();
+    }
+
+    /**
+     * Drops a borrowed adapter instead of giving it back, e.g., because its engine failed and may be in an
+     * inconsistent state.
+     */
+    public synchronized void discard() {
+        size--;
+        notifyAll();
+    }
+}
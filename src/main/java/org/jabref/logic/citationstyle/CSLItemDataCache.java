@@ -0,0 +1,85 @@
+package org.jabref.logic.citationstyle;
+
+import java.util.Map;
+
+import org.jabref.logic.formatter.bibtexfields.RemoveNewlinesFormatter;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.Month;
+import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.strings.LatexToUnicodeAdapter;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.eventbus.Subscribe;
+import de.undercouch.citeproc.bibtex.BibTeXConverter;
+import de.undercouch.citeproc.csl.CSLItemData;
+import org.jbibtex.BibTeXEntry;
+import org.jbibtex.DigitStringValue;
+import org.jbibtex.Key;
+
+/**
+ * Caches the {@link CSLItemData} converted from the entries, since every CSL engine rendering a bibliography asks for
+ * the data of all registered entries. The converted data of an entry is dropped as soon as the entry changes.
+ * <p>
+ * Entries are compared by identity and are not kept alive by the cache. Each entry has a version, which is increased
+ * when it changes, so that data converted while the entry changed is not stored.
+ */
+class CSLItemDataCache {
+
+    private static final BibTeXConverter BIBTEX_CONVERTER = new BibTeXConverter();
+
+    private final Map<BibEntry, CSLItemData> itemData = new MapMaker().weakKeys().makeMap();
+    private final Map<BibEntry, Long> versions = new MapMaker().weakKeys().makeMap();
+
+    public CSLItemData get(BibEntry entry) {
+        CSLItemData data = itemData.get(entry);
+        if (data == null) {
+            // registering the same listener again has no effect
+            entry.registerListener(this);
+            long version = getVersion(entry);
+            data = bibEntryToCSLItemData(entry);
+            // the entry is converted outside of the lock, thus the version is checked again before storing the data
+            synchronized (this) {
+                if (getVersion(entry) == version) {
+                    itemData.put(entry, data);
+                }
+            }
+        }
+        return data;
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryChangedEvent event) {
+        versions.merge(event.getBibEntry(), 1L, Long::sum);
+        itemData.remove(event.getBibEntry());
+    }
+
+    private long getVersion(BibEntry entry) {
+        return versions.getOrDefault(entry, 0L);
+    }
+
+    /**
+     * Converts the {@link BibEntry} into {@link CSLItemData}.
+     */
+    private static CSLItemData bibEntryToCSLItemData(BibEntry bibEntry) {
+        String citeKey = bibEntry.getCiteKeyOptional().orElse("");
+        BibTeXEntry bibTeXEntry = new BibTeXEntry(new Key(bibEntry.getType().getName()), new Key(citeKey));
+
+        // Not every field is already generated into latex free fields
+        RemoveNewlinesFormatter removeNewlinesFormatter = new RemoveNewlinesFormatter();
+        for (Field key : bibEntry.getFieldMap().keySet()) {
+            bibEntry.getField(key)
+                    .map(removeNewlinesFormatter::format)
+                    .map(LatexToUnicodeAdapter::format)
+                    .ifPresent(value -> {
+                        if (StandardField.MONTH.equals(key)) {
+                            // Change month from #mon# to mon because CSL does not support the former format
+                            value = bibEntry.getMonth().map(Month::getShortName).orElse(value);
+                        }
+                        bibTeXEntry.addField(new Key(key.getName()), new DigitStringValue(value));
+                    });
+        }
+        return BIBTEX_CONVERTER.toItemData(bibTeXEntry);
+    }
+}
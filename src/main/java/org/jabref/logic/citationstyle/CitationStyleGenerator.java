@@ -1,24 +1,51 @@
 package org.jabref.logic.citationstyle;
 
 import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.entry.BibEntry;
 
+import com.google.common.collect.Lists;
 import org.jbibtex.TokenMgrException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
 
 /**
  * Facade to unify the access to the citation style engine. Use these methods if you need rendered BibTeX item(s) in a
- * given journal style. This class uses {@link CSLAdapter} to create output.
+ * given journal style. This class uses {@link CSLAdapter}s to create output, which are kept in a {@link CSLAdapterPool}
+ * holding one adapter per processor.
  */
 public class CitationStyleGenerator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CitationStyleGenerator.class);
-    private static final CSLAdapter CSL_ADAPTER = new CSLAdapter();
+    private static final CSLAdapterPool CSL_ADAPTER_POOL = new CSLAdapterPool(Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Each additional adapter rendering a part of the bibliography registers all entries, which is only worth it for
+     * enough entries
+     */
+    private static final int MIN_ENTRIES_PER_BATCH = 256;
+
+    /**
+     * Whether the bibliography of a style lists the entries in the order they are cited
+     */
+    private static final Map<String, Boolean> BIBLIOGRAPHY_IN_CITATION_ORDER = new ConcurrentHashMap<>();
 
     private CitationStyleGenerator() {
     }
@@ -48,12 +75,16 @@ public class CitationStyleGenerator {
     }
 
     /**
-     * Generates the citation for multiple entries at once.
+     * Generates the citation for multiple entries at once. If the style lists the entries in the order they are cited,
+     * parts of the bibliography are rendered in parallel.
      * @implNote The citations are generated using JavaScript which may take some time, better call it from outside the main thread.
      */
     public static List<String> generateCitations(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat) {
         try {
-            return CSL_ADAPTER.makeBibliography(bibEntries, style, outputFormat);
+            return makeBibliography(bibEntries, style, outputFormat, CSL_ADAPTER_POOL);
+        } catch (UncheckedIOException e) {
+            LOGGER.error("Could not generate BibEntry citation", e.getCause());
+            return Collections.singletonList(Localization.lang("Cannot generate preview based on selected citation style."));
         } catch (IllegalArgumentException ignored) {
             LOGGER.error("Could not generate BibEntry citation. The CSL engine could not create a preview for your item.");
             return Collections.singletonList(Localization.lang("Cannot generate preview based on selected citation style."));
@@ -70,4 +101,92 @@ public class CitationStyleGenerator {
                     e.getLocalizedMessage());
         }
     }
+
+    /**
+     * Splits the entries into one batch per adapter of the pool. Every adapter registers all entries to number and
+     * disambiguate them as a whole, but renders the entries of its batch only. The parts are joined in the order of the
+     * batches, which is only the order of the complete bibliography if the style does not sort the bibliography.
+     *
+     * @throws UncheckedIOException if a part of the bibliography rendered in parallel could not be created
+     */
+    static List<String> makeBibliography(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat,
+                                         CSLAdapterPool pool) throws IOException {
+        return makeBibliography(bibEntries, style, outputFormat, pool, MIN_ENTRIES_PER_BATCH);
+    }
+
+    /**
+     * @param minEntriesPerBatch the number of entries below which no additional adapter is used
+     */
+    static List<String> makeBibliography(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat,
+                                         CSLAdapterPool pool, int minEntriesPerBatch) throws IOException {
+        List<String> ids = bibEntries.stream()
+                                     .map(CSLAdapter::getId)
+                                     .distinct()
+                                     .collect(Collectors.toList());
+        int batches = Math.min(pool.getMaximumSize(), ids.size() / minEntriesPerBatch);
+        if ((batches < 2) || !isBibliographyInCitationOrder(style)) {
+            return makeBibliography(pool, style, outputFormat, adapter -> adapter.makeBibliography(bibEntries));
+        }
+
+        int batchSize = (ids.size() + batches - 1) / batches;
+        return Lists.partition(ids, batchSize)
+                    .parallelStream()
+                    .map(batch -> {
+                        try {
+                            return makeBibliography(pool, style, outputFormat, adapter -> adapter.makeBibliography(bibEntries, batch));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    })
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
+    }
+
+    /**
+     * Renders with an adapter borrowed from the pool. The adapter is given back afterwards, or dropped if rendering
+     * failed.
+     */
+    static List<String> makeBibliography(CSLAdapterPool pool, String style, CitationStyleOutputFormat outputFormat,
+                                         Function<CSLAdapter, List<String>> render) throws IOException {
+        CSLAdapter adapter = pool.borrow(style, outputFormat);
+        boolean rendered = false;
+        try {
+            List<String> bibliography = render.apply(adapter);
+            rendered = true;
+            return bibliography;
+        } finally {
+            if (rendered) {
+                pool.giveBack(adapter);
+            } else {
+                pool.discard();
+            }
+        }
+    }
+
+    static boolean isBibliographyInCitationOrder(String style) {
+        return BIBLIOGRAPHY_IN_CITATION_ORDER.computeIfAbsent(style, source -> {
+            try {
+                InputSource inputSource = new InputSource(new StringReader(source.substring(Math.max(0, source.indexOf('<')))));
+                NodeList bibliographies = DocumentBuilderFactory.newInstance()
+                                                                .newDocumentBuilder()
+                                                                .parse(inputSource)
+                                                                .getElementsByTagName("bibliography");
+                if (bibliographies.getLength() == 0) {
+                    // dependent styles refer to the bibliography of another style
+                    return false;
+                }
+                NodeList children = bibliographies.item(0).getChildNodes();
+                for (int i = 0; i < children.getLength(); i++) {
+                    Node child = children.item(i);
+                    if ((child instanceof Element) && "sort".equals(child.getNodeName())) {
+                        return false;
+                    }
+                }
+                return true;
+            } catch (ParserConfigurationException | SAXException | IOException e) {
+                LOGGER.debug("Could not determine the order of the bibliography", e);
+                return false;
+            }
+        });
+    }
 }
@@ -3,8 +3,8 @@ package org.jabref.logic.citationstyle;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.URL;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import de.undercouch.citeproc.LocaleProvider;
 import de.undercouch.citeproc.helper.CSLUtils;
@@ -18,11 +18,14 @@ public class JabRefLocaleProvider implements LocaleProvider {
 
     private static final String LOCALES_ROOT = "/csl-locales";
 
-    private final Map<String, String> locales = new HashMap<>();
+    /**
+     * The locales are shared by all CSL engines, which may ask for them at the same time
+     */
+    private static final Map<String, String> LOCALES = new ConcurrentHashMap<>();
 
     @Override
     public String retrieveLocale(String lang) {
-        return locales.computeIfAbsent(lang, locale -> {
+        return LOCALES.computeIfAbsent(lang, locale -> {
             try {
                 URL url = getClass().getResource(LOCALES_ROOT + "/locales-" + locale + ".xml");
                 if (url == null) {
@@ -3,11 +3,15 @@ package org.jabref.logic.exporter;
 import java.io.FileOutputStream;
 import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.channels.FileLock;
 import java.nio.channels.OverlappingFileLockException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.PosixFilePermission;
 import java.util.EnumSet;
 import java.util.Set;
@@ -57,6 +61,7 @@ public class AtomicFileOutputStream extends FilterOutputStream {
      * The file to which writes are redirected to.
      */
     private final Path temporaryFile;
+    private final FileChannel temporaryFileChannel;
     private final FileLock temporaryFileLock;
     /**
      * A backup of the target file (if it exists), created when the stream is closed
@@ -71,21 +76,23 @@ public class AtomicFileOutputStream extends FilterOutputStream {
      * @param keepBackup whether to keep the backup file after a successful write process
      */
     public AtomicFileOutputStream(Path path, boolean keepBackup) throws IOException {
-        super(Files.newOutputStream(getPathOfTemporaryFile(path)));
+        this(path, FileChannel.open(getPathOfTemporaryFile(path), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING), keepBackup);
+    }
+
+    private AtomicFileOutputStream(Path path, FileChannel temporaryFileChannel, boolean keepBackup) throws IOException {
+        super(Channels.newOutputStream(temporaryFileChannel));
 
         this.targetFile = path;
         this.temporaryFile = getPathOfTemporaryFile(path);
+        this.temporaryFileChannel = temporaryFileChannel;
         this.backupFile = getPathOfBackupFile(path);
         this.keepBackup = keepBackup;
 
         try {
             // Lock files (so that at least not another JabRef instance writes at the same time to the same tmp file)
-            if (out instanceof FileOutputStream) {
-                temporaryFileLock = ((FileOutputStream) out).getChannel().lock();
-            } else {
-                temporaryFileLock = null;
-            }
+            temporaryFileLock = temporaryFileChannel.lock();
         } catch (OverlappingFileLockException exception) {
+            temporaryFileChannel.close();
             throw new IOException("Could not obtain write access to " + temporaryFile + ". Maybe another instance of JabRef is currently writing to the same file?", exception);
         }
     }
@@ -115,6 +122,21 @@ public class AtomicFileOutputStream extends FilterOutputStream {
         return backupFile;
     }
 
+    /**
+     * Writes the remaining bytes of the given buffer directly to the temporary file. This avoids copying the bytes if
+     * the buffer is a direct one.
+     */
+    public void write(ByteBuffer buffer) throws IOException {
+        try {
+            while (buffer.hasRemaining()) {
+                temporaryFileChannel.write(buffer);
+            }
+        } catch (IOException exception) {
+            cleanup();
+            throw exception;
+        }
+    }
+
     /**
      * Override for performance reasons.
      */
@@ -149,7 +171,8 @@ public class AtomicFileOutputStream extends FilterOutputStream {
         }
 
         try {
-            if (temporaryFileLock != null) {
+            // closing the channel already released the lock
+            if (temporaryFileLock.isValid()) {
                 temporaryFileLock.release();
             }
         } catch (IOException exception) {
@@ -164,9 +187,7 @@ public class AtomicFileOutputStream extends FilterOutputStream {
             try {
                 // Make sure we have written everything to the temporary file
                 flush();
-                if (out instanceof FileOutputStream) {
-                    ((FileOutputStream) out).getFD().sync();
-                }
+                temporaryFileChannel.force(true);
             } catch (IOException exception) {
                 // Try to close nonetheless
                 super.close();
@@ -1,9 +1,13 @@
 package org.jabref.logic.exporter;
 
 import java.io.IOException;
-import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.Set;
@@ -14,33 +18,137 @@ import java.util.TreeSet;
  * underlying output stream. In this way, we make sure that the errors during the write process do not destroy the
  * contents of the target file.
  * Moreover, this writer checks if the chosen encoding supports all text that is written. Characters whose encoding
- * was problematic can be retrieved by {@link #getEncodingProblems()}.
+ * was problematic can be retrieved by {@link #getEncodingProblems()}. They are written as the replacement of the
+ * encoding, like {@link java.io.OutputStreamWriter} does.
+ * <p>
+ * The check is done while encoding the text, thus every character is encoded only once. The encoded bytes are
+ * collected in a large direct buffer which is handed to the file channel as a whole.
  */
-public class AtomicFileWriter extends OutputStreamWriter {
+public class AtomicFileWriter extends Writer {
 
+    private static final int CHAR_BUFFER_SIZE = 8 * 1024;
+    private static final int BYTE_BUFFER_SIZE = 256 * 1024;
+
+    private final AtomicFileOutputStream outputStream;
     private final CharsetEncoder encoder;
+    private final CharBuffer charBuffer = CharBuffer.allocate(CHAR_BUFFER_SIZE);
+    private final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(BYTE_BUFFER_SIZE);
     private final Set<Character> problemCharacters = new TreeSet<>();
+    private boolean closed;
 
     public AtomicFileWriter(Path file, Charset encoding) throws IOException {
         this(file, encoding, false);
     }
 
     public AtomicFileWriter(Path file, Charset encoding, boolean keepBackup) throws IOException {
-        super(new AtomicFileOutputStream(file, keepBackup), encoding);
-        encoder = encoding.newEncoder();
+        encoder = encoding.newEncoder()
+                          .onMalformedInput(CodingErrorAction.REPORT)
+                          .onUnmappableCharacter(CodingErrorAction.REPORT);
+        outputStream = new AtomicFileOutputStream(file, keepBackup);
+    }
+
+    @Override
+    public void write(int character) throws IOException {
+        ensureOpen();
+        if (!charBuffer.hasRemaining()) {
+            encode(false);
+        }
+        charBuffer.put((char) character);
     }
 
     @Override
-    public void write(String str) throws IOException {
-        super.write(str);
-        if (!encoder.canEncode(str)) {
-            for (int i = 0; i < str.length(); i++) {
-                char character = str.charAt(i);
-                if (!encoder.canEncode(character)) {
-                    problemCharacters.add(character);
+    public void write(char[] characters, int offset, int length) throws IOException {
+        ensureOpen();
+        int end = offset + length;
+        while (offset < end) {
+            if (!charBuffer.hasRemaining()) {
+                encode(false);
+            }
+            int chunk = Math.min(end - offset, charBuffer.remaining());
+            charBuffer.put(characters, offset, chunk);
+            offset += chunk;
+        }
+    }
+
+    @Override
+    public void write(String str, int offset, int length) throws IOException {
+        ensureOpen();
+        int end = offset + length;
+        while (offset < end) {
+            if (!charBuffer.hasRemaining()) {
+                encode(false);
+            }
+            int chunk = Math.min(end - offset, charBuffer.remaining());
+            charBuffer.put(str, offset, offset + chunk);
+            offset += chunk;
+        }
+    }
+
+    /**
+     * Encodes the collected characters into the byte buffer and writes the byte buffer to the file whenever it is
+     * full. Without the end of the input, a trailing high surrogate stays in the character buffer until its low
+     * surrogate is written.
+     */
+    private void encode(boolean endOfInput) throws IOException {
+        charBuffer.flip();
+        while (true) {
+            CoderResult result = encoder.encode(charBuffer, byteBuffer, endOfInput);
+            if (result.isUnderflow()) {
+                break;
+            } else if (result.isOverflow()) {
+                writeByteBuffer();
+            } else {
+                for (int i = 0; i < result.length(); i++) {
+                    problemCharacters.add(charBuffer.get());
+                }
+                byte[] replacement = encoder.replacement();
+                if (byteBuffer.remaining() < replacement.length) {
+                    writeByteBuffer();
                 }
+                byteBuffer.put(replacement);
+            }
+        }
+        charBuffer.compact();
+    }
+
+    private void writeByteBuffer() throws IOException {
+        byteBuffer.flip();
+        outputStream.write(byteBuffer);
+        byteBuffer.clear();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Writer closed");
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        encode(false);
+        writeByteBuffer();
+        outputStream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            encode(true);
+            while (encoder.flush(byteBuffer).isOverflow()) {
+                writeByteBuffer();
             }
+            writeByteBuffer();
+        } catch (IOException | RuntimeException e) {
+            outputStream.abort();
+            throw e;
         }
+        outputStream.close();
     }
 
     public boolean hasEncodingProblems() {
@@ -39,6 +39,7 @@ import org.jabref.model.entry.BibEntryType;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.BibtexString;
 import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.SaveOrderConfig;
 import org.jabref.model.strings.StringUtil;
@@ -161,10 +162,55 @@ public abstract class BibDatabaseWriter {
         savePartOfDatabase(bibDatabaseContext, bibDatabaseContext.getDatabase().getEntries());
     }
 
+    /**
+     * Saves the complete database. Only the entries which changed since the previous save recorded in the given state
+     * are sorted, cleaned up and serialized again.
+     */
+    public void saveDatabase(BibDatabaseContext bibDatabaseContext, IncrementalSaveState saveState) throws IOException {
+        if (bibDatabaseContext.getMetaData() == null) {
+            saveDatabase(bibDatabaseContext);
+            return;
+        }
+
+        List<Comparator<BibEntry>> comparators = getSaveComparators(bibDatabaseContext.getMetaData(), preferences);
+        List<Object> configuration = IncrementalSaveState.getConfiguration(bibDatabaseContext, preferences, entryTypesManager);
+        try {
+            IncrementalSaveState.Save save = saveState.startSave(bibDatabaseContext.getDatabase().getEntries(),
+                    configuration, new FieldComparatorStack<>(comparators));
+            prepareEntries(bibDatabaseContext, save.getChangedEntries());
+            writeDatabase(bibDatabaseContext, save.getSortedEntries(), save);
+            saveState.finishSave(save);
+        } catch (IOException | RuntimeException e) {
+            saveState.failSave();
+            throw e;
+        }
+    }
+
     /**
      * Saves the database, including only the specified entries.
      */
     public void savePartOfDatabase(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries) throws IOException {
+        List<BibEntry> sortedEntries = getSortedEntries(bibDatabaseContext, entries, preferences);
+        prepareEntries(bibDatabaseContext, sortedEntries);
+        writeDatabase(bibDatabaseContext, sortedEntries, null);
+    }
+
+    /**
+     * Applies the save actions and generates the missing keys of the given entries.
+     */
+    private void prepareEntries(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries) {
+        List<FieldChange> saveActionChanges = applySaveActions(entries, bibDatabaseContext.getMetaData());
+        saveActionsFieldChanges.addAll(saveActionChanges);
+        if (preferences.generateBibtexKeysBeforeSaving()) {
+            List<FieldChange> keyChanges = generateBibtexKeys(bibDatabaseContext, entries);
+            saveActionsFieldChanges.addAll(keyChanges);
+        }
+    }
+
+    /**
+     * @param save the save to take and store the serializations of the entries from, or null to serialize all entries
+     */
+    private void writeDatabase(BibDatabaseContext bibDatabaseContext, List<BibEntry> sortedEntries, IncrementalSaveState.Save save) throws IOException {
         Optional<String> sharedDatabaseIDOptional = bibDatabaseContext.getDatabase().getSharedDatabaseID();
         if (sharedDatabaseIDOptional.isPresent()) {
             // may throw an IOException. Thus, we do not use "ifPresent", but the "old" isPresent way
@@ -186,25 +232,32 @@ public abstract class BibDatabaseWriter {
         writeStrings(bibDatabaseContext.getDatabase());
 
         // Write database entries.
-        List<BibEntry> sortedEntries = getSortedEntries(bibDatabaseContext, entries, preferences);
-        List<FieldChange> saveActionChanges = applySaveActions(sortedEntries, bibDatabaseContext.getMetaData());
-        saveActionsFieldChanges.addAll(saveActionChanges);
-        if (preferences.generateBibtexKeysBeforeSaving()) {
-            List<FieldChange> keyChanges = generateBibtexKeys(bibDatabaseContext, sortedEntries);
-            saveActionsFieldChanges.addAll(keyChanges);
-        }
-
+        // looking up whether a type is custom is expensive, thus it is done once per type
+        Map<EntryType, Optional<BibEntryType>> customTypes = new HashMap<>();
         for (BibEntry entry : sortedEntries) {
             // Check if we must write the type definition for this
             // entry, as well. Our criterion is that all non-standard
             // types (*not* all customized standard types) must be written.
-            if (entryTypesManager.isCustomType(entry.getType(), bibDatabaseContext.getMode())) {
-                // If user-defined entry type, then add it
-                // Otherwise (enrich returns empty optional) it is a completely unknown entry type, so ignore it
-                entryTypesManager.enrich(entry.getType(), bibDatabaseContext.getMode()).ifPresent(typesToWrite::add);
+            customTypes.computeIfAbsent(entry.getType(), type -> {
+                if (entryTypesManager.isCustomType(type, bibDatabaseContext.getMode())) {
+                    // If user-defined entry type, then add it
+                    // Otherwise (enrich returns empty optional) it is a completely unknown entry type, so ignore it
+                    return entryTypesManager.enrich(type, bibDatabaseContext.getMode());
+                }
+                return Optional.empty();
+            }).ifPresent(typesToWrite::add);
+
+            if ((save == null) || (!preferences.isReformatFile() && !entry.hasChanged())) {
+                // unchanged entries are written from their parsed serialization anyway
+                writeEntry(entry, bibDatabaseContext.getMode());
+            } else {
+                Optional<String> serialization = save.getSerialization(entry);
+                if (serialization.isEmpty()) {
+                    serialization = Optional.of(serializeEntry(entry, bibDatabaseContext.getMode()));
+                }
+                writer.write(serialization.get());
+                save.putSerialization(entry, serialization.get());
             }
-
-            writeEntry(entry, bibDatabaseContext.getMode());
         }
 
         if (preferences.getSaveType() != SavePreferences.DatabaseSaveType.PLAIN_BIBTEX) {
@@ -225,6 +278,11 @@ public abstract class BibDatabaseWriter {
 
     protected abstract void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException;
 
+    /**
+     * Returns what {@link #writeEntry(BibEntry, BibDatabaseMode)} writes for the given entry.
+     */
+    protected abstract String serializeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException;
+
     protected abstract void writeEpilogue(String epilogue) throws IOException;
 
     /**
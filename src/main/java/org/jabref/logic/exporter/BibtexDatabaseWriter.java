@@ -1,6 +1,7 @@
 package org.jabref.logic.exporter;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.util.Map;
@@ -129,7 +130,18 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
 
     @Override
     protected void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException {
+        writeEntry(entry, mode, writer);
+    }
+
+    @Override
+    protected String serializeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException {
+        StringWriter serialization = new StringWriter();
+        writeEntry(entry, mode, serialization);
+        return serialization.toString();
+    }
+
+    private void writeEntry(BibEntry entry, BibDatabaseMode mode, Writer out) throws IOException {
         BibEntryWriter bibtexEntryWriter = new BibEntryWriter(new FieldWriter(preferences.getFieldWriterPreferences()), entryTypesManager);
-        bibtexEntryWriter.write(entry, writer, mode, preferences.isReformatFile());
+        bibtexEntryWriter.write(entry, out, mode, preferences.isReformatFile());
     }
 }
@@ -0,0 +1,263 @@
+package org.jabref.logic.exporter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.logic.bibtex.FieldWriterPreferences;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.metadata.SaveOrderConfig;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Remembers what the last save of a library wrote, so that the next save only has to sort, clean up and serialize the
+ * entries which were added or changed since then.
+ * <p>
+ * The entries which are not changed keep their relative position in the save order, because the save comparators
+ * only depend on the fields of the compared entries themselves. Thus, the changed entries are taken out of the previous
+ * order and inserted again at their sorted position. The outcome is the same as sorting all entries, as ties are broken
+ * by the position of the entries in the database just like the stable sort of a full save does.
+ * <p>
+ * One state belongs to one library and has to be passed to {@link BibDatabaseWriter#saveDatabase(BibDatabaseContext,
+ * IncrementalSaveState)} on every save of that library. As soon as the save configuration changes, the next save
+ * handles all entries again.
+ */
+public class IncrementalSaveState {
+
+    /**
+     * If more entries have changed than this fraction of the library, it is faster to sort all entries again
+     */
+    private static final int MAX_CHANGED_FRACTION = 16;
+
+    private final BibDatabase database;
+    private Set<BibEntry> changedEntries = newIdentitySet();
+
+    private List<Object> configuration;
+    private List<BibEntry> previousOrder;
+    private Map<BibEntry, String> serializations = new IdentityHashMap<>();
+
+    private int startedSaves;
+    private int runningSaves;
+
+    public IncrementalSaveState(BibDatabaseContext bibDatabaseContext) {
+        database = bibDatabaseContext.getDatabase();
+        database.registerListener(this);
+    }
+
+    /**
+     * Stops listening to the changes of the library. Afterwards, the state must not be used anymore.
+     */
+    public void shutdown() {
+        database.unregisterListener(this);
+    }
+
+    private static Set<BibEntry> newIdentitySet() {
+        // entries are equal if their content is, but we are interested in the instances
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryChangedEvent event) {
+        changedEntries.add(event.getBibEntry());
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        changedEntries.addAll(event.getBibEntries());
+    }
+
+    /**
+     * Forgets the previous save, such that the next save handles all entries.
+     */
+    public synchronized void invalidate() {
+        configuration = null;
+        previousOrder = null;
+        serializations = new IdentityHashMap<>();
+    }
+
+    /**
+     * Returns the settings the save order, the save actions and the serialization of the entries depend on.
+     */
+    static List<Object> getConfiguration(BibDatabaseContext bibDatabaseContext, SavePreferences preferences,
+                                         BibEntryTypesManager entryTypesManager) {
+        BibDatabaseMode mode = bibDatabaseContext.getMode();
+        FieldWriterPreferences fieldWriterPreferences = preferences.getFieldWriterPreferences();
+        return Arrays.asList(
+                preferences.isSaveInOriginalOrder(),
+                // the string representations are copies, thus the configuration is not modified along with the settings
+                bibDatabaseContext.getMetaData().getSaveOrderConfig().map(SaveOrderConfig::getAsStringList),
+                Optional.ofNullable(preferences.getSaveOrder()).map(SaveOrderConfig::getAsStringList),
+                preferences.takeMetadataSaveOrderInAccount(),
+                bibDatabaseContext.getMetaData().getSaveActions(),
+                preferences.isReformatFile(),
+                preferences.generateBibtexKeysBeforeSaving(),
+                mode,
+                fieldWriterPreferences.isResolveStringsAllFields(),
+                fieldWriterPreferences.getDoNotResolveStringsFor(),
+                fieldWriterPreferences.getFieldContentFormatterPreferences().getNonWrappableFields(),
+                new ArrayList<>(entryTypesManager.getAllTypes(mode)));
+    }
+
+    /**
+     * Starts a save of the given entries.
+     *
+     * @param entries          all entries of the library, in the order of the database
+     * @param configuration    the result of {@link #getConfiguration}
+     * @param saveComparator   the comparator the entries are saved in the order of
+     */
+    Save startSave(List<BibEntry> entries, List<Object> configuration, Comparator<BibEntry> saveComparator) {
+        Set<BibEntry> changedSinceLastSave;
+        List<BibEntry> previousOrder;
+        Map<BibEntry, String> previousSerializations;
+        int sequence;
+        boolean exclusive;
+        synchronized (this) {
+            // changes made from now on belong to the next save
+            changedSinceLastSave = changedEntries;
+            changedEntries = newIdentitySet();
+            previousOrder = configuration.equals(this.configuration) ? this.previousOrder : null;
+            previousSerializations = serializations;
+            sequence = ++startedSaves;
+            exclusive = runningSaves == 0;
+            runningSaves++;
+        }
+
+        Map<BibEntry, Integer> positions = new IdentityHashMap<>(entries.size() * 2);
+        for (int i = 0; i < entries.size(); i++) {
+            positions.put(entries.get(i), i);
+        }
+        Comparator<BibEntry> comparator = saveComparator.thenComparing(entry -> positions.get(entry));
+
+        if ((previousOrder == null) || !exclusive) {
+            // the changes taken by a concurrent save are unknown
+            return sortAll(sequence, configuration, entries, comparator, entries, Collections.emptyMap());
+        }
+
+        // keep the unchanged entries in their previous order
+        boolean[] kept = new boolean[entries.size()];
+        List<BibEntry> sortedEntries = new ArrayList<>(entries.size());
+        for (BibEntry entry : previousOrder) {
+            Integer position = positions.get(entry);
+            if ((position != null) && !kept[position] && !changedSinceLastSave.contains(entry)) {
+                kept[position] = true;
+                sortedEntries.add(entry);
+            }
+        }
+
+        // this includes entries added without an event
+        List<BibEntry> entriesToInsert = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (!kept[i]) {
+                entriesToInsert.add(entries.get(i));
+            }
+        }
+
+        if ((entriesToInsert.size() * MAX_CHANGED_FRACTION) > entries.size()) {
+            return sortAll(sequence, configuration, entries, comparator, entriesToInsert, previousSerializations);
+        }
+
+        for (BibEntry entry : entriesToInsert) {
+            int index = Collections.binarySearch(sortedEntries, entry, comparator);
+            // the entry itself is not contained, thus the search never finds a match
+            sortedEntries.add(-index - 1, entry);
+        }
+        return new Save(sequence, configuration, sortedEntries, entriesToInsert, previousSerializations);
+    }
+
+    private Save sortAll(int sequence, List<Object> configuration, List<BibEntry> entries, Comparator<BibEntry> comparator,
+                         List<BibEntry> entriesToInsert, Map<BibEntry, String> previousSerializations) {
+        List<BibEntry> sortedEntries = new ArrayList<>(entries);
+        sortedEntries.sort(comparator);
+        return new Save(sequence, configuration, sortedEntries, entriesToInsert, previousSerializations);
+    }
+
+    /**
+     * Remembers the outcome of a successful save to be used by the next save.
+     */
+    synchronized void finishSave(Save save) {
+        runningSaves--;
+        if (save.sequence == startedSaves) {
+            configuration = save.configuration;
+            previousOrder = save.sortedEntries;
+            serializations = save.newSerializations;
+        } else {
+            // a later save took changes which are not reflected by this one
+            invalidate();
+        }
+    }
+
+    /**
+     * Remembers a failed save, such that the next save handles all entries again.
+     */
+    synchronized void failSave() {
+        runningSaves--;
+        invalidate();
+    }
+
+    /**
+     * A single save of the library
+     */
+    static class Save {
+
+        private final int sequence;
+        private final List<Object> configuration;
+        private final List<BibEntry> sortedEntries;
+        private final List<BibEntry> changedEntries;
+        private final Set<BibEntry> changedEntrySet;
+        private final Map<BibEntry, String> previousSerializations;
+        private final Map<BibEntry, String> newSerializations = new IdentityHashMap<>();
+
+        private Save(int sequence, List<Object> configuration, List<BibEntry> sortedEntries,
+                     List<BibEntry> changedEntries, Map<BibEntry, String> previousSerializations) {
+            this.sequence = sequence;
+            this.configuration = configuration;
+            this.sortedEntries = sortedEntries;
+            this.changedEntries = changedEntries;
+            this.changedEntrySet = newIdentitySet();
+            this.changedEntrySet.addAll(changedEntries);
+            this.previousSerializations = previousSerializations;
+        }
+
+        /**
+         * Returns all entries in the order they are saved in.
+         */
+        List<BibEntry> getSortedEntries() {
+            return sortedEntries;
+        }
+
+        /**
+         * Returns the entries which changed since the previous save and thus need to be cleaned up.
+         */
+        List<BibEntry> getChangedEntries() {
+            return changedEntries;
+        }
+
+        /**
+         * Returns the serialization of the entry written by the previous save if the entry did not change since.
+         */
+        Optional<String> getSerialization(BibEntry entry) {
+            if (changedEntrySet.contains(entry)) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(previousSerializations.get(entry));
+        }
+
+        void putSerialization(BibEntry entry, String serialization) {
+            newSerializations.put(Objects.requireNonNull(entry), Objects.requireNonNull(serialization));
+        }
+    }
+}
@@ -8,19 +8,26 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.layout.Layout;
+import org.jabref.logic.layout.LayoutContext;
 import org.jabref.logic.layout.LayoutFormatterPreferences;
 import org.jabref.logic.layout.LayoutHelper;
+import org.jabref.logic.layout.StringInt;
 import org.jabref.logic.util.FileType;
 import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.types.EntryType;
@@ -49,6 +56,17 @@ public class TemplateExporter extends Exporter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TemplateExporter.class);
 
+    /**
+     * The entries laid out in parallel before they are written. Only the output of these entries is held in memory.
+     */
+    private static final int ENTRIES_PER_CHUNK = 1024;
+
+    /**
+     * The parsed layout files by their location. A file is parsed again as soon as it has been modified. The layouts
+     * themselves are built for every export, since their formatters depend on the preferences.
+     */
+    private static final Map<String, ParsedLayoutFile> PARSED_LAYOUT_FILES = new ConcurrentHashMap<>();
+
     private final String lfFileName;
     private final String directory;
     private final LayoutFormatterPreferences layoutPreferences;
@@ -165,18 +183,10 @@ public class TemplateExporter extends Exporter {
      * @throws IOException if the reader could not be created
      */
     private Reader getReader(String filename) throws IOException {
-        // If this is a custom export, just use the given filename:
-        String dir;
-        if (customExport) {
-            dir = "";
-        } else {
-            dir = LAYOUT_PREFIX + (directory == null ? "" : directory + '/');
-        }
-
         // Attempt to get a Reader for the file path given, either by
         // loading it as a resource (from within JAR), or as a normal file. If
         // unsuccessful (e.g. file not found), an IOException is thrown.
-        String name = dir + filename;
+        String name = getLayoutFilePath(filename);
         Reader reader;
         // Try loading as a resource first. This works for files inside the JAR:
         URL reso = TemplateExporter.class.getResource(name);
@@ -196,6 +206,46 @@ public class TemplateExporter extends Exporter {
         return reader;
     }
 
+    private String getLayoutFilePath(String filename) {
+        // If this is a custom export, just use the given filename:
+        if (customExport) {
+            return filename;
+        } else {
+            return LAYOUT_PREFIX + (directory == null ? "" : directory + '/') + filename;
+        }
+    }
+
+    /**
+     * Builds the layout of the given layout file. The file is only read and parsed again if it has been modified since
+     * it was parsed the last time.
+     *
+     * @throws IOException if the layout file does not exist or could not be read
+     */
+    private Layout getLayout(String filename) throws IOException {
+        String name = getLayoutFilePath(filename);
+        URL resource = TemplateExporter.class.getResource(name);
+        long lastModified;
+        if (resource == null) {
+            Path path = Path.of(name);
+            if (!Files.exists(path)) {
+                throw new IOException("Cannot find layout file: '" + name + "'.");
+            }
+            lastModified = Files.getLastModifiedTime(path).toMillis();
+        } else {
+            lastModified = resource.openConnection().getLastModified();
+        }
+
+        ParsedLayoutFile parsedLayoutFile = PARSED_LAYOUT_FILES.get(name);
+        if ((parsedLayoutFile == null) || (parsedLayoutFile.lastModified != lastModified)) {
+            try (Reader reader = getReader(filename)) {
+                List<StringInt> parsedEntries = new LayoutHelper(reader, layoutPreferences).getParsedEntriesFromText();
+                parsedLayoutFile = new ParsedLayoutFile(lastModified, parsedEntries);
+            }
+            PARSED_LAYOUT_FILES.put(name, parsedLayoutFile);
+        }
+        return new Layout(parsedLayoutFile.parsedEntries, layoutPreferences);
+    }
+
     @Override
     public void export(final BibDatabaseContext databaseContext, final Path file,
             final Charset encoding, List<BibEntry> entries) throws Exception {
@@ -215,9 +265,8 @@ public class TemplateExporter extends Exporter {
             List<String> missingFormatters = new ArrayList<>(1);
 
             // Print header
-            try (Reader reader = getReader(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION)) {
-                LayoutHelper layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                beginLayout = layoutHelper.getLayoutFromText();
+            try {
+                beginLayout = getLayout(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION);
             } catch (IOException ex) {
                 // If an exception was cast, export filter doesn't have a begin
                 // file.
@@ -238,12 +287,7 @@ public class TemplateExporter extends Exporter {
             List<BibEntry> sorted = BibDatabaseWriter.getSortedEntries(databaseContext, entries, savePreferences);
 
             // Load default layout
-            Layout defLayout;
-            LayoutHelper layoutHelper;
-            try (Reader reader = getReader(lfFileName + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                defLayout = layoutHelper.getLayoutFromText();
-            }
+            Layout defLayout = getLayout(lfFileName + LAYOUT_EXTENSION);
             if (defLayout != null) {
                 missingFormatters.addAll(defLayout.getMissingFormatters());
                 if (!missingFormatters.isEmpty()) {
@@ -251,40 +295,35 @@ public class TemplateExporter extends Exporter {
                 }
             }
             Map<EntryType, Layout> layouts = new HashMap<>();
-            Layout layout;
-
-            ExporterFactory.entryNumber = 0;
-            for (BibEntry entry : sorted) {
-                ExporterFactory.entryNumber++; // Increment entry counter.
-                // Get the layout
-                EntryType type = entry.getType();
-                if (layouts.containsKey(type)) {
-                    layout = layouts.get(type);
-                } else {
-                    try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
-                        // We try to get a type-specific layout for this entry.
-                        layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                        layout = layoutHelper.getLayoutFromText();
-                        layouts.put(type, layout);
-                        if (layout != null) {
-                            missingFormatters.addAll(layout.getMissingFormatters());
-                        }
-
-                    } catch (IOException ex) {
-                        // The exception indicates that no type-specific layout
-                        // exists, so we
-                        // go with the default one.
-                        layout = defLayout;
-                    }
+            BibDatabase database = databaseContext.getDatabase();
+
+            // The current group of this export, which is only kept track of by layouts containing group blocks
+            LayoutContext context = new LayoutContext();
+            for (int chunkStart = 0; chunkStart < sorted.size(); chunkStart += ENTRIES_PER_CHUNK) {
+                List<BibEntry> chunk = sorted.subList(chunkStart, Math.min(chunkStart + ENTRIES_PER_CHUNK, sorted.size()));
+
+                // Get the layouts, which may have to be read from disk
+                List<Layout> chunkLayouts = new ArrayList<>(chunk.size());
+                for (BibEntry entry : chunk) {
+                    chunkLayouts.add(getEntryLayout(entry.getType(), layouts, defLayout, missingFormatters));
                 }
 
-                // Write the entry
-                if (layout != null) {
-                    if (deleteBlankLines) {
-                        String withoutBlankLines = BLANK_LINE_MATCHER.matcher(layout.doLayout(entry, databaseContext.getDatabase())).replaceAll("");
-                        ps.write(withoutBlankLines);
-                    } else {
-                        ps.write(layout.doLayout(entry, databaseContext.getDatabase()));
+                // Write the entries in the order they have been sorted in
+                int firstNumber = chunkStart + 1;
+                if (chunkLayouts.stream().anyMatch(Layout::containsGroupBlock)) {
+                    // group headings depend on the entries before, thus the entries are laid out one after another
+                    for (int i = 0; i < chunk.size(); i++) {
+                        context.setEntryNumber(firstNumber + i);
+                        ps.write(doLayout(chunkLayouts.get(i), chunk.get(i), database, context));
+                    }
+                } else {
+                    List<String> laidOutEntries = IntStream.range(0, chunk.size())
+                                                           .parallel()
+                                                           .mapToObj(i -> doLayout(chunkLayouts.get(i), chunk.get(i), database,
+                                                                   new LayoutContext(firstNumber + i, null)))
+                                                           .collect(Collectors.toList());
+                    for (String laidOutEntry : laidOutEntries) {
+                        ps.write(laidOutEntry);
                     }
                 }
             }
@@ -293,9 +332,8 @@ public class TemplateExporter extends Exporter {
 
             // changed section - begin (arudert)
             Layout endLayout = null;
-            try (Reader reader = getReader(lfFileName + END_INFIX + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                endLayout = layoutHelper.getLayoutFromText();
+            try {
+                endLayout = getLayout(lfFileName + END_INFIX + LAYOUT_EXTENSION);
             } catch (IOException ex) {
                 // If an exception was thrown, export filter doesn't have an end
                 // file.
@@ -318,6 +356,36 @@ public class TemplateExporter extends Exporter {
         }
     }
 
+    /**
+     * Returns the type-specific layout of the given entry type, or the default layout if there is none. The layout
+     * files are looked up once per export only.
+     */
+    private Layout getEntryLayout(EntryType type, Map<EntryType, Layout> layouts, Layout defLayout, List<String> missingFormatters) {
+        Layout layout = layouts.get(type);
+        if (layout == null) {
+            try {
+                // We try to get a type-specific layout for this entry.
+                layout = getLayout(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION);
+                missingFormatters.addAll(layout.getMissingFormatters());
+            } catch (IOException ex) {
+                // The exception indicates that no type-specific layout
+                // exists, so we
+                // go with the default one.
+                layout = defLayout;
+            }
+            layouts.put(type, layout);
+        }
+        return layout;
+    }
+
+    private String doLayout(Layout layout, BibEntry entry, BibDatabase database, LayoutContext context) {
+        String laidOutEntry = layout.doLayout(entry, database, context);
+        if (deleteBlankLines) {
+            return BLANK_LINE_MATCHER.matcher(laidOutEntry).replaceAll("");
+        }
+        return laidOutEntry;
+    }
+
     /**
      * See if there is a name formatter file bundled with this export format. If so, read
      * all the name formatters so they can be used by the filter layouts.
@@ -362,4 +430,14 @@ public class TemplateExporter extends Exporter {
     public String getLayoutFileNameWithExtension() {
         return lfFileName + LAYOUT_EXTENSION;
     }
+
+    private static class ParsedLayoutFile {
+        private final long lastModified;
+        private final List<StringInt> parsedEntries;
+
+        ParsedLayoutFile(long lastModified, List<StringInt> parsedEntries) {
+            this.lastModified = lastModified;
+            this.parsedEntries = parsedEntries;
+        }
+    }
 }
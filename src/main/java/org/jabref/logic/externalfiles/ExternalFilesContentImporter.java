@@ -1,23 +1,48 @@
 package org.jabref.logic.externalfiles;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.OpenDatabase;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.PdfContentImporter;
 import org.jabref.logic.importer.fileformat.PdfXmpImporter;
+import org.jabref.logic.pdf.PdfContentCache;
+import org.jabref.logic.xmp.PdfMetadata;
+import org.jabref.logic.xmp.XmpUtilReader;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.util.FileUpdateMonitor;
 
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 public class ExternalFilesContentImporter {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExternalFilesContentImporter.class);
+
     private final ImportFormatPreferences importFormatPreferences;
+    private final Optional<PdfContentCache> pdfContentCache;
 
     public ExternalFilesContentImporter(ImportFormatPreferences importFormatPreferences) {
         this.importFormatPreferences = importFormatPreferences;
+        this.pdfContentCache = Optional.empty();
+    }
+
+    /**
+     * @param pdfContentCache the cache the contents of unchanged PDF files are taken from instead of loading the files
+     *                        again
+     */
+    public ExternalFilesContentImporter(ImportFormatPreferences importFormatPreferences, PdfContentCache pdfContentCache) {
+        this.importFormatPreferences = importFormatPreferences;
+        this.pdfContentCache = Optional.of(pdfContentCache);
     }
 
     public List<BibEntry> importPDFContent(Path file) {
@@ -30,6 +55,42 @@ public class ExternalFilesContentImporter {
 
     }
 
+    /**
+     * Imports the entries of the given PDF file, loading the document at most once. The entries stored as XMP metadata
+     * are preferred. Only if there are none, the entry is extracted from the contents of the first page.
+     *
+     * @return the imported entries, which may be empty if the file could not be read or does not describe an entry
+     */
+    public List<BibEntry> importPDF(Path file) {
+        PdfContentImporter contentImporter = pdfContentCache.map(cache -> new PdfContentImporter(importFormatPreferences, cache))
+                                                            .orElseGet(() -> new PdfContentImporter(importFormatPreferences));
+        Optional<PdfMetadata> cachedMetadata = pdfContentCache.flatMap(cache -> cache.getMetadata(file));
+        try {
+            if (cachedMetadata.isPresent()) {
+                List<BibEntry> xmpEntries = XmpUtilReader.readXmp(file, cachedMetadata.get(), importFormatPreferences.getXmpPreferences());
+                if (!xmpEntries.isEmpty()) {
+                    return xmpEntries;
+                }
+                // the first page may be cached as well, otherwise the document is loaded
+                return contentImporter.importDatabase(file, StandardCharsets.UTF_8).getDatabase().getEntries();
+            }
+
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            try (PDDocument document = XmpUtilReader.loadWithAutomaticDecryption(file)) {
+                PdfMetadata metadata = PdfMetadata.of(document);
+                pdfContentCache.ifPresent(cache -> cache.putMetadata(file, attributes, metadata));
+                List<BibEntry> xmpEntries = XmpUtilReader.readXmp(file, metadata, importFormatPreferences.getXmpPreferences());
+                if (!xmpEntries.isEmpty()) {
+                    return xmpEntries;
+                }
+                return contentImporter.importDatabase(file, attributes, document).getDatabase().getEntries();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not import PDF file {}", file, e);
+            return Collections.emptyList();
+        }
+    }
+
     public List<BibEntry> importFromBibFile(Path bibFile, FileUpdateMonitor fileUpdateMonitor) {
         ParserResult parserResult = OpenDatabase.loadDatabase(bibFile.toString(), importFormatPreferences, fileUpdateMonitor);
         return parserResult.getDatabaseContext().getEntries();
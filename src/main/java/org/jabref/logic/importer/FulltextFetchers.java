@@ -3,21 +3,30 @@ package org.jabref.logic.importer;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.jabref.JabRefExecutorService;
+import org.jabref.logic.net.RequestScheduler;
 import org.jabref.logic.net.URLDownload;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
@@ -35,7 +44,14 @@ public class FulltextFetchers {
     // Timeout in seconds
     private static final int FETCHER_TIMEOUT = 10;
 
+    // Limits of the bulk search: all requests together, requests to one host at the same time, time between two
+    // requests to one host
+    private static final int BULK_CONCURRENT_REQUESTS = 16;
+    private static final int BULK_CONCURRENT_REQUESTS_PER_HOST = 2;
+    private static final Duration BULK_REQUEST_INTERVAL_PER_HOST = Duration.ofMillis(250);
+
     private final Set<FulltextFetcher> finders = new HashSet<>();
+    private final Duration fetcherTimeout;
 
     private final Predicate<String> isPDF = url -> {
         try {
@@ -51,7 +67,12 @@ public class FulltextFetchers {
     }
 
     FulltextFetchers(Set<FulltextFetcher> fetcher) {
+        this(fetcher, Duration.ofSeconds(FETCHER_TIMEOUT));
+    }
+
+    FulltextFetchers(Set<FulltextFetcher> fetcher, Duration fetcherTimeout) {
         finders.addAll(fetcher);
+        this.fetcherTimeout = fetcherTimeout;
     }
 
     public Optional<URL> findFullTextPDF(BibEntry entry) {
@@ -63,7 +84,7 @@ public class FulltextFetchers {
             findDoiForEntry(clonedEntry);
         }
 
-        List<Future<Optional<FetcherResult>>> result = JabRefExecutorService.INSTANCE.executeAll(getCallables(clonedEntry, finders), FETCHER_TIMEOUT, TimeUnit.SECONDS);
+        List<Future<Optional<FetcherResult>>> result = JabRefExecutorService.INSTANCE.executeAll(getCallables(clonedEntry, finders), (int) fetcherTimeout.toMillis(), TimeUnit.MILLISECONDS);
 
         return result.stream()
                      .map(FulltextFetchers::getResults)
@@ -75,6 +96,100 @@ public class FulltextFetchers {
                      .findFirst();
     }
 
+    /**
+     * Looks for the full text PDFs of all given entries at once. The DOI lookups, the fetchers of all entries and the
+     * checks whether the found URLs point to PDFs share one pool of threads. Each fetcher and each host of a found URL
+     * is asked by only a few requests at a time, so that no publisher is flooded. A URL found for several entries or
+     * by several fetchers is checked only once. Like in {@link #findFullTextPDF(BibEntry)}, each fetcher, DOI lookup and
+     * check has to be answered within the timeout, otherwise it does not yield a result.
+     * <p>
+     * Cancelling the returned future stops the search: requests which have not been started yet are dropped.
+     *
+     * @param onResult receives the best URL found for an entry as soon as all fetchers are done with it; it is called
+     *                 from several threads
+     * @return a future which completes when all entries have been handled
+     */
+    public CompletableFuture<Void> findFullTextPDFs(Collection<BibEntry> entries, BiConsumer<BibEntry, Optional<URL>> onResult) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(BULK_CONCURRENT_REQUESTS, runnable -> {
+            Thread thread = new Thread(runnable, "Fulltext search");
+            thread.setDaemon(true);
+            return thread;
+        });
+        RequestScheduler scheduler = new RequestScheduler(executor, BULK_CONCURRENT_REQUESTS_PER_HOST, BULK_REQUEST_INTERVAL_PER_HOST);
+        Map<String, CompletableFuture<Boolean>> pdfChecks = new ConcurrentHashMap<>();
+
+        List<CompletableFuture<Void>> results = new ArrayList<>(entries.size());
+        for (BibEntry entry : entries) {
+            results.add(findFullTextPDF(entry, scheduler, pdfChecks)
+                    .exceptionally(throwable -> {
+                        LOGGER.debug("Failed to find fulltext PDF", throwable);
+                        return Optional.empty();
+                    })
+                    .thenAccept(url -> onResult.accept(entry, url)));
+        }
+        CompletableFuture<Void> search = CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0]));
+        // also runs if the search is cancelled, which stops the requests still running and drops the waiting ones
+        search.whenComplete((result, throwable) -> executor.shutdownNow());
+        return search;
+    }
+
+    private CompletableFuture<Optional<URL>> findFullTextPDF(BibEntry entry, RequestScheduler scheduler, Map<String, CompletableFuture<Boolean>> pdfChecks) {
+        BibEntry clonedEntry = (BibEntry) entry.clone();
+        CompletableFuture<BibEntry> entryWithDoi;
+        if (clonedEntry.getField(StandardField.DOI).flatMap(DOI::parse).isPresent()) {
+            entryWithDoi = CompletableFuture.completedFuture(clonedEntry);
+        } else {
+            // the lookup works on a copy of its own, since it may still run after it has timed out
+            BibEntry lookupEntry = (BibEntry) entry.clone();
+            entryWithDoi = scheduler.schedule(WebFetchers.getIdFetcherForIdentifier(DOI.class).getName(), () -> {
+                findDoiForEntry(lookupEntry);
+                return lookupEntry;
+            }, fetcherTimeout).exceptionally(throwable -> {
+                LOGGER.debug("Failed to find DOI", throwable);
+                return clonedEntry;
+            });
+        }
+
+        return entryWithDoi.thenCompose(withDoi -> {
+            List<CompletableFuture<Optional<FetcherResult>>> candidates = finders
+                    .stream()
+                    .map(fetcher -> findCandidate(withDoi, fetcher, scheduler, pdfChecks))
+                    .collect(Collectors.toList());
+            return CompletableFuture.allOf(candidates.toArray(new CompletableFuture<?>[0]))
+                                    .thenApply(done -> candidates.stream()
+                                                                 .map(CompletableFuture::join)
+                                                                 .filter(Optional::isPresent)
+                                                                 .map(Optional::get)
+                                                                 .filter(res -> Objects.nonNull(res.getSource()))
+                                                                 .max(Comparator.comparingInt((FetcherResult res) -> res.getTrust().getTrustScore()))
+                                                                 .map(FetcherResult::getSource));
+        });
+    }
+
+    /**
+     * Asks the given fetcher for the full text of the entry. Since the fetchers are specialized on one site each, the
+     * requests of a fetcher are limited as if it were a host.
+     */
+    private CompletableFuture<Optional<FetcherResult>> findCandidate(BibEntry entry, FulltextFetcher fetcher, RequestScheduler scheduler, Map<String, CompletableFuture<Boolean>> pdfChecks) {
+        return scheduler.schedule(fetcher.getClass().getName(), () -> fetcher.findFullText(entry), fetcherTimeout)
+                        .handle((url, throwable) -> {
+                            if (throwable != null) {
+                                LOGGER.debug("Failed to find fulltext PDF at given URL", throwable);
+                                return Optional.<URL>empty();
+                            }
+                            return url;
+                        })
+                        .thenCompose(url -> {
+                            if (url.isEmpty()) {
+                                return CompletableFuture.completedFuture(Optional.empty());
+                            }
+                            return pdfChecks.computeIfAbsent(url.get().toString(), key -> scheduler.schedule(url.get().getHost(), () -> isPDF.test(key), fetcherTimeout))
+                                            .handle((isPdf, throwable) -> ((throwable == null) && isPdf)
+                                                    ? Optional.of(new FetcherResult(fetcher.getTrustLevel(), url.get()))
+                                                    : Optional.empty());
+                        });
+    }
+
     private void findDoiForEntry(BibEntry clonedEntry) {
         try {
             WebFetchers.getIdFetcherForIdentifier(DOI.class)
@@ -60,7 +60,7 @@ public interface IdBasedParserFetcher extends IdBasedFetcher {
             return Optional.empty();
         }
 
-        try (InputStream stream = new URLDownload(getURLForID(identifier)).asInputStream()) {
+        try (InputStream stream = new URLDownload(getURLForID(identifier)).asCachedInputStream()) {
             List<BibEntry> fetchedEntries = getParser().parseEntries(stream);
 
             if (fetchedEntries.isEmpty()) {
@@ -55,7 +55,7 @@ public interface SearchBasedParserFetcher extends SearchBasedFetcher {
             return Collections.emptyList();
         }
 
-        try (InputStream stream = new URLDownload(getURLForQuery(query)).asInputStream()) {
+        try (InputStream stream = new URLDownload(getURLForQuery(query)).asCachedInputStream()) {
             List<BibEntry> fetchedEntries = getParser().parseEntries(stream);
 
             // Post-cleanup
@@ -0,0 +1,306 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.util.FileUpdateMonitor;
+
+/**
+ * Index over a memory-mapped BibTeX file for read-mostly use cases (e.g., generating a sub-library from an AUX file).
+ * <p>
+ * Creating the index only determines the byte range and the BibTeX key of each entry. An entry is parsed into a
+ * {@link BibEntry} only when it is requested. Thus, neither the whole file content nor all entries are kept on the
+ * heap.
+ * <p>
+ * The byte ranges of the entries are determined the same way the {@link BibtexParser} splits the file: The range of an
+ * entry starts directly after the previous item and includes comments in front of the entry as well as the newline
+ * after it. Parsing such a range results in the same entry (including its parsed serialization) as parsing the whole
+ * file.
+ * <p>
+ * Only encodings which encode the ASCII characters as single bytes (such as UTF-8 or ISO-8859-1) are supported, because
+ * the file is scanned for the structural characters directly on the byte level.
+ */
+public class BibtexFileIndex {
+
+    private static final String STRUCTURAL_CHARACTERS = "@{}(),\\ \t\r\n";
+
+    private final ByteBuffer content;
+    private final Charset encoding;
+    private final ImportFormatPreferences importFormatPreferences;
+    private final FileUpdateMonitor fileMonitor;
+
+    private final List<Item> entries = new ArrayList<>();
+    private final Map<String, List<Item>> entriesByKey = new HashMap<>();
+
+    /**
+     * Items which are not entries, i.e., strings, preambles and comments
+     */
+    private final List<Item> otherItems = new ArrayList<>();
+    private int epilogStart;
+
+    private BibtexFileIndex(ByteBuffer content, Charset encoding, ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
+        this.content = content;
+        this.encoding = encoding;
+        this.importFormatPreferences = importFormatPreferences;
+        this.fileMonitor = fileMonitor;
+    }
+
+    /**
+     * Maps the given file into memory and indexes its entries. The encoding stated in the file header is used. If
+     * there is none, the encoding of the import preferences is used.
+     *
+     * @throws IOException if the file cannot be read, is larger than 2 GB or uses an unsupported encoding
+     */
+    public static BibtexFileIndex create(Path file, ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) throws IOException {
+        Objects.requireNonNull(importFormatPreferences);
+        Charset encoding = BibtexImporter.getSuppliedEncoding(file).orElse(importFormatPreferences.getEncoding());
+        if (!isAsciiCompatible(encoding)) {
+            throw new IOException("Encoding " + encoding.displayName() + " is not supported for indexing " + file);
+        }
+
+        ByteBuffer content;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("File too large for indexing: " + file);
+            }
+            content = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        BibtexFileIndex index = new BibtexFileIndex(content, encoding, importFormatPreferences, fileMonitor);
+        index.buildIndex();
+        return index;
+    }
+
+    private static boolean isAsciiCompatible(Charset encoding) {
+        if (!encoding.canEncode()) {
+            return false;
+        }
+        byte[] ascii = STRUCTURAL_CHARACTERS.getBytes(StandardCharsets.US_ASCII);
+        return Arrays.equals(ascii, STRUCTURAL_CHARACTERS.getBytes(encoding));
+    }
+
+    private void buildIndex() {
+        int size = content.limit();
+        int itemStart = 0;
+        int position = 0;
+
+        while ((position = indexOf('@', position)) >= 0) {
+            int typeEnd = skipWhile(position + 1, Character::isLetter);
+            String type = decode(position + 1, typeEnd).toLowerCase(Locale.ROOT);
+            int delimiterPosition = skipWhile(typeEnd, Character::isWhitespace);
+            if ((delimiterPosition >= size) || type.isEmpty()
+                    || ((content.get(delimiterPosition) != '{') && (content.get(delimiterPosition) != '('))) {
+                // not an item, the parser treats the text as comment belonging to the next item
+                position++;
+                continue;
+            }
+
+            int closingPosition = findClosingDelimiter(delimiterPosition);
+            if (closingPosition < 0) {
+                // unterminated item, the remaining text is handled as epilog
+                break;
+            }
+            int itemEnd = skipNewline(closingPosition + 1);
+
+            if ("string".equals(type) || "preamble".equals(type) || "comment".equals(type)) {
+                otherItems.add(new Item(itemStart, itemEnd, null));
+            } else {
+                int keyStart = skipWhile(delimiterPosition + 1, Character::isWhitespace);
+                int keyEnd = skipWhile(keyStart, character -> (character != ',') && (character != '}') && (character != ')')
+                        && !Character.isWhitespace(character));
+                Item entry = new Item(itemStart, itemEnd, decode(keyStart, keyEnd));
+                entries.add(entry);
+                entriesByKey.computeIfAbsent(entry.citeKey, key -> new ArrayList<>(1)).add(entry);
+            }
+
+            itemStart = itemEnd;
+            position = itemEnd;
+        }
+
+        epilogStart = itemStart;
+    }
+
+    private int indexOf(char character, int from) {
+        for (int i = from; i < content.limit(); i++) {
+            if (content.get(i) == character) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int skipWhile(int from, CharacterPredicate predicate) {
+        int position = from;
+        // bytes of multi-byte sequences are never ASCII characters, so they are treated as letters (if at all)
+        while ((position < content.limit()) && predicate.test((char) (content.get(position) & 0xFF))) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Returns the position of the bracket closing the item opened at the given position. Escaped curly brackets are
+     * ignored, as the parser does.
+     */
+    private int findClosingDelimiter(int openingPosition) {
+        boolean roundBrackets = content.get(openingPosition) == '(';
+        int depth = roundBrackets ? 0 : 1;
+        byte lastCharacter = 0;
+        for (int i = openingPosition + 1; i < content.limit(); i++) {
+            byte character = content.get(i);
+            if ((character == '{') && (lastCharacter != '\\')) {
+                depth++;
+            } else if ((character == '}') && (lastCharacter != '\\')) {
+                depth--;
+                if (depth == 0 && !roundBrackets) {
+                    return i;
+                }
+            } else if ((character == ')') && roundBrackets && (depth == 0)) {
+                return i;
+            }
+            lastCharacter = character;
+        }
+        return -1;
+    }
+
+    /**
+     * Skips spaces and one newline, as {@link BibtexParser} does after each item
+     */
+    private int skipNewline(int from) {
+        int position = skipWhile(from, character -> character == ' ');
+        if ((position < content.limit()) && (content.get(position) == '\r')) {
+            position++;
+        }
+        if ((position < content.limit()) && (content.get(position) == '\n')) {
+            position++;
+        }
+        return position;
+    }
+
+    private String decode(int start, int end) {
+        ByteBuffer range = content.duplicate();
+        range.position(start);
+        range.limit(end);
+        return encoding.decode(range).toString();
+    }
+
+    public int getEntryCount() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the BibTeX keys of all entries. Entries without a key are represented by an empty string.
+     */
+    public Set<String> getCiteKeys() {
+        return Collections.unmodifiableSet(entriesByKey.keySet());
+    }
+
+    public boolean containsKey(String citeKey) {
+        return entriesByKey.containsKey(citeKey);
+    }
+
+    /**
+     * Parses and returns the first entry having the given BibTeX key.
+     */
+    public Optional<BibEntry> getEntryByKey(String citeKey) throws IOException {
+        List<Item> items = entriesByKey.getOrDefault(citeKey, Collections.emptyList());
+        if (items.isEmpty()) {
+            return Optional.empty();
+        }
+        return parse(items.get(0)).getDatabase().getEntries().stream().findFirst();
+    }
+
+    /**
+     * Loads a library containing the entries with the given BibTeX keys and all entries referenced by them via
+     * crossref. The strings, the preamble, the epilog and the meta data of the file are always loaded.
+     *
+     * @param citeKeys the keys of the entries to load. Unknown keys are ignored.
+     */
+    public ParserResult load(Collection<String> citeKeys) throws IOException {
+        StringBuilder otherContent = new StringBuilder();
+        for (Item item : otherItems) {
+            otherContent.append(decode(item.start, item.end));
+        }
+        otherContent.append(decode(epilogStart, content.limit()));
+        ParserResult result = new BibtexParser(importFormatPreferences, fileMonitor).parse(new StringReader(otherContent.toString()));
+
+        Map<Item, BibEntry> loadedEntries = new TreeMap<>(Comparator.comparingInt(item -> item.start));
+        Deque<Item> itemsToLoad = new ArrayDeque<>();
+        for (String citeKey : citeKeys) {
+            itemsToLoad.addAll(entriesByKey.getOrDefault(citeKey, Collections.emptyList()));
+        }
+
+        while (!itemsToLoad.isEmpty()) {
+            Item item = itemsToLoad.poll();
+            if (loadedEntries.containsKey(item)) {
+                continue;
+            }
+
+            ParserResult entryResult = parse(item);
+            entryResult.warnings().forEach(result::addWarning);
+            Optional<BibEntry> entry = entryResult.getDatabase().getEntries().stream().findFirst();
+            if (entry.isPresent()) {
+                entry.get().unregisterListener(entryResult.getDatabase());
+                loadedEntries.put(item, entry.get());
+                entry.get().getField(StandardField.CROSSREF)
+                     .ifPresent(crossref -> itemsToLoad.addAll(entriesByKey.getOrDefault(crossref, Collections.emptyList())));
+            }
+        }
+
+        BibDatabase database = result.getDatabase();
+        for (BibEntry entry : loadedEntries.values()) {
+            boolean duplicateKey = database.insertEntry(entry);
+            if (duplicateKey) {
+                result.addDuplicateKey(entry.getCiteKeyOptional().orElse(""));
+            }
+        }
+        return result;
+    }
+
+    private ParserResult parse(Item item) throws IOException {
+        return new BibtexParser(importFormatPreferences, fileMonitor).parse(new StringReader(decode(item.start, item.end)));
+    }
+
+    @FunctionalInterface
+    private interface CharacterPredicate {
+        boolean test(char character);
+    }
+
+    private static class Item {
+        private final int start;
+        private final int end;
+        private final String citeKey;
+
+        Item(int start, int end, String citeKey) {
+            this.start = start;
+            this.end = end;
+            this.citeKey = citeKey;
+        }
+    }
+}
@@ -48,17 +48,7 @@ public class BibtexImporter extends Importer {
         // which character encoding is used. However, to read the signature we must be using a compatible
         // encoding in the first place. Since the signature doesn't contain any fancy characters, we can
         // read it regardless of encoding, with either UTF-8 or UTF-16. That's the hypothesis, at any rate.
-        // 8 bit is most likely, so we try that first:
-        Optional<Charset> suppliedEncoding;
-        try (BufferedReader utf8Reader = getUTF8Reader(filePath)) {
-            suppliedEncoding = getSuppliedEncoding(utf8Reader);
-        }
-        // Now if that did not get us anywhere, we check with the 16 bit encoding:
-        if (!suppliedEncoding.isPresent()) {
-            try (BufferedReader utf16Reader = getUTF16Reader(filePath)) {
-                suppliedEncoding = getSuppliedEncoding(utf16Reader);
-            }
-        }
+        Optional<Charset> suppliedEncoding = getSuppliedEncoding(filePath);
 
         if (suppliedEncoding.isPresent()) {
             return super.importDatabase(filePath, suppliedEncoding.get());
@@ -69,7 +59,7 @@ public class BibtexImporter extends Importer {
 
     @Override
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
-        return new BibtexParser(importFormatPreferences, fileMonitor).parse(reader);
+        return new ParallelBibtexParser(importFormatPreferences, fileMonitor).parse(reader);
     }
 
     @Override
@@ -89,6 +79,24 @@ public class BibtexImporter extends Importer {
                 "The metadata is not required to be read here, as this class is NOT called at --import.";
     }
 
+    /**
+     * Searches the given file for "Encoding: myEncoding" and returns the found supplied encoding.
+     */
+    static Optional<Charset> getSuppliedEncoding(Path filePath) throws IOException {
+        // 8 bit is most likely, so we try that first:
+        Optional<Charset> suppliedEncoding;
+        try (BufferedReader utf8Reader = getUTF8Reader(filePath)) {
+            suppliedEncoding = getSuppliedEncoding(utf8Reader);
+        }
+        // Now if that did not get us anywhere, we check with the 16 bit encoding:
+        if (!suppliedEncoding.isPresent()) {
+            try (BufferedReader utf16Reader = getUTF16Reader(filePath)) {
+                suppliedEncoding = getSuppliedEncoding(utf16Reader);
+            }
+        }
+        return suppliedEncoding;
+    }
+
     /**
      * Searches the file for "Encoding: myEncoding" and returns the found supplied encoding.
      */
@@ -4,14 +4,11 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.PushbackReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -65,10 +62,20 @@ public class BibtexParser implements Parser {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibtexParser.class);
 
     private static final Integer LOOKAHEAD = 64;
+    private static final int READ_BUFFER_SIZE = 8192;
     private final FieldContentFormatter fieldContentFormatter;
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
+    /**
+     * Holds the text read since the last call of {@link #dumpTextReadSoFarToString()}. The builder is reused for the
+     * whole parse run so that recording the raw text does not allocate per character.
+     */
+    private final StringBuilder pureTextFromFile = new StringBuilder();
     private final ImportFormatPreferences importFormatPreferences;
-    private PushbackReader pushbackReader;
+    private final char[] readBuffer = new char[READ_BUFFER_SIZE];
+    private final char[] pushbackBuffer = new char[LOOKAHEAD];
+    private Reader reader;
+    private int readBufferPosition;
+    private int readBufferLimit;
+    private int pushbackCount;
     private BibDatabase database;
     private Set<BibEntryType> entryTypes;
     private boolean eof;
@@ -131,7 +138,10 @@ public class BibtexParser implements Parser {
      */
     public ParserResult parse(Reader in) throws IOException {
         Objects.requireNonNull(in);
-        pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+        reader = in;
+        readBufferPosition = 0;
+        readBufferLimit = 0;
+        pushbackCount = 0;
 
         // Bibtex related contents.
         initializeParserResult();
@@ -359,12 +369,9 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
-        }
-
-        return entry.toString();
+        String text = pureTextFromFile.toString();
+        pureTextFromFile.setLength(0);
+        return text;
     }
 
     /**
@@ -374,8 +381,8 @@ public class BibtexParser implements Parser {
      */
     private String purgeEOFCharacters(String input) {
 
-        StringBuilder remainingText = new StringBuilder();
-        for (Character character : input.toCharArray()) {
+        StringBuilder remainingText = new StringBuilder(input.length());
+        for (char character : input.toCharArray()) {
             if (!(isEOFCharacter(character))) {
                 remainingText.append(character);
             }
@@ -467,10 +474,10 @@ public class BibtexParser implements Parser {
     }
 
     private int read() throws IOException {
-        int character = pushbackReader.read();
+        int character = readFromBuffer();
 
         if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
+            pureTextFromFile.append((char) character);
         }
         if (character == '\n') {
             line++;
@@ -478,13 +485,51 @@ public class BibtexParser implements Parser {
         return character;
     }
 
+    /**
+     * Returns the next character, taking pushed back characters into account. The underlying reader is consumed in
+     * blocks of {@link #READ_BUFFER_SIZE} characters.
+     *
+     * @return the next character or -1 if the end of the stream has been reached
+     */
+    private int readFromBuffer() throws IOException {
+        if (pushbackCount > 0) {
+            pushbackCount--;
+            return pushbackBuffer[pushbackCount];
+        }
+
+        if (readBufferPosition >= readBufferLimit) {
+            int charactersRead;
+            do {
+                charactersRead = reader.read(readBuffer, 0, readBuffer.length);
+            } while (charactersRead == 0);
+
+            readBufferPosition = 0;
+            if (charactersRead < 0) {
+                readBufferLimit = 0;
+                return -1;
+            }
+            readBufferLimit = charactersRead;
+        }
+
+        char character = readBuffer[readBufferPosition];
+        readBufferPosition++;
+        return character;
+    }
+
     private void unread(int character) throws IOException {
         if (character == '\n') {
             line--;
         }
-        pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
+        if (pushbackCount == pushbackBuffer.length) {
+            throw new IOException("Pushback buffer overflow");
+        }
+        // an unread EOF (-1) is stored as 65535, just as a PushbackReader would do
+        pushbackBuffer[pushbackCount] = (char) character;
+        pushbackCount++;
+
+        int lastIndex = pureTextFromFile.length() - 1;
+        if ((lastIndex >= 0) && (pureTextFromFile.charAt(lastIndex) == character)) {
+            pureTextFromFile.setLength(lastIndex);
         }
     }
 
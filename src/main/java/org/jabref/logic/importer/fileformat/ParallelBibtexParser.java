@@ -0,0 +1,269 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParseException;
+import org.jabref.logic.importer.Parser;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.KeyCollisionException;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryType;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Parses BibTeX files using all available cores.
+ * <p>
+ * The content is split at top-level entry boundaries into chunks, which are parsed independently by {@link
+ * BibtexParser}s on the common fork-join pool. The partial results are merged in file order afterwards. This works,
+ * because the parser does not resolve <code>@string</code> references while parsing.
+ * <p>
+ * To keep the semantics of a sequential parse, the following rules apply:
+ * <ul>
+ * <li>Chunks only end directly after an entry, a string or a preamble (including its trailing newline), so that any
+ * comment in front of an entry stays part of the entry's parsed serialization.</li>
+ * <li>The content is not split anymore after the first <code>@comment</code>. Thus, JabRef's meta data and custom
+ * entry types are always handled by a single parser (the one of the last chunk).</li>
+ * <li>If any chunk reports a warning or the chunks cannot be merged without a conflict, the content is parsed again
+ * sequentially. This keeps all warnings (including their line numbers) exactly the same.</li>
+ * </ul>
+ */
+public class ParallelBibtexParser implements Parser {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelBibtexParser.class);
+
+    /**
+     * Files with fewer characters than this are parsed sequentially
+     */
+    private static final int MINIMUM_CHUNK_SIZE = 256 * 1024;
+
+    /**
+     * Number of chunks per core. Using more than one chunk per core evens out differences in the chunk parsing times.
+     */
+    private static final int CHUNKS_PER_CORE = 4;
+
+    private final ImportFormatPreferences importFormatPreferences;
+    private final FileUpdateMonitor fileMonitor;
+    private final int minimumChunkSize;
+
+    public ParallelBibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
+        this(importFormatPreferences, fileMonitor, MINIMUM_CHUNK_SIZE);
+    }
+
+    ParallelBibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor, int minimumChunkSize) {
+        this.importFormatPreferences = Objects.requireNonNull(importFormatPreferences);
+        this.fileMonitor = fileMonitor;
+        this.minimumChunkSize = minimumChunkSize;
+    }
+
+    @Override
+    public List<BibEntry> parseEntries(InputStream inputStream) throws ParseException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        try {
+            return parse(reader).getDatabase().getEntries();
+        } catch (IOException e) {
+            throw new ParseException(e);
+        }
+    }
+
+    /**
+     * Parses the BibTeX data read from the given reader. The reader will be consumed.
+     *
+     * @return the same result as {@link BibtexParser#parse(Reader)}
+     */
+    public ParserResult parse(Reader reader) throws IOException {
+        Objects.requireNonNull(reader);
+        String content = readFully(reader);
+
+        int chunkSize = Math.max(minimumChunkSize, content.length() / (ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_CORE));
+        List<String> chunks = splitIntoChunks(content, chunkSize);
+        if (chunks.size() < 2) {
+            return parseSequentially(content);
+        }
+
+        List<ParserResult> chunkResults;
+        try {
+            chunkResults = chunks.parallelStream()
+                                 .map(this::parseChunk)
+                                 .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            LOGGER.debug("Could not parse chunk, parsing sequentially", e);
+            return parseSequentially(content);
+        }
+
+        Optional<ParserResult> mergedResult = merge(chunkResults);
+        if (mergedResult.isPresent()) {
+            return mergedResult.get();
+        }
+        LOGGER.debug("Could not merge parsed chunks, parsing sequentially");
+        return parseSequentially(content);
+    }
+
+    private ParserResult parseSequentially(String content) throws IOException {
+        return new BibtexParser(importFormatPreferences, fileMonitor).parse(new StringReader(content));
+    }
+
+    private ParserResult parseChunk(String chunk) {
+        try {
+            return parseSequentially(chunk);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String readFully(Reader reader) throws IOException {
+        StringBuilder content = new StringBuilder();
+        char[] buffer = new char[8192];
+        int charactersRead;
+        while ((charactersRead = reader.read(buffer)) != -1) {
+            content.append(buffer, 0, charactersRead);
+        }
+        return content.toString();
+    }
+
+    /**
+     * Splits the given content into chunks of at least the given size. A chunk always ends directly after the closing
+     * bracket of a top-level item, the spaces following it and one newline - which is exactly the text the parser
+     * attributes to the item itself. The remaining whitespace up to the next <code>@</code> belongs to the next chunk.
+     */
+    static List<String> splitIntoChunks(String content, int chunkSize) {
+        List<String> chunks = new ArrayList<>();
+        int chunkStart = 0;
+        int depth = 0;
+        char lastCharacter = '\0';
+
+        for (int i = 0; i < content.length(); i++) {
+            char character = content.charAt(i);
+            if ((character == '{') && (lastCharacter != '\\')) {
+                depth++;
+            } else if ((character == '}') && (lastCharacter != '\\')) {
+                depth = Math.max(0, depth - 1);
+            } else if ((character == '@') && (depth == 0)) {
+                if (isCommentStart(content, i)) {
+                    // all comments (and thus the meta data) have to be handled by the parser of the last chunk
+                    break;
+                }
+                if ((i - chunkStart) >= chunkSize) {
+                    int chunkEnd = findEndOfPreviousItem(content, i);
+                    if (chunkEnd > chunkStart) {
+                        chunks.add(content.substring(chunkStart, chunkEnd));
+                        chunkStart = chunkEnd;
+                    }
+                }
+            }
+            lastCharacter = character;
+        }
+
+        chunks.add(content.substring(chunkStart));
+        return chunks;
+    }
+
+    private static boolean isCommentStart(String content, int atPosition) {
+        int typeStart = atPosition + 1;
+        while ((typeStart < content.length()) && Character.isWhitespace(content.charAt(typeStart))) {
+            typeStart++;
+        }
+        int typeEnd = Math.min(content.length(), typeStart + "comment".length());
+        return "comment".equals(content.substring(typeStart, typeEnd).toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Determines the end of the item in front of the <code>@</code> at the given position, mimicking the parser's
+     * handling of the newline after an item.
+     *
+     * @return the position after the previous item or -1 if the <code>@</code> is not preceded by a closing bracket
+     * and whitespace only
+     */
+    private static int findEndOfPreviousItem(String content, int atPosition) {
+        int closingBracket = atPosition - 1;
+        while ((closingBracket >= 0) && Character.isWhitespace(content.charAt(closingBracket))) {
+            closingBracket--;
+        }
+        if ((closingBracket < 0) || ((content.charAt(closingBracket) != '}') && (content.charAt(closingBracket) != ')'))) {
+            return -1;
+        }
+
+        int end = closingBracket + 1;
+        while ((end < atPosition) && (content.charAt(end) == ' ')) {
+            end++;
+        }
+        if ((end < atPosition) && (content.charAt(end) == '\r')) {
+            end++;
+        }
+        if ((end < atPosition) && (content.charAt(end) == '\n')) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Merges the results of the chunks in order.
+     *
+     * @return the merged result or an empty optional if the chunks could not be merged such that the result equals the
+     * result of a sequential parse
+     */
+    private Optional<ParserResult> merge(List<ParserResult> chunkResults) {
+        ParserResult lastResult = chunkResults.get(chunkResults.size() - 1);
+        for (ParserResult chunkResult : chunkResults) {
+            if (chunkResult.hasWarnings() || chunkResult.isInvalid()) {
+                return Optional.empty();
+            }
+            if ((chunkResult != lastResult) && !chunkResult.getDatabase().getEpilog().isEmpty()) {
+                // text after the last item of a chunk would have been attributed to the next entry
+                return Optional.empty();
+            }
+        }
+
+        BibDatabase database = new BibDatabase();
+        chunkResults.get(0).getDatabase().getSharedDatabaseID().ifPresent(database::setSharedDatabaseID);
+        Set<BibEntryType> entryTypes = new HashSet<>();
+        ParserResult result = new ParserResult(database, lastResult.getMetaData(), entryTypes);
+
+        for (ParserResult chunkResult : chunkResults) {
+            BibDatabase chunkDatabase = chunkResult.getDatabase();
+            entryTypes.addAll(chunkResult.getEntryTypes());
+            chunkDatabase.getPreamble().ifPresent(database::setPreamble);
+
+            for (BibtexString string : chunkDatabase.getStringValues()) {
+                try {
+                    database.addString(string);
+                } catch (KeyCollisionException e) {
+                    // the sequential parser reports a warning for that
+                    return Optional.empty();
+                }
+            }
+
+            for (BibEntry entry : chunkDatabase.getEntries()) {
+                entry.unregisterListener(chunkDatabase);
+                boolean duplicateKey = database.insertEntry(entry);
+                if (duplicateKey) {
+                    result.addDuplicateKey(entry.getCiteKeyOptional().orElse(""));
+                }
+            }
+        }
+
+        database.setEpilog(lastResult.getDatabase().getEpilog());
+        return Optional.of(result);
+    }
+}
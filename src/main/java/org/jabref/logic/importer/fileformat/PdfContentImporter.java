@@ -4,7 +4,9 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Locale;
 import java.util.Objects;
@@ -18,6 +20,7 @@ import org.jabref.logic.importer.Importer;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fetcher.DoiFetcher;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.pdf.PdfContentCache;
 import org.jabref.logic.util.OS;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.logic.xmp.EncryptedPdfsNotSupportedException;
@@ -44,6 +47,7 @@ public class PdfContentImporter extends Importer {
 
     private static final Pattern YEAR_EXTRACT_PATTERN = Pattern.compile("\\d{4}");
     private final ImportFormatPreferences importFormatPreferences;
+    private final Optional<PdfContentCache> cache;
     // input lines into several lines
     private String[] lines;
     // current index in lines
@@ -53,7 +57,15 @@ public class PdfContentImporter extends Importer {
 
     public PdfContentImporter(ImportFormatPreferences importFormatPreferences) {
         this.importFormatPreferences = importFormatPreferences;
+        this.cache = Optional.empty();
+    }
 
+    /**
+     * @param cache the cache the first page of unchanged files is taken from instead of loading the files again
+     */
+    public PdfContentImporter(ImportFormatPreferences importFormatPreferences, PdfContentCache cache) {
+        this.importFormatPreferences = importFormatPreferences;
+        this.cache = Optional.of(cache);
     }
 
     /**
@@ -204,10 +216,43 @@ public class PdfContentImporter extends Importer {
 
     @Override
     public ParserResult importDatabase(Path filePath, Charset defaultEncoding) {
-        final ArrayList<BibEntry> result = new ArrayList<>(1);
-        try (PDDocument document = XmpUtilReader.loadWithAutomaticDecryption(filePath)) {
-            String firstPageContents = getFirstPageContents(document);
+        Optional<String> cachedFirstPageContents = cache.flatMap(textCache -> textCache.getFirstPageText(filePath));
+        if (cachedFirstPageContents.isPresent()) {
+            return importFirstPageContents(filePath, cachedFirstPageContents.get());
+        }
+
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            try (PDDocument document = XmpUtilReader.loadWithAutomaticDecryption(filePath)) {
+                return importDatabase(filePath, attributes, document);
+            }
+        } catch (EncryptedPdfsNotSupportedException e) {
+            return ParserResult.fromErrorMessage(Localization.lang("Decryption not supported."));
+        } catch (IOException exception) {
+            return ParserResult.fromError(exception);
+        }
+    }
 
+    /**
+     * Imports the entry described by the first page of the given already loaded document. The document is not closed.
+     *
+     * @param filePath   the path the document has been loaded from, which is linked to the entry
+     * @param attributes the attributes of the file read before the document has been loaded
+     */
+    public ParserResult importDatabase(Path filePath, BasicFileAttributes attributes, PDDocument document) {
+        String firstPageContents;
+        try {
+            firstPageContents = getFirstPageContents(document);
+        } catch (IOException exception) {
+            return ParserResult.fromError(exception);
+        }
+        cache.ifPresent(textCache -> textCache.putFirstPageText(filePath, attributes, firstPageContents));
+        return importFirstPageContents(filePath, firstPageContents);
+    }
+
+    private ParserResult importFirstPageContents(Path filePath, String firstPageContents) {
+        final ArrayList<BibEntry> result = new ArrayList<>(1);
+        try {
             Optional<DOI> doi = DOI.findInText(firstPageContents);
             if (doi.isPresent()) {
                 ParserResult parserResult = new ParserResult(result);
@@ -219,11 +264,6 @@ public class PdfContentImporter extends Importer {
 
             Optional<BibEntry> entry = getEntryFromPDFContent(firstPageContents, OS.NEWLINE);
             entry.ifPresent(result::add);
-
-        } catch (EncryptedPdfsNotSupportedException e) {
-            return ParserResult.fromErrorMessage(Localization.lang("Decryption not supported."));
-        } catch (IOException exception) {
-            return ParserResult.fromError(exception);
         } catch (FetcherException e) {
             return ParserResult.fromErrorMessage(e.getMessage());
         }
@@ -55,7 +55,7 @@ public class ShortDOIService {
         URLDownload urlDownload = new URLDownload(url);
 
         try {
-            return JsonReader.toJsonObject(urlDownload.asInputStream());
+            return JsonReader.toJsonObject(urlDownload.asCachedInputStream());
         } catch (ParseException | IOException | JSONException e) {
             throw new ShortDOIServiceException("Cannot get short DOI", e);
         }
@@ -18,6 +18,11 @@ public class BibtexkeyDeviationChecker implements Checker {
     private final BibDatabaseContext bibDatabaseContext;
     private final BibtexKeyPatternPreferences bibtexKeyPatternPreferences;
 
+    /**
+     * The generator is created on first use and shared by all checked entries
+     */
+    private volatile BibtexKeyGenerator keyGenerator;
+
     public BibtexkeyDeviationChecker(BibDatabaseContext bibDatabaseContext, BibtexKeyPatternPreferences bibtexKeyPatternPreferences) {
         this.bibDatabaseContext = Objects.requireNonNull(bibDatabaseContext);
         this.bibtexKeyPatternPreferences = Objects.requireNonNull(bibtexKeyPatternPreferences);
@@ -33,7 +38,7 @@ public class BibtexkeyDeviationChecker implements Checker {
         String key = valuekey.get();
 
         // generate new key
-        String generatedKey = new BibtexKeyGenerator(bibDatabaseContext, bibtexKeyPatternPreferences).generateKey(entry);
+        String generatedKey = getKeyGenerator().generateKey(entry);
 
         if (!Objects.equals(key, generatedKey)) {
             return Collections.singletonList(new IntegrityMessage(
@@ -43,4 +48,12 @@ public class BibtexkeyDeviationChecker implements Checker {
         return Collections.emptyList();
     }
 
+    private BibtexKeyGenerator getKeyGenerator() {
+        BibtexKeyGenerator generator = keyGenerator;
+        if (generator == null) {
+            generator = new BibtexKeyGenerator(bibDatabaseContext, bibtexKeyPatternPreferences);
+            keyGenerator = generator;
+        }
+        return generator;
+    }
 }
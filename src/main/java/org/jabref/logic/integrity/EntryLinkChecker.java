@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.jabref.logic.integrity.IntegrityCheck.Checker;
 import org.jabref.logic.l10n.Localization;
@@ -16,11 +17,23 @@ import org.jabref.model.entry.field.FieldProperty;
 
 public class EntryLinkChecker implements Checker {
 
-    private final BibDatabase database;
-
+    private final Predicate<String> keyExists;
 
     public EntryLinkChecker(BibDatabase database) {
-        this.database = Objects.requireNonNull(database);
+        Objects.requireNonNull(database);
+        this.keyExists = key -> database.getEntryByKey(key).isPresent();
+    }
+
+    private EntryLinkChecker(Predicate<String> keyExists) {
+        this.keyExists = keyExists;
+    }
+
+    /**
+     * Creates a checker which looks up the referenced keys in the given keys of the database collected beforehand
+     * instead of the database itself.
+     */
+    public static EntryLinkChecker forKeys(Set<String> keys) {
+        return new EntryLinkChecker(Objects.requireNonNull(keys)::contains);
     }
 
     @Override
@@ -29,14 +42,14 @@ public class EntryLinkChecker implements Checker {
         for (Entry<Field, String> field : entry.getFieldMap().entrySet()) {
             Set<FieldProperty> properties = field.getKey().getProperties();
             if (properties.contains(FieldProperty.SINGLE_ENTRY_LINK)) {
-                if (!database.getEntryByKey(field.getValue()).isPresent()) {
+                if (!keyExists.test(field.getValue())) {
                     result.add(new IntegrityMessage(Localization.lang("Referenced BibTeX key does not exist"), entry,
                             field.getKey()));
                 }
             } else if (properties.contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
                 List<String> keys = new ArrayList<>(Arrays.asList(field.getValue().split(",")));
                 for (String key : keys) {
-                    if (!database.getEntryByKey(key).isPresent()) {
+                    if (!keyExists.test(key)) {
                         result.add(new IntegrityMessage(
                                 Localization.lang("Referenced BibTeX key does not exist") + ": " + key, entry,
                                 field.getKey()));
@@ -1,6 +1,5 @@
 package org.jabref.logic.integrity;
 
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
@@ -18,6 +17,11 @@ public class FileChecker implements ValueChecker {
     private final BibDatabaseContext context;
     private final FilePreferences filePreferences;
 
+    /**
+     * The file directories of the database, determined on first use
+     */
+    private volatile List<Path> directories;
+
     public FileChecker(BibDatabaseContext context, FilePreferences filePreferences) {
         this.context = context;
         this.filePreferences = filePreferences;
@@ -34,12 +38,24 @@ public class FileChecker implements ValueChecker {
                 .collect(Collectors.toList());
 
         for (LinkedFile file : linkedFiles) {
-            Optional<Path> linkedFile = file.findIn(context, filePreferences);
-            if ((!linkedFile.isPresent()) || !Files.exists(linkedFile.get())) {
+            // findIn only returns existing files
+            Optional<Path> linkedFile = context.getFileDirectoryCache()
+                                               .map(cache -> file.findIn(getDirectories(), cache))
+                                               .orElseGet(() -> file.findIn(getDirectories()));
+            if (linkedFile.isEmpty()) {
                 return Optional.of(Localization.lang("link should refer to a correct file path"));
             }
         }
 
         return Optional.empty();
     }
+
+    private List<Path> getDirectories() {
+        List<Path> fileDirectories = directories;
+        if (fileDirectories == null) {
+            fileDirectories = context.getFileDirectoriesAsPaths(filePreferences);
+            directories = fileDirectories;
+        }
+        return fileDirectories;
+    }
 }
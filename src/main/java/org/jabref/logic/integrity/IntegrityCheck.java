@@ -1,8 +1,13 @@
 package org.jabref.logic.integrity;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.bibtexkeypattern.BibtexKeyPatternPreferences;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
@@ -13,6 +18,11 @@ import org.jabref.model.metadata.FilePreferences;
 
 public class IntegrityCheck {
 
+    /**
+     * The entries checked in parallel before their messages are handed on
+     */
+    private static final int ENTRIES_PER_CHUNK = 2048;
+
     private final BibDatabaseContext bibDatabaseContext;
     private final FilePreferences filePreferences;
     private final BibtexKeyPatternPreferences bibtexKeyPatternPreferences;
@@ -36,49 +46,94 @@ public class IntegrityCheck {
 
     public List<IntegrityMessage> checkDatabase() {
         List<IntegrityMessage> result = new ArrayList<>();
+        checkEntries(bibDatabaseContext.getDatabase().getEntries(), result::addAll, progress -> {
+            // no progress is reported
+        });
+        return result;
+    }
 
+    /**
+     * Checks the given entries of the database in parallel. The checkers are created once for all entries and look up
+     * the keys of the database in a set determined beforehand. The messages are passed to the given consumer chunk by
+     * chunk in the order of the entries. The check stops if the calling thread is interrupted.
+     *
+     * @param messageConsumer  receives the messages of the entries checked so far, may be called with an empty list
+     * @param progressListener receives the fraction of the checked entries
+     */
+    public void checkEntries(List<BibEntry> entries, Consumer<List<IntegrityMessage>> messageConsumer,
+                             DoubleConsumer progressListener) {
+        List<BibEntry> entriesToCheck = new ArrayList<>(entries);
+        Set<String> keys = new HashSet<>();
         for (BibEntry entry : bibDatabaseContext.getDatabase().getEntries()) {
-            result.addAll(checkEntry(entry));
+            entry.getCiteKeyOptional().ifPresent(keys::add);
         }
+        List<Checker> checkers = createCheckers(EntryLinkChecker.forKeys(keys));
+        progressListener.accept(0);
 
-        return result;
+        for (int chunkStart = 0; chunkStart < entriesToCheck.size(); chunkStart += ENTRIES_PER_CHUNK) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+
+            int chunkEnd = Math.min(chunkStart + ENTRIES_PER_CHUNK, entriesToCheck.size());
+            List<IntegrityMessage> messages = entriesToCheck.subList(chunkStart, chunkEnd)
+                                                            .parallelStream()
+                                                            .flatMap(entry -> check(checkers, entry).stream())
+                                                            .collect(Collectors.toList());
+            messageConsumer.accept(messages);
+            progressListener.accept((double) chunkEnd / entriesToCheck.size());
+        }
     }
 
     public List<IntegrityMessage> checkEntry(BibEntry entry) {
-        List<IntegrityMessage> result = new ArrayList<>();
-
         if (entry == null) {
-            return result;
+            return new ArrayList<>();
+        }
+
+        return check(createCheckers(new EntryLinkChecker(bibDatabaseContext.getDatabase())), entry);
+    }
+
+    private static List<IntegrityMessage> check(List<Checker> checkers, BibEntry entry) {
+        List<IntegrityMessage> result = new ArrayList<>();
+        for (Checker checker : checkers) {
+            result.addAll(checker.check(entry));
         }
+        return result;
+    }
 
+    /**
+     * Creates all checkers in the order their messages are reported. The checkers do not keep any state between the
+     * checked entries, thus they can check several entries at the same time.
+     *
+     * @param entryLinkChecker the checker of the references to other entries, which either looks up the keys in the
+     *                         database or in a set of keys collected beforehand
+     */
+    private List<Checker> createCheckers(EntryLinkChecker entryLinkChecker) {
         FieldCheckers fieldCheckers = new FieldCheckers(bibDatabaseContext,
                                                         filePreferences,
                                                         journalAbbreviationRepository,
                                                         enforceLegalKey,
                                                         allowIntegerEdition);
-        for (FieldChecker checker : fieldCheckers.getAll()) {
-            result.addAll(checker.check(entry));
-        }
+        List<Checker> checkers = new ArrayList<>(fieldCheckers.getAll());
 
         if (!bibDatabaseContext.isBiblatexMode()) {
             // BibTeX only checkers
-            result.addAll(new ASCIICharacterChecker().check(entry));
-            result.addAll(new NoBibtexFieldChecker().check(entry));
-            result.addAll(new BibTeXEntryTypeChecker().check(entry));
-            result.addAll(new JournalInAbbreviationListChecker(StandardField.JOURNAL, journalAbbreviationRepository).check(entry));
+            checkers.add(new ASCIICharacterChecker());
+            checkers.add(new NoBibtexFieldChecker());
+            checkers.add(new BibTeXEntryTypeChecker());
+            checkers.add(new JournalInAbbreviationListChecker(StandardField.JOURNAL, journalAbbreviationRepository));
         } else {
-            result.addAll(new JournalInAbbreviationListChecker(StandardField.JOURNALTITLE, journalAbbreviationRepository).check(entry));
+            checkers.add(new JournalInAbbreviationListChecker(StandardField.JOURNALTITLE, journalAbbreviationRepository));
         }
 
-        result.addAll(new BibtexKeyChecker().check(entry));
-        result.addAll(new TypeChecker().check(entry));
-        result.addAll(new BibStringChecker().check(entry));
-        result.addAll(new HTMLCharacterChecker().check(entry));
-        result.addAll(new EntryLinkChecker(bibDatabaseContext.getDatabase()).check(entry));
-        result.addAll(new BibtexkeyDeviationChecker(bibDatabaseContext, bibtexKeyPatternPreferences).check(entry));
-        result.addAll(new BibtexKeyDuplicationChecker(bibDatabaseContext.getDatabase()).check(entry));
-
-        return result;
+        checkers.add(new BibtexKeyChecker());
+        checkers.add(new TypeChecker());
+        checkers.add(new BibStringChecker());
+        checkers.add(new HTMLCharacterChecker());
+        checkers.add(entryLinkChecker);
+        checkers.add(new BibtexkeyDeviationChecker(bibDatabaseContext, bibtexKeyPatternPreferences));
+        checkers.add(new BibtexKeyDuplicationChecker(bibDatabaseContext.getDatabase()));
+        return checkers;
     }
 
     @FunctionalInterface
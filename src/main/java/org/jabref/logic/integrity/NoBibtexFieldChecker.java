@@ -18,7 +18,12 @@ import org.jabref.model.entry.types.BibtexEntryTypeDefinitions;
  */
 public class NoBibtexFieldChecker implements Checker {
 
-    private Set<Field> getAllBiblatexOnlyFields() {
+    /**
+     * The fields are determined once, as the entry type definitions do not change
+     */
+    private final Set<Field> allBiblatexOnlyFields = getAllBiblatexOnlyFields();
+
+    private static Set<Field> getAllBiblatexOnlyFields() {
         Set<BibField> allBibtexFields = BibtexEntryTypeDefinitions.ALL.stream().flatMap(type -> type.getAllFields().stream()).collect(Collectors.toSet());
         return BiblatexEntryTypeDefinitions.ALL.stream()
                                                .flatMap(type -> type.getAllFields().stream())
@@ -34,7 +39,6 @@ public class NoBibtexFieldChecker implements Checker {
 
     @Override
     public List<IntegrityMessage> check(BibEntry entry) {
-        final Set<Field> allBiblatexOnlyFields = getAllBiblatexOnlyFields();
         return entry.getFields().stream()
                     .filter(allBiblatexOnlyFields::contains)
                     .map(name -> new IntegrityMessage(Localization.lang("biblatex field only"), entry, name)).collect(Collectors.toList());
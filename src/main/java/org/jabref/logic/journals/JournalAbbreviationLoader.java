@@ -2,10 +2,21 @@ package org.jabref.logic.journals;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.jar.JarEntry;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,8 +29,20 @@ public class JournalAbbreviationLoader {
     private static final String JOURNALS_FILE_BUILTIN = "/journals/journalList.csv";
     private static final String JOURNALS_IEEE_ABBREVIATION_LIST_WITH_CODE = "/journals/IEEEJournalListCode.csv";
     private static final String JOURNALS_IEEE_ABBREVIATION_LIST_WITH_TEXT = "/journals/IEEEJournalListText.csv";
+    private final Optional<JournalListCache> journalListCache;
     private JournalAbbreviationRepository journalAbbrev;
 
+    public JournalAbbreviationLoader() {
+        this.journalListCache = Optional.empty();
+    }
+
+    /**
+     * @param cacheDirectory the directory to store snapshots of the parsed journal lists in
+     */
+    public JournalAbbreviationLoader(Path cacheDirectory) {
+        this.journalListCache = Optional.of(new JournalListCache(cacheDirectory));
+    }
+
     public static List<Abbreviation> getOfficialIEEEAbbreviations() {
         return readJournalListFromResource(JOURNALS_IEEE_ABBREVIATION_LIST_WITH_CODE);
     }
@@ -59,13 +82,13 @@ public class JournalAbbreviationLoader {
         // For instance, in the personal list one can overwrite abbreviations in the built in list
 
         // Read builtin list
-        journalAbbrev.addEntries(readJournalListFromResource(JOURNALS_FILE_BUILTIN));
+        journalAbbrev.addEntries(readCachedJournalListFromResource(JOURNALS_FILE_BUILTIN));
 
         // Read IEEE list
         if (journalAbbreviationPreferences.useIEEEAbbreviations()) {
-            journalAbbrev.addEntries(getOfficialIEEEAbbreviations());
+            journalAbbrev.addEntries(readCachedJournalListFromResource(JOURNALS_IEEE_ABBREVIATION_LIST_WITH_CODE));
         } else {
-            journalAbbrev.addEntries(getStandardIEEEAbbreviations());
+            journalAbbrev.addEntries(readCachedJournalListFromResource(JOURNALS_IEEE_ABBREVIATION_LIST_WITH_TEXT));
         }
 
         // Read external lists
@@ -74,7 +97,7 @@ public class JournalAbbreviationLoader {
             Collections.reverse(lists);
             for (String filename : lists) {
                 try {
-                    journalAbbrev.addEntries(readJournalListFromFile(new File(filename)));
+                    journalAbbrev.addEntries(readCachedJournalListFromFile(new File(filename), StandardCharsets.UTF_8));
                 } catch (FileNotFoundException e) {
                     // The file couldn't be found... should we tell anyone?
                     LOGGER.info(String.format("Cannot find external journal list file %s", filename), e);
@@ -87,7 +110,7 @@ public class JournalAbbreviationLoader {
         if ((personalJournalList != null) && !personalJournalList.trim().isEmpty()) {
             try {
                 journalAbbrev.addEntries(
-                        readJournalListFromFile(new File(personalJournalList),
+                        readCachedJournalListFromFile(new File(personalJournalList),
                                 journalAbbreviationPreferences.getDefaultEncoding()));
             } catch (FileNotFoundException e) {
                 LOGGER.info(String.format("Personal journal list file '%s' not found.", personalJournalList), e);
@@ -95,6 +118,59 @@ public class JournalAbbreviationLoader {
         }
     }
 
+    private List<Abbreviation> readCachedJournalListFromResource(String resource) {
+        URL url = JournalAbbreviationRepository.class.getResource(resource);
+        if (journalListCache.isEmpty() || (url == null)) {
+            return readJournalListFromResource(resource);
+        }
+
+        try {
+            long lastModified;
+            long size;
+            URLConnection connection = url.openConnection();
+            if ("file".equals(url.getProtocol())) {
+                Path path = Paths.get(url.toURI());
+                lastModified = Files.getLastModifiedTime(path).toMillis();
+                size = Files.size(path);
+            } else if (connection instanceof JarURLConnection) {
+                JarEntry entry = ((JarURLConnection) connection).getJarEntry();
+                lastModified = entry.getTime();
+                size = entry.getSize();
+            } else {
+                return readJournalListFromResource(resource);
+            }
+
+            Optional<List<Abbreviation>> abbreviations = journalListCache.get().read(url.toExternalForm(), lastModified, size);
+            if (abbreviations.isPresent()) {
+                return abbreviations.get();
+            }
+            List<Abbreviation> parsedAbbreviations = readJournalListFromResource(resource);
+            journalListCache.get().write(url.toExternalForm(), lastModified, size, parsedAbbreviations);
+            return parsedAbbreviations;
+        } catch (IOException | URISyntaxException e) {
+            LOGGER.debug("Could not determine version of journal list {}", resource, e);
+            return readJournalListFromResource(resource);
+        }
+    }
+
+    private List<Abbreviation> readCachedJournalListFromFile(File file, Charset encoding) throws FileNotFoundException {
+        if (journalListCache.isEmpty() || !file.isFile()) {
+            return readJournalListFromFile(file, encoding);
+        }
+
+        // the same file read with another encoding yields other abbreviations
+        String source = file.getAbsolutePath() + '|' + encoding.name();
+        long lastModified = file.lastModified();
+        long size = file.length();
+        Optional<List<Abbreviation>> abbreviations = journalListCache.get().read(source, lastModified, size);
+        if (abbreviations.isPresent()) {
+            return abbreviations.get();
+        }
+        List<Abbreviation> parsedAbbreviations = readJournalListFromFile(file, encoding);
+        journalListCache.get().write(source, lastModified, size, parsedAbbreviations);
+        return parsedAbbreviations;
+    }
+
     public JournalAbbreviationRepository getRepository(JournalAbbreviationPreferences journalAbbreviationPreferences) {
         if (journalAbbrev == null) {
             update(journalAbbreviationPreferences);
@@ -2,7 +2,9 @@ package org.jabref.logic.journals;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -15,25 +17,40 @@ public class JournalAbbreviationRepository {
     // We have over 15.000 abbreviations in the built-in lists
     private final Set<Abbreviation> abbreviations = new HashSet<>(16000);
 
+    /**
+     * The lookup maps of the abbreviations, built on first use after a change of the abbreviations
+     */
+    private volatile Index index;
+
     public JournalAbbreviationRepository(Abbreviation... abbreviations) {
         for (Abbreviation abbreviation : abbreviations) {
             addEntry(abbreviation);
         }
     }
 
-    private static boolean isMatched(String name, Abbreviation abbreviation) {
-        return name.equalsIgnoreCase(abbreviation.getName())
-                || name.equalsIgnoreCase(abbreviation.getAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getMedlineAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getShortestUniqueAbbreviation());
+    /**
+     * Folds the case of the given name the same way as {@link String#equalsIgnoreCase(String)} compares characters
+     */
+    private static String foldCase(String name) {
+        char[] characters = name.toCharArray();
+        for (int i = 0; i < characters.length; i++) {
+            characters[i] = Character.toLowerCase(Character.toUpperCase(characters[i]));
+        }
+        return new String(characters);
     }
 
-    private static boolean isMatchedAbbreviated(String name, Abbreviation abbreviation) {
-        boolean isAbbreviated = name.equalsIgnoreCase(abbreviation.getAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getMedlineAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getShortestUniqueAbbreviation());
-        boolean isExpanded = name.equalsIgnoreCase(abbreviation.getName());
-        return isAbbreviated && !isExpanded;
+    private Index getIndex() {
+        Index currentIndex = index;
+        if (currentIndex == null) {
+            synchronized (this) {
+                currentIndex = index;
+                if (currentIndex == null) {
+                    currentIndex = new Index(abbreviations);
+                    index = currentIndex;
+                }
+            }
+        }
+        return currentIndex;
     }
 
     public int size() {
@@ -45,7 +62,7 @@ public class JournalAbbreviationRepository {
      * Letters) or its abbreviated form (e.g. Phys. Rev. Lett.).
      */
     public boolean isKnownName(String journalName) {
-        return abbreviations.stream().anyMatch(abbreviation -> isMatched(journalName.trim(), abbreviation));
+        return getAbbreviation(journalName).isPresent();
     }
 
     /**
@@ -53,7 +70,7 @@ public class JournalAbbreviationRepository {
      * i.e. journals whose abbreviation is the same as the full name are not considered
      */
     public boolean isAbbreviatedName(String journalName) {
-        return abbreviations.stream().anyMatch(abbreviation -> isMatchedAbbreviated(journalName.trim(), abbreviation));
+        return getIndex().abbreviatedNames.contains(foldCase(journalName.trim()));
     }
 
     /**
@@ -63,15 +80,28 @@ public class JournalAbbreviationRepository {
      * @return The abbreviated name
      */
     public Optional<Abbreviation> getAbbreviation(String journalName) {
-        return abbreviations.stream().filter(abbreviation -> isMatched(journalName.trim(), abbreviation)).findFirst();
+        String name = foldCase(journalName.trim());
+        Index currentIndex = getIndex();
+        Abbreviation abbreviation = currentIndex.byName.get(name);
+        if (abbreviation == null) {
+            abbreviation = currentIndex.byAbbreviation.get(name);
+        }
+        if (abbreviation == null) {
+            abbreviation = currentIndex.byMedlineAbbreviation.get(name);
+        }
+        if (abbreviation == null) {
+            abbreviation = currentIndex.byShortestUniqueAbbreviation.get(name);
+        }
+        return Optional.ofNullable(abbreviation);
     }
 
-    public void addEntry(Abbreviation abbreviation) {
+    public synchronized void addEntry(Abbreviation abbreviation) {
         Objects.requireNonNull(abbreviation);
 
         // Abbreviation equality is tested on name only, so we might have to remove an old abbreviation
         abbreviations.remove(abbreviation);
         abbreviations.add(abbreviation);
+        index = null;
     }
 
     public void addEntries(Collection<Abbreviation> abbreviationsToAdd) {
@@ -97,4 +127,38 @@ public class JournalAbbreviationRepository {
     public Optional<String> getShortestUniqueAbbreviation(String text) {
         return getAbbreviation(text).map(Abbreviation::getShortestUniqueAbbreviation);
     }
+
+    /**
+     * Maps the case folded names of the abbreviations to the abbreviations. If several abbreviations share a name, the
+     * first one of the set of abbreviations is mapped.
+     */
+    private static class Index {
+
+        private final Map<String, Abbreviation> byName = new HashMap<>();
+        private final Map<String, Abbreviation> byAbbreviation = new HashMap<>();
+        private final Map<String, Abbreviation> byMedlineAbbreviation = new HashMap<>();
+        private final Map<String, Abbreviation> byShortestUniqueAbbreviation = new HashMap<>();
+
+        /**
+         * The names being an abbreviated form of a journal name, which differs from the full name
+         */
+        private final Set<String> abbreviatedNames = new HashSet<>();
+
+        Index(Collection<Abbreviation> abbreviations) {
+            for (Abbreviation abbreviation : abbreviations) {
+                String name = foldCase(abbreviation.getName());
+                byName.putIfAbsent(name, abbreviation);
+                addAbbreviatedName(byAbbreviation, foldCase(abbreviation.getAbbreviation()), name, abbreviation);
+                addAbbreviatedName(byMedlineAbbreviation, foldCase(abbreviation.getMedlineAbbreviation()), name, abbreviation);
+                addAbbreviatedName(byShortestUniqueAbbreviation, foldCase(abbreviation.getShortestUniqueAbbreviation()), name, abbreviation);
+            }
+        }
+
+        private void addAbbreviatedName(Map<String, Abbreviation> map, String abbreviatedName, String name, Abbreviation abbreviation) {
+            map.putIfAbsent(abbreviatedName, abbreviation);
+            if (!abbreviatedName.equals(name)) {
+                abbreviatedNames.add(abbreviatedName);
+            }
+        }
+    }
 }
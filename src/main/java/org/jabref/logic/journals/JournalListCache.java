@@ -0,0 +1,109 @@
+package org.jabref.logic.journals;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores parsed journal lists as binary snapshots in a directory, so that an unchanged list is read in bulk instead of
+ * being parsed again.
+ * <p>
+ * A snapshot is identified by the location of the list (a file path or a resource URL) and is only used as long as
+ * the modification time and the size of the list are the ones recorded in the snapshot.
+ */
+public class JournalListCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JournalListCache.class);
+
+    private static final int MAGIC_NUMBER = 0x4A524A4C;
+    private static final int FORMAT_VERSION = 1;
+
+    private final Path directory;
+
+    public JournalListCache(Path directory) {
+        this.directory = Objects.requireNonNull(directory);
+    }
+
+    /**
+     * Reads the snapshot of the given list.
+     *
+     * @return the abbreviations, or an empty Optional if there is no snapshot of the list in the given version
+     */
+    public Optional<List<Abbreviation>> read(String source, long lastModified, long size) {
+        Path snapshot = getSnapshotPath(source);
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshot)))) {
+            if ((input.readInt() != MAGIC_NUMBER) || (input.readInt() != FORMAT_VERSION)
+                    || !input.readUTF().equals(source) || (input.readLong() != lastModified) || (input.readLong() != size)) {
+                return Optional.empty();
+            }
+
+            int count = input.readInt();
+            List<Abbreviation> abbreviations = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                abbreviations.add(new Abbreviation(input.readUTF(), input.readUTF(), input.readUTF()));
+            }
+            return Optional.of(abbreviations);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            LOGGER.warn("Could not read journal list snapshot {}", snapshot, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the snapshot of the given list. The snapshot is written to a temporary file first, so that a concurrently
+     * reading instance never sees a partial snapshot.
+     */
+    public void write(String source, long lastModified, long size, List<Abbreviation> abbreviations) {
+        Path snapshot = getSnapshotPath(source);
+        Path temporarySnapshot = null;
+        try {
+            Files.createDirectories(directory);
+            temporarySnapshot = Files.createTempFile(directory, snapshot.getFileName().toString(), ".tmp");
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporarySnapshot)))) {
+                output.writeInt(MAGIC_NUMBER);
+                output.writeInt(FORMAT_VERSION);
+                output.writeUTF(source);
+                output.writeLong(lastModified);
+                output.writeLong(size);
+                output.writeInt(abbreviations.size());
+                for (Abbreviation abbreviation : abbreviations) {
+                    output.writeUTF(abbreviation.getName());
+                    output.writeUTF(abbreviation.getAbbreviation());
+                    // the shortest unique abbreviation defaults to the abbreviation, thus the stored value is written
+                    output.writeUTF(abbreviation.shortestUniqueAbbreviationProperty().get());
+                }
+            }
+            Files.move(temporarySnapshot, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write journal list snapshot {}", snapshot, e);
+            if (temporarySnapshot != null) {
+                try {
+                    Files.deleteIfExists(temporarySnapshot);
+                } catch (IOException ignored) {
+                    // the directory only contains recreatable data
+                }
+            }
+        }
+    }
+
+    private Path getSnapshotPath(String source) {
+        return directory.resolve(UUID.nameUUIDFromBytes(source.getBytes(StandardCharsets.UTF_8)) + ".snapshot");
+    }
+}
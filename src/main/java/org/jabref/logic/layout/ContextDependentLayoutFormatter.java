@@ -0,0 +1,18 @@
+package org.jabref.logic.layout;
+
+/**
+ * A {@link LayoutFormatter} whose output depends on the state of the layout, e.g., the number of the current entry.
+ * Within a {@link Layout}, only {@link #format(String, LayoutContext)} is called.
+ */
+public interface ContextDependentLayoutFormatter extends LayoutFormatter {
+
+    String format(String fieldText, LayoutContext context);
+
+    /**
+     * Formats the text as if it belonged to the first entry
+     */
+    @Override
+    default String format(String fieldText) {
+        return format(fieldText, new LayoutContext());
+    }
+}
@@ -91,10 +91,18 @@ public class Layout {
      * recursive string references are resolved.
      */
     public String doLayout(BibEntry bibtex, BibDatabase database) {
+        return doLayout(bibtex, database, new LayoutContext());
+    }
+
+    /**
+     * Returns the processed bibtex entry as {@link #doLayout(BibEntry, BibDatabase)} does. The entry number and the
+     * group headings are taken from the given context, which is updated for the next entry of the same sequence.
+     */
+    public String doLayout(BibEntry bibtex, BibDatabase database, LayoutContext context) {
         StringBuilder builder = new StringBuilder(100);
 
         for (LayoutEntry layoutEntry : layoutEntries) {
-            String fieldText = layoutEntry.doLayout(bibtex, database);
+            String fieldText = layoutEntry.doLayout(bibtex, database, context);
 
             // The following change means we treat null fields as "". This is to fix the
             // problem of whitespace disappearing after missing fields.
@@ -131,6 +139,14 @@ public class Layout {
         return sb.toString();
     }
 
+    /**
+     * Tells whether this layout contains a group block. The output of such a layout for an entry depends on the entries
+     * laid out before, so the entries of a sequence have to be laid out one after another using the same context.
+     */
+    public boolean containsGroupBlock() {
+        return layoutEntries.stream().anyMatch(LayoutEntry::containsGroupBlock);
+    }
+
     public List<String> getMissingFormatters() {
         return new ArrayList<>(missingFormatters);
     }
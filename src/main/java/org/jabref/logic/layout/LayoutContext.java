@@ -0,0 +1,44 @@
+package org.jabref.logic.layout;
+
+/**
+ * Holds the state of laying out a sequence of entries, e.g., during an export: the number of the current entry and the
+ * value of the field the entries are grouped by. Every export uses a context of its own, so that several exports can
+ * run at the same time.
+ */
+public class LayoutContext {
+
+    private int entryNumber;
+    private String currentGroup;
+
+    /**
+     * Creates the context of the first entry of a sequence
+     */
+    public LayoutContext() {
+        this(1, null);
+    }
+
+    /**
+     * @param entryNumber  the number of the current entry, starting at 1
+     * @param currentGroup the group of the entries laid out before, null if there is none
+     */
+    public LayoutContext(int entryNumber, String currentGroup) {
+        this.entryNumber = entryNumber;
+        this.currentGroup = currentGroup;
+    }
+
+    public int getEntryNumber() {
+        return entryNumber;
+    }
+
+    public void setEntryNumber(int entryNumber) {
+        this.entryNumber = entryNumber;
+    }
+
+    public String getCurrentGroup() {
+        return currentGroup;
+    }
+
+    public void setCurrentGroup(String currentGroup) {
+        this.currentGroup = currentGroup;
+    }
+}
@@ -8,6 +8,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
 import org.jabref.logic.formatter.bibtexfields.UnicodeToLatexFormatter;
@@ -81,6 +82,7 @@ import org.jabref.logic.openoffice.OOPreFormatter;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.UnknownField;
@@ -92,7 +94,12 @@ import org.slf4j.LoggerFactory;
 class LayoutEntry {
     private static final Logger LOGGER = LoggerFactory.getLogger(LayoutEntry.class);
 
-    private List<LayoutFormatter> option;
+    private static final Field ENCODING_FIELD = new UnknownField("encoding");
+    private static final Pattern CONJUNCTION = Pattern.compile(".*(;|(\\&+)).*");
+    private static final Pattern CONJUNCTION_SEPARATOR = Pattern.compile("\\s*(;|(\\&+))\\s*");
+    private static final Pattern DISJUNCTION_SEPARATOR = Pattern.compile("\\s*(\\|+)\\s*");
+
+    private LayoutFormatter[] formatters = new LayoutFormatter[0];
 
     // Formatter to be run after other formatters:
     private LayoutFormatter postFormatter;
@@ -107,6 +114,18 @@ class LayoutEntry {
 
     private final LayoutFormatterPreferences prefs;
 
+    /**
+     * The field of a simple command, a group or an option field referring to a field, resolved once for all entries
+     */
+    private Field field;
+
+    /**
+     * The fields a field block depends on and whether they are negated, see {@link #handleFieldOrGroupStart}
+     */
+    private Field[] conditionFields;
+    private boolean[] conditionNegated;
+    private boolean conjunction;
+
     public LayoutEntry(StringInt si, LayoutFormatterPreferences prefs) {
         this.prefs = prefs;
         type = si.i;
@@ -116,9 +135,13 @@ class LayoutEntry {
                 break;
             case LayoutHelper.IS_SIMPLE_COMMAND:
                 text = si.s.trim();
+                field = FieldFactory.parseField(text);
                 break;
             case LayoutHelper.IS_OPTION_FIELD:
                 doOptionField(si.s);
+                if (text.startsWith("\\")) {
+                    field = FieldFactory.parseField(text.substring(1));
+                }
                 break;
             case LayoutHelper.IS_FIELD_START:
             case LayoutHelper.IS_FIELD_END:
@@ -180,18 +203,32 @@ class LayoutEntry {
         for (LayoutEntry layoutEntry : layoutEntries) {
             invalidFormatter.addAll(layoutEntry.getInvalidFormatters());
         }
+
+        if (type == LayoutHelper.IS_GROUP_START) {
+            field = FieldFactory.parseField(text);
+        } else {
+            // split the strings along &, && or ; for AND formatter and along |, || for OR formatter
+            conjunction = CONJUNCTION.matcher(text).matches();
+            String[] parts = (conjunction ? CONJUNCTION_SEPARATOR : DISJUNCTION_SEPARATOR).split(text);
+            conditionFields = new Field[parts.length];
+            conditionNegated = new boolean[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                conditionNegated[i] = parts[i].startsWith("!");
+                conditionFields[i] = FieldFactory.parseField(conditionNegated[i] ? parts[i].substring(1).trim() : parts[i]);
+            }
+        }
     }
 
     public void setPostFormatter(LayoutFormatter formatter) {
         this.postFormatter = formatter;
     }
 
-    public String doLayout(BibEntry bibtex, BibDatabase database) {
+    public String doLayout(BibEntry bibtex, BibDatabase database, LayoutContext context) {
         switch (type) {
             case LayoutHelper.IS_LAYOUT_TEXT:
                 return text;
             case LayoutHelper.IS_SIMPLE_COMMAND:
-                String value = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(text), database).orElse("");
+                String value = bibtex.getResolvedFieldOrAlias(field, database).orElse("");
 
                 // If a post formatter has been set, call it:
                 if (postFormatter != null) {
@@ -200,23 +237,23 @@ class LayoutEntry {
                 return value;
             case LayoutHelper.IS_FIELD_START:
             case LayoutHelper.IS_GROUP_START:
-                return handleFieldOrGroupStart(bibtex, database);
+                return handleFieldOrGroupStart(bibtex, database, context);
             case LayoutHelper.IS_FIELD_END:
             case LayoutHelper.IS_GROUP_END:
                 return "";
             case LayoutHelper.IS_OPTION_FIELD:
-                return handleOptionField(bibtex, database);
+                return handleOptionField(bibtex, database, context);
             case LayoutHelper.IS_ENCODING_NAME:
                 // Printing the encoding name is not supported in entry layouts, only
                 // in begin/end layouts. This prevents breakage if some users depend
                 // on a field called "encoding". We simply return this field instead:
-                return bibtex.getResolvedFieldOrAlias(new UnknownField("encoding"), database).orElse(null);
+                return bibtex.getResolvedFieldOrAlias(ENCODING_FIELD, database).orElse(null);
             default:
                 return "";
         }
     }
 
-    private String handleOptionField(BibEntry bibtex, BibDatabase database) {
+    private String handleOptionField(BibEntry bibtex, BibDatabase database, LayoutContext context) {
         String fieldEntry;
 
         if (InternalField.TYPE_HEADER.getName().equals(text)) {
@@ -230,71 +267,69 @@ class LayoutEntry {
             // changed section begin - arudert
             // resolve field (recognized by leading backslash) or text
             fieldEntry = text.startsWith("\\") ? bibtex
-                    .getResolvedFieldOrAlias(FieldFactory.parseField(text.substring(1)), database)
+                    .getResolvedFieldOrAlias(field, database)
                     .orElse("") : BibDatabase.getText(text, database);
             // changed section end - arudert
         }
 
-        if (option != null) {
-            for (LayoutFormatter anOption : option) {
-                fieldEntry = anOption.format(fieldEntry);
+        return format(fieldEntry, context);
+    }
+
+    /**
+     * Applies the formatters of this option field and the post formatter to the given text
+     */
+    private String format(String fieldText, LayoutContext context) {
+        String result = fieldText;
+        for (LayoutFormatter formatter : formatters) {
+            if (formatter instanceof ContextDependentLayoutFormatter) {
+                result = ((ContextDependentLayoutFormatter) formatter).format(result, context);
+            } else {
+                result = formatter.format(result);
             }
         }
 
         // If a post formatter has been set, call it:
         if (postFormatter != null) {
-            fieldEntry = postFormatter.format(fieldEntry);
+            result = postFormatter.format(result);
         }
 
-        return fieldEntry;
+        return result;
     }
 
-    private String handleFieldOrGroupStart(BibEntry bibtex, BibDatabase database) {
+    private String handleFieldOrGroupStart(BibEntry bibtex, BibDatabase database, LayoutContext context) {
         Optional<String> field;
         boolean negated = false;
         if (type == LayoutHelper.IS_GROUP_START) {
-            field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(text), database);
-        } else if (text.matches(".*(;|(\\&+)).*")) {
-            // split the strings along &, && or ; for AND formatter
-            String[] parts = text.split("\\s*(;|(\\&+))\\s*");
-            field = Optional.empty();
-            for (String part : parts) {
-                negated = part.startsWith("!");
-                field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(negated ? part.substring(1).trim() : part), database);
-                if (!(field.isPresent() ^ negated)) {
-                    break;
-                }
-            }
+            field = bibtex.getResolvedFieldOrAlias(this.field, database);
         } else {
-            // split the strings along |, ||  for OR formatter
-            String[] parts = text.split("\\s*(\\|+)\\s*");
             field = Optional.empty();
-            for (String part : parts) {
-                negated = part.startsWith("!");
-                field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(negated ? part.substring(1).trim() : part), database);
-                if (field.isPresent() ^ negated) {
+            for (int i = 0; i < conditionFields.length; i++) {
+                negated = conditionNegated[i];
+                field = bibtex.getResolvedFieldOrAlias(conditionFields[i], database);
+                // AND stops at the first condition not met, OR at the first condition met
+                if ((field.isPresent() ^ negated) != conjunction) {
                     break;
                 }
             }
         }
 
         if ((!(field.isPresent() ^ negated)) || ((type == LayoutHelper.IS_GROUP_START)
-                && field.get().equalsIgnoreCase(LayoutHelper.getCurrentGroup()))) {
+                && field.get().equalsIgnoreCase(context.getCurrentGroup()))) {
             return null;
         } else {
             if (type == LayoutHelper.IS_GROUP_START) {
-                LayoutHelper.setCurrentGroup(field.get());
+                context.setCurrentGroup(field.get());
             }
             StringBuilder sb = new StringBuilder(100);
             String fieldText;
             boolean previousSkipped = false;
 
             for (int i = 0; i < layoutEntries.size(); i++) {
-                fieldText = layoutEntries.get(i).doLayout(bibtex, database);
+                fieldText = layoutEntries.get(i).doLayout(bibtex, database, context);
 
                 if (fieldText == null) {
                     if ((i + 1) < layoutEntries.size()) {
-                        if (layoutEntries.get(i + 1).doLayout(bibtex, database).trim().isEmpty()) {
+                        if (layoutEntries.get(i + 1).doLayout(bibtex, database, context).trim().isEmpty()) {
                             i++;
                             previousSkipped = true;
                             continue;
@@ -350,17 +385,7 @@ class LayoutEntry {
 
             case LayoutHelper.IS_OPTION_FIELD:
                 String field = BibDatabase.getText(text, databaseContext.getDatabase());
-                if (option != null) {
-                    for (LayoutFormatter anOption : option) {
-                        field = anOption.format(field);
-                    }
-                }
-                // If a post formatter has been set, call it:
-                if (postFormatter != null) {
-                    field = postFormatter.format(field);
-                }
-
-                return field;
+                return format(field, new LayoutContext());
 
             case LayoutHelper.IS_ENCODING_NAME:
                 return encoding.displayName();
@@ -385,7 +410,8 @@ class LayoutEntry {
         } else {
             text = v.get(0).trim();
 
-            option = getOptionalLayout(v.get(1));
+            List<LayoutFormatter> option = getOptionalLayout(v.get(1));
+            formatters = option.toArray(new LayoutFormatter[0]);
             // See if there was an undefined formatter:
             for (LayoutFormatter anOption : option) {
                 if (anOption instanceof NotFoundFormatter) {
@@ -589,6 +615,11 @@ class LayoutEntry {
         return results;
     }
 
+    public boolean containsGroupBlock() {
+        return (type == LayoutHelper.IS_GROUP_START)
+                || ((layoutEntries != null) && layoutEntries.stream().anyMatch(LayoutEntry::containsGroupBlock));
+    }
+
     public List<String> getInvalidFormatters() {
         return invalidFormatter;
     }
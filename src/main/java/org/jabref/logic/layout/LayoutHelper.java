@@ -30,8 +30,6 @@ public class LayoutHelper {
     public static final int IS_FILENAME = 9;
     public static final int IS_FILEPATH = 10;
 
-    private static String currentGroup;
-
     private final PushbackReader in;
     private final List<StringInt> parsedEntries = new ArrayList<>();
     private final LayoutFormatterPreferences prefs;
@@ -44,6 +42,14 @@ public class LayoutHelper {
     }
 
     public Layout getLayoutFromText() throws IOException {
+        return new Layout(getParsedEntriesFromText(), prefs);
+    }
+
+    /**
+     * Parses the text without building a layout. The returned entries are not modified by building a layout from them,
+     * thus several layouts can be built from them, e.g., for different preferences.
+     */
+    public List<StringInt> getParsedEntriesFromText() throws IOException {
         parse();
 
         for (StringInt parsedEntry : parsedEntries) {
@@ -54,15 +60,7 @@ public class LayoutHelper {
             }
         }
 
-        return new Layout(parsedEntries, prefs);
-    }
-
-    public static String getCurrentGroup() {
-        return LayoutHelper.currentGroup;
-    }
-
-    public static void setCurrentGroup(String newGroup) {
-        LayoutHelper.currentGroup = newGroup;
+        return parsedEntries;
     }
 
     private void doBracketedField(final int field) throws IOException {
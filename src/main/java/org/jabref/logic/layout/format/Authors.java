@@ -9,9 +9,6 @@ import org.jabref.logic.layout.AbstractParamLayoutFormatter;
 import org.jabref.model.entry.Author;
 import org.jabref.model.entry.AuthorList;
 
-import java.io.FileWriter;
-import java.io.BufferedWriter;
-import java.io.File;
 /**
  * Versatile author name formatter that takes arguments to control the formatting style.
  */
@@ -80,7 +77,6 @@ public class Authors extends AbstractParamLayoutFormatter {
     private static final String SEMICOLON = "; ";
     private static final String AND = " and ";
     private static final String OXFORD = ", and ";
-    private static boolean[] visited = new boolean[42];
 
     private int flMode;
 
@@ -120,169 +116,101 @@ public class Authors extends AbstractParamLayoutFormatter {
 
     private void handleArgument(String key, String value) {
         if (Authors.AUTHOR_ORDER.contains(key.trim().toLowerCase(Locale.ROOT))) {
-            visited[0] = true;
             if (comp(key, "FirstFirst")) {
-                visited[1] = true;
                 flMode = Authors.FIRST_FIRST;
             } else if (comp(key, "LastFirst")) {
-                visited[2] = true;
                 flMode = Authors.LAST_FIRST;
             } else if (comp(key, "LastFirstFirstFirst")) {
-                visited[3] = true;
                 flMode = Authors.LF_FF;
-            } else {
-                visited[4] = true;
             }
         } else if (Authors.AUTHOR_ABRV.contains(key.trim().toLowerCase(Locale.ROOT))) {
-            visited[5] = true;
             if (comp(key, "FullName")) {
-                visited[6] = true;
                 abbreviate = false;
             } else if (comp(key, "Initials")) {
-                visited[7] = true;
                 abbreviate = true;
                 firstInitialOnly = false;
             } else if (comp(key, "FirstInitial")) {
-                visited[8] = true;
                 abbreviate = true;
                 firstInitialOnly = true;
             } else if (comp(key, "MiddleInitial")) {
-                visited[9] = true;
                 abbreviate = true;
                 middleInitial = true;
             } else if (comp(key, "LastName")) {
-                visited[10] = true;
                 lastNameOnly = true;
             } else if (comp(key, "InitialsNoSpace")) {
-                visited[11] = true;
                 abbreviate = true;
                 abbrSpaces = false;
-            } else {
-                visited[12] = true;
             }
         } else if (Authors.AUTHOR_PUNC.contains(key.trim().toLowerCase(Locale.ROOT))) {
-            visited[13] = true;
             if (comp(key, "FullPunc")) {
-                visited[14] = true;
                 abbrDots = true;
                 lastFirstSeparator = ", ";
             } else if (comp(key, "NoPunc")) {
-                visited[15] = true;
                 abbrDots = false;
                 lastFirstSeparator = " ";
             } else if (comp(key, "NoComma")) {
-                visited[16] = true;
                 abbrDots = true;
                 lastFirstSeparator = " ";
             } else if (comp(key, "NoPeriod")) {
-                visited[17] = true;
                 abbrDots = false;
                 lastFirstSeparator = ", ";
-            } else {
-                visited[18] = true;
             }
         }
 
         // AuthorSep = [Comma | And | Colon | Semicolon | sep=<string>]
         // AuthorLastSep = [And | Comma | Colon | Semicolon | Amp | Oxford | lastsep=<string>]
         else if (Authors.SEPARATORS.contains(key.trim().toLowerCase(Locale.ROOT)) || Authors.LAST_SEPARATORS.contains(key.trim().toLowerCase(Locale.ROOT))) {
-            visited[19] = true;
             if (comp(key, "Comma")) {
-                visited[20] = true;
                 if (setSep) {
-                    visited[21] = true;
                     lastSeparator = Authors.COMMA;
                 } else {
-                    visited[22] = true;
                     separator = Authors.COMMA;
                     setSep = true;
                 }
             } else if (comp(key, "And")) {
-                visited[23] = true;
                 if (setSep) {
-                    visited[24] = true;
                     lastSeparator = Authors.AND;
                 } else {
-                    visited[25] = true;
                     separator = Authors.AND;
                     setSep = true;
                 }
             } else if (comp(key, "Colon")) {
-                visited[26] = true;
                 if (setSep) {
-                    visited[27] = true;
                     lastSeparator = Authors.COLON;
                 } else {
-                    visited[28] = true;
                     separator = Authors.COLON;
                     setSep = true;
                 }
             } else if (comp(key, "Semicolon")) {
-                visited[29] = true;
                 if (setSep) {
-                    visited[30] = true;
                     lastSeparator = Authors.SEMICOLON;
                 } else {
-                    visited[31] = true;
                     separator = Authors.SEMICOLON;
                     setSep = true;
                 }
             } else if (comp(key, "Oxford")) {
-                visited[32] = true;
                 lastSeparator = Authors.OXFORD;
             } else if (comp(key, "Amp")) {
-                visited[33] = true;
                 lastSeparator = Authors.AMP;
             } else if (comp(key, "Sep") && !value.isEmpty()) {
-                visited[34] = true;
                 separator = value;
                 setSep = true;
             } else if (comp(key, "LastSep") && !value.isEmpty()) {
-                visited[35] = true;
                 lastSeparator = value;
-            } else {
-                visited[36] = true;
             }
         } else if ("etal".equalsIgnoreCase(key.trim())) {
-            visited[37] = true;
             etAlString = value;
         } else if (Authors.NUMBER_PATTERN.matcher(key.trim()).matches()) {
-            visited[38] = true;
             // Just a number:
             int num = Integer.parseInt(key.trim());
             if (setMaxAuthors) {
-                visited[39] = true;
                 authorNumberEtAl = num;
             } else {
-                visited[40] = true;
                 maxAuthors = num;
                 setMaxAuthors = true;
             }
-        } else {
-            visited[41] = true;
-        }
-
-        try {
-            File directory = new File("/Temp");
-            if (!directory.exists()){
-                directory.mkdir();
-            }
-            File f = new File(directory + "/handleArgument.txt");
-
-            BufferedWriter bw = new BufferedWriter(new FileWriter(f));
-            double frac = 0;
-            for(int i = 0; i < visited.length; ++i) {
-                frac += (visited[i] ? 1 : 0);
-                bw.write("branch " + i + " was " + (visited[i] ? " visited." : " not visited.") + "\n");
-            }
-
-            bw.write("" + frac/visited.length);
-            bw.close();
-        } catch (Exception e) {
-            System.err.println("Did not find the path");
         }
 
-        // SHOULD BE: 58%
     }
 
     /**
@@ -9,16 +9,11 @@ import org.jabref.logic.layout.AbstractParamLayoutFormatter;
 import org.jabref.model.entry.Author;
 import org.jabref.model.entry.AuthorList;
 
-import java.io.FileWriter;
-import java.io.BufferedWriter;
-import java.io.File;
 /**
  * Versatile author name formatter that takes arguments to control the formatting style.
  */
 public class AuthorsRefactor extends AbstractParamLayoutFormatter {
 
-    private static boolean[] visited = new boolean[8];
-
     /*
     AuthorSort = [FirstFirst | LastFirst | LastFirstFirstFirst]
     AuthorAbbr = [FullName | Initials | FirstInitial | MiddleInitial | InitialsNoSpace | LastName]
@@ -126,7 +121,7 @@ public class AuthorsRefactor extends AbstractParamLayoutFormatter {
             flMode = AuthorsRefactor.LAST_FIRST;
         } else if (comp(key, "LastFirstFirstFirst")) {
             flMode = AuthorsRefactor.LF_FF;
-        }        
+        }
     }
 
     private void handleAbrv(String key) {
@@ -146,7 +141,7 @@ public class AuthorsRefactor extends AbstractParamLayoutFormatter {
         } else if (comp(key, "InitialsNoSpace")) {
             abbreviate = true;
             abbrSpaces = false;
-        }        
+        }
     }
 
     private void handlePunc(String key) {
@@ -218,49 +213,19 @@ public class AuthorsRefactor extends AbstractParamLayoutFormatter {
     }
 
     private void handleArgument(String key, String value) {
-        visited[0] = true;
         if (AuthorsRefactor.AUTHOR_ORDER.contains(key.trim().toLowerCase(Locale.ROOT))) {
-            visited[1] = true;
             handleOrder(key);
         } else if (AuthorsRefactor.AUTHOR_ABRV.contains(key.trim().toLowerCase(Locale.ROOT))) {
-            visited[2] = true;
             handleAbrv(key);
         } else if (AuthorsRefactor.AUTHOR_PUNC.contains(key.trim().toLowerCase(Locale.ROOT))) {
-            visited[3] = true;
             handlePunc(key);
         } else if (AuthorsRefactor.SEPARATORS.contains(key.trim().toLowerCase(Locale.ROOT)) || AuthorsRefactor.LAST_SEPARATORS.contains(key.trim().toLowerCase(Locale.ROOT))) {
-            visited[4] = true;
             handleSeparater(key, value);
         } else if ("etal".equalsIgnoreCase(key.trim())) {
-            visited[5] = true;
             etAlString = value;
         } else if (AuthorsRefactor.NUMBER_PATTERN.matcher(key.trim()).matches()) {
-            visited[6] = true;
             handleNumberPattern(key);
         }
-        else {
-            visited[7] = true;
-        }
-
-        try {
-            File directory = new File("/Temp");
-            if (!directory.exists()){
-                directory.mkdir();
-            }
-            File f = new File(directory + "/handleArgumentRefactor.txt");
-
-            BufferedWriter bw = new BufferedWriter(new FileWriter(f));
-            double frac = 0;
-            for(int i = 0; i < visited.length; ++i) {
-                frac += (visited[i] ? 1 : 0);
-                bw.write("branch " + i + " was " + (visited[i] ? " visited." : " not visited.") + "\n");
-            }
-
-            bw.write("" + frac/visited.length);
-            bw.close();
-        } catch (Exception e) {
-            System.err.println("Did not find the path");
-        }
     }
 
     /**
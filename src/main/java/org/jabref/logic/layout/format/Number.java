@@ -1,13 +1,14 @@
 package org.jabref.logic.layout.format;
 
-import org.jabref.logic.exporter.ExporterFactory;
+import org.jabref.logic.layout.ContextDependentLayoutFormatter;
+import org.jabref.logic.layout.LayoutContext;
 import org.jabref.logic.layout.ParamLayoutFormatter;
 
 /**
  * Formatter that outputs a sequence number for the current entry. The sequence number is
  * tied to the entry's position in the order, not to the number of calls to this formatter.
  */
-public class Number implements ParamLayoutFormatter {
+public class Number implements ParamLayoutFormatter, ContextDependentLayoutFormatter {
 
     @Override
     public void setArgument(String arg) {
@@ -15,7 +16,7 @@ public class Number implements ParamLayoutFormatter {
     }
 
     @Override
-    public String format(String fieldText) {
-        return String.valueOf(ExporterFactory.entryNumber);
+    public String format(String fieldText, LayoutContext context) {
+        return String.valueOf(context.getEntryNumber());
     }
 }
@@ -0,0 +1,141 @@
+package org.jabref.logic.net;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jabref.logic.util.io.SnapshotDirectory;
+
+/**
+ * Stores successful HTTP responses in a directory, so that requesting the same resource again does not download it
+ * again.
+ * <p>
+ * A response is identified by the request, i.e., the URL, the request headers and the data sent. Since the request may
+ * contain API keys, only a digest of it is stored. A stored response is used without asking the server as long as it
+ * is younger than the time to live and the maximum age given by the server. Afterwards, the server is asked whether it
+ * has been modified using its entity tag or modification date, if the server sent any. The responses take up at most
+ * the given number of bytes; if there are more, the least recently used ones are deleted.
+ */
+public class HttpResponseCache {
+
+    private static final int MAGIC_NUMBER = 0x4A524854;
+    private static final int FORMAT_VERSION = 2;
+    private static final String RESPONSE_EXTENSION = ".response";
+
+    private final SnapshotDirectory responses;
+    private final Duration timeToLive;
+
+    public HttpResponseCache(Path directory, Duration timeToLive, long maximumSize) {
+        this.responses = new SnapshotDirectory(directory, RESPONSE_EXTENSION, MAGIC_NUMBER, FORMAT_VERSION, maximumSize);
+        this.timeToLive = Objects.requireNonNull(timeToLive);
+    }
+
+    /**
+     * Returns the stored response to the given request.
+     *
+     * @param request the description of the request, containing everything the response depends on
+     */
+    public Optional<CachedResponse> get(String request) {
+        return responses.read(request, input -> {
+            byte[] storedDigest = new byte[input.readInt()];
+            input.readFully(storedDigest);
+            if (!MessageDigest.isEqual(storedDigest, digest(request))) {
+                return Optional.empty();
+            }
+
+            long storedAt = input.readLong();
+            long maximumAge = input.readLong();
+            Optional<String> entityTag = Optional.ofNullable(SnapshotDirectory.readString(input));
+            Optional<String> lastModified = Optional.ofNullable(SnapshotDirectory.readString(input));
+            byte[] body = new byte[input.readInt()];
+            input.readFully(body);
+            return Optional.of(new CachedResponse(body, entityTag, lastModified, storedAt,
+                    (maximumAge < 0) ? Optional.empty() : Optional.of(Duration.ofMillis(maximumAge))));
+        });
+    }
+
+    /**
+     * Stores the response to the given request.
+     */
+    public void put(String request, CachedResponse response) {
+        responses.write(request, output -> {
+            byte[] requestDigest = digest(request);
+            output.writeInt(requestDigest.length);
+            output.write(requestDigest);
+            output.writeLong(response.storedAt);
+            output.writeLong(response.maximumAge.map(Duration::toMillis).orElse(-1L));
+            SnapshotDirectory.writeString(output, response.entityTag.orElse(null));
+            SnapshotDirectory.writeString(output, response.lastModified.orElse(null));
+            output.writeInt(response.body.length);
+            output.write(response.body);
+        });
+    }
+
+    /**
+     * Tells whether the given response may be used without asking the server, i.e., whether it is younger than both the
+     * time to live and the maximum age given by the server
+     */
+    public boolean isFresh(CachedResponse response) {
+        long maximumAge = response.maximumAge.map(Duration::toMillis).orElse(Long.MAX_VALUE);
+        return (System.currentTimeMillis() - response.storedAt) < Math.min(timeToLive.toMillis(), maximumAge);
+    }
+
+    private static byte[] digest(String request) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(request.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The body of a successful response together with what is needed to ask the server whether it has been modified
+     */
+    public static class CachedResponse {
+
+        private final byte[] body;
+        private final Optional<String> entityTag;
+        private final Optional<String> lastModified;
+        private final long storedAt;
+        private final Optional<Duration> maximumAge;
+
+        /**
+         * @param entityTag    the value of the ETag header
+         * @param lastModified the value of the Last-Modified header
+         * @param storedAt     the time the response has been received or revalidated last, in milliseconds
+         * @param maximumAge   the time the response may be used without asking the server according to its
+         *                     Cache-Control header, zero if it has to be revalidated every time
+         */
+        public CachedResponse(byte[] body, Optional<String> entityTag, Optional<String> lastModified, long storedAt, Optional<Duration> maximumAge) {
+            this.body = Objects.requireNonNull(body);
+            this.entityTag = Objects.requireNonNull(entityTag);
+            this.lastModified = Objects.requireNonNull(lastModified);
+            this.storedAt = storedAt;
+            this.maximumAge = Objects.requireNonNull(maximumAge);
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public Optional<String> getEntityTag() {
+            return entityTag;
+        }
+
+        public Optional<String> getLastModified() {
+            return lastModified;
+        }
+
+        /**
+         * Returns this response as confirmed by the server at the given time
+         */
+        public CachedResponse revalidatedAt(long time) {
+            return new CachedResponse(body, entityTag, lastModified, time, maximumAge);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package org.jabref.logic.net;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs requests on an executor while limiting the load put on each host: at most the given number of requests to a
+ * host run at the same time, and two requests to a host are started at least the given interval apart.
+ * <p>
+ * Requests waiting for their host do not occupy a thread of the executor, thus requests to other hosts proceed in the
+ * meantime.
+ */
+public class RequestScheduler {
+
+    private final ScheduledExecutorService executor;
+    private final int maximumConcurrentRequests;
+    private final long minimumInterval;
+    private final Map<String, Host> hosts = new ConcurrentHashMap<>();
+
+    public RequestScheduler(ScheduledExecutorService executor, int maximumConcurrentRequests, Duration minimumInterval) {
+        if (maximumConcurrentRequests < 1) {
+            throw new IllegalArgumentException("At least one request per host has to be allowed");
+        }
+        this.executor = Objects.requireNonNull(executor);
+        this.maximumConcurrentRequests = maximumConcurrentRequests;
+        this.minimumInterval = minimumInterval.toNanos();
+    }
+
+    /**
+     * Schedules the given request to the given host.
+     *
+     * @param host    the host the request is sent to, or any other name of a service which should be limited
+     * @param request the request, which is run once the host may be asked again
+     * @return the result of the request, which completes exceptionally if the request throws an exception
+     */
+    public <T> CompletableFuture<T> schedule(String host, Callable<T> request) {
+        return schedule(host, request, Optional.empty());
+    }
+
+    /**
+     * Schedules the given request to the given host, which has to be answered within the given time once it has been
+     * started. Afterwards, the result completes with a {@link TimeoutException}, the thread running the request is
+     * interrupted and the next request to the host may start.
+     * <p>
+     * A request whose result has been completed before it is started, e.g., by cancelling it, is not run at all.
+     */
+    public <T> CompletableFuture<T> schedule(String host, Callable<T> request, Duration timeout) {
+        return schedule(host, request, Optional.of(timeout));
+    }
+
+    private <T> CompletableFuture<T> schedule(String host, Callable<T> request, Optional<Duration> timeout) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Host limits = hosts.computeIfAbsent(host, key -> new Host());
+        limits.enqueue(new Request<>(host, request, timeout, result, limits));
+        return result;
+    }
+
+    /**
+     * A request, which frees its place at the host exactly once: when it is done or when it has timed out
+     */
+    private class Request<T> implements Runnable {
+
+        private final String host;
+        private final Callable<T> request;
+        private final Optional<Duration> timeout;
+        private final CompletableFuture<T> result;
+        private final Host limits;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        /**
+         * The thread running the request, guarded by this
+         */
+        private Thread runner;
+
+        private Request(String host, Callable<T> request, Optional<Duration> timeout, CompletableFuture<T> result, Host limits) {
+            this.host = host;
+            this.request = request;
+            this.timeout = timeout;
+            this.result = result;
+            this.limits = limits;
+        }
+
+        @Override
+        public void run() {
+            if (result.isDone()) {
+                release();
+                return;
+            }
+
+            synchronized (this) {
+                runner = Thread.currentThread();
+            }
+            // the timer does not use the executor, whose threads may all be waiting for answers
+            timeout.ifPresent(duration -> CompletableFuture.delayedExecutor(duration.toNanos(), TimeUnit.NANOSECONDS)
+                                                           .execute(this::timedOut));
+            try {
+                result.complete(request.call());
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            } finally {
+                synchronized (this) {
+                    runner = null;
+                    // clears an interrupt of a timeout which came too late
+                    Thread.interrupted();
+                }
+                release();
+            }
+        }
+
+        private void timedOut() {
+            if (result.completeExceptionally(new TimeoutException("Request to " + host + " took longer than " + timeout.get()))) {
+                release();
+                synchronized (this) {
+                    if (runner != null) {
+                        runner.interrupt();
+                    }
+                }
+            }
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                limits.finished();
+            }
+        }
+    }
+
+    /**
+     * The requests to one host, which have not been started yet
+     */
+    private class Host {
+
+        private final Deque<Runnable> pending = new ArrayDeque<>();
+        private int running;
+        private long nextStart = System.nanoTime();
+
+        synchronized void enqueue(Runnable request) {
+            pending.add(request);
+            dispatch();
+        }
+
+        synchronized void finished() {
+            running--;
+            dispatch();
+        }
+
+        /**
+         * Hands the pending requests to the executor as far as the limits allow. A request which has to wait for the
+         * interval to pass is delayed by the executor, but already counts as running.
+         */
+        private void dispatch() {
+            while ((running < maximumConcurrentRequests) && !pending.isEmpty()) {
+                long now = System.nanoTime();
+                long start = Math.max(now, nextStart);
+                nextStart = start + minimumInterval;
+                running++;
+                try {
+                    executor.schedule(pending.poll(), start - now, TimeUnit.NANOSECONDS);
+                } catch (RejectedExecutionException e) {
+                    // the executor has been shut down, thus no request will run anymore
+                    pending.clear();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.DataOutputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -26,11 +27,17 @@ import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
@@ -54,13 +61,19 @@ import org.slf4j.LoggerFactory;
  * dl.toFile(Path); // available in FILE
  * String contentType = dl.getMimeType();
  *
- * Each call to a public method creates a new HTTP connection. Nothing is cached.
+ * Each call to a public method creates a new HTTP connection, which may reuse a kept-alive connection to the same
+ * server. If a response cache has been set using {@link #setResponseCache(HttpResponseCache)}, the responses of
+ * {@link #asString()} and {@link #asCachedInputStream()} are taken from the cache. Files are downloaded using
+ * {@link #asInputStream()} or {@link #toFile(Path)}, which never use the cache.
  */
 public class URLDownload {
 
     public static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64; rv:68.0) Gecko/20100101 Firefox/68.0";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(URLDownload.class);
+
+    private static volatile Optional<HttpResponseCache> responseCache = Optional.empty();
+
     private final URL source;
     private final Map<String, String> parameters = new HashMap<>();
     private String postData = "";
@@ -126,6 +139,15 @@ public class URLDownload {
         }
     }
 
+    /**
+     * Sets the cache the responses to all downloads as string or stream are taken from.
+     *
+     * @param cache the cache, or null to download the resources every time
+     */
+    public static void setResponseCache(HttpResponseCache cache) {
+        responseCache = Optional.ofNullable(cache);
+    }
+
     public URL getSource() {
         return source;
     }
@@ -200,7 +222,7 @@ public class URLDownload {
      * @return the downloaded string
      */
     public String asString(Charset encoding) throws IOException {
-        try (InputStream input = new BufferedInputStream(this.openConnection().getInputStream());
+        try (InputStream input = this.openBody();
              Writer output = new StringWriter()) {
             copy(input, output, encoding);
             return output.toString();
@@ -248,7 +270,8 @@ public class URLDownload {
     }
 
     /**
-     * Takes the web resource as the source for a monitored input stream.
+     * Takes the web resource as the source for a monitored input stream. The resource is streamed, thus this is meant
+     * for downloading files.
      */
     public ProgressInputStream asInputStream() throws IOException {
         HttpURLConnection urlConnection = (HttpURLConnection) this.openConnection();
@@ -262,6 +285,21 @@ public class URLDownload {
         return new ProgressInputStream(new BufferedInputStream(urlConnection.getInputStream()), fileSize);
     }
 
+    /**
+     * Takes the web resource as the source for a monitored input stream, which is taken from the response cache if
+     * possible. The whole response is read into memory first, thus this is meant for small responses of web services,
+     * e.g., search results.
+     */
+    public ProgressInputStream asCachedInputStream() throws IOException {
+        Optional<HttpResponseCache> cache = responseCache;
+        if (cache.isEmpty()) {
+            return asInputStream();
+        }
+
+        byte[] body = downloadUsingCache(cache.get()).orElse(new byte[0]);
+        return new ProgressInputStream(new ByteArrayInputStream(body), body.length);
+    }
+
     /**
      * Downloads the web resource to a temporary file.
      *
@@ -301,11 +339,138 @@ public class URLDownload {
         }
     }
 
+    private InputStream openBody() throws IOException {
+        Optional<HttpResponseCache> cache = responseCache;
+        if (cache.isPresent()) {
+            byte[] body = downloadUsingCache(cache.get()).orElseThrow(() -> new FileNotFoundException(source.toString()));
+            return new ByteArrayInputStream(body);
+        }
+        return new BufferedInputStream(this.openConnection().getInputStream());
+    }
+
+    /**
+     * Downloads the web resource unless the cache holds a response which is still fresh or has not been modified
+     * according to the server. Only successful responses are stored in the cache.
+     *
+     * @return the body of the response, or an empty Optional if the server answered with 400 or 404
+     */
+    private Optional<byte[]> downloadUsingCache(HttpResponseCache cache) throws IOException {
+        // a response to an authenticated request belongs to the user or session, thus it is not stored
+        boolean storable = !sendsCredentials();
+        String request = describeRequest();
+        Optional<HttpResponseCache.CachedResponse> cachedResponse = storable ? cache.get(request) : Optional.empty();
+        if (cachedResponse.isPresent() && cache.isFresh(cachedResponse.get())) {
+            return Optional.of(cachedResponse.get().getBody());
+        }
+
+        Map<String, String> conditionalHeaders = new HashMap<>();
+        cachedResponse.ifPresent(response -> {
+            response.getEntityTag().ifPresent(entityTag -> conditionalHeaders.put("If-None-Match", entityTag));
+            response.getLastModified().ifPresent(lastModified -> conditionalHeaders.put("If-Modified-Since", lastModified));
+        });
+        URLConnection connection = this.openConnection(conditionalHeaders);
+        if (!(connection instanceof HttpURLConnection)) {
+            try (InputStream input = connection.getInputStream()) {
+                return Optional.of(input.readAllBytes());
+            }
+        }
+
+        HttpURLConnection httpConnection = (HttpURLConnection) connection;
+        int status = httpConnection.getResponseCode();
+        if ((status == HttpURLConnection.HTTP_NOT_MODIFIED) && cachedResponse.isPresent()) {
+            // the (empty) body is read, so that the connection can be kept alive
+            try (InputStream input = httpConnection.getInputStream()) {
+                input.readAllBytes();
+            }
+            cache.put(request, cachedResponse.get().revalidatedAt(System.currentTimeMillis()));
+            return cachedResponse.map(HttpResponseCache.CachedResponse::getBody);
+        }
+        if ((status == HttpURLConnection.HTTP_NOT_FOUND) || (status == HttpURLConnection.HTTP_BAD_REQUEST)) {
+            LOGGER.error("Response message {} returned for url {}", httpConnection.getResponseMessage(), httpConnection.getURL());
+            try (InputStream errorStream = httpConnection.getErrorStream()) {
+                if (errorStream != null) {
+                    errorStream.readAllBytes();
+                }
+            }
+            return Optional.empty();
+        }
+
+        byte[] body;
+        try (InputStream input = httpConnection.getInputStream()) {
+            body = input.readAllBytes();
+        }
+        List<String> cacheControl = getCacheControlDirectives(httpConnection.getHeaderField("Cache-Control"));
+        if (storable && (status == HttpURLConnection.HTTP_OK) && !cacheControl.contains("no-store")) {
+            cache.put(request, new HttpResponseCache.CachedResponse(body,
+                    Optional.ofNullable(httpConnection.getHeaderField("ETag")),
+                    Optional.ofNullable(httpConnection.getHeaderField("Last-Modified")),
+                    System.currentTimeMillis(),
+                    getMaximumAge(cacheControl)));
+        }
+        return Optional.of(body);
+    }
+
+    /**
+     * Tells whether the request authenticates the user, e.g., by a bearer token or a session cookie
+     */
+    private boolean sendsCredentials() {
+        return this.parameters.keySet().stream()
+                              .anyMatch(header -> "Authorization".equalsIgnoreCase(header) || "Cookie".equalsIgnoreCase(header));
+    }
+
+    private static List<String> getCacheControlDirectives(String cacheControl) {
+        if (cacheControl == null) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(cacheControl.split(","))
+                     .map(directive -> directive.trim().toLowerCase(Locale.ROOT))
+                     .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the time a response may be used without asking the server again. Responses marked as "no-cache" or
+     * "private" are revalidated every time, since they may differ between requests.
+     */
+    private static Optional<Duration> getMaximumAge(List<String> cacheControl) {
+        if (cacheControl.contains("no-cache") || cacheControl.contains("private")) {
+            return Optional.of(Duration.ZERO);
+        }
+        for (String directive : cacheControl) {
+            if (directive.startsWith("max-age=")) {
+                try {
+                    return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(directive.substring("max-age=".length()).replace("\"", "")))));
+                } catch (NumberFormatException e) {
+                    return Optional.of(Duration.ZERO);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Describes everything the response depends on: the URL, the request headers and the data sent
+     */
+    private String describeRequest() {
+        StringBuilder request = new StringBuilder(this.postData.isEmpty() ? "GET " : "POST ").append(this.source).append('\n');
+        new TreeMap<>(this.parameters).forEach((key, value) -> request.append(key).append(": ").append(value).append('\n'));
+        return request.append('\n').append(this.postData).toString();
+    }
+
     private URLConnection openConnection() throws IOException {
+        return openConnection(Collections.emptyMap());
+    }
+
+    /**
+     * @param additionalHeaders request headers sent in addition to the ones of this download
+     */
+    private URLConnection openConnection(Map<String, String> additionalHeaders) throws IOException {
         URLConnection connection = this.source.openConnection();
         for (Entry<String, String> entry : this.parameters.entrySet()) {
             connection.setRequestProperty(entry.getKey(), entry.getValue());
         }
+        for (Entry<String, String> entry : additionalHeaders.entrySet()) {
+            connection.setRequestProperty(entry.getKey(), entry.getValue());
+        }
         if (!this.postData.isEmpty()) {
             connection.setDoOutput(true);
             try (DataOutputStream wr = new DataOutputStream(connection.getOutputStream())) {
@@ -315,6 +480,8 @@ public class URLDownload {
         }
 
         if (connection instanceof HttpURLConnection) {
+            // asking for the status sends the request; connecting again after a response without body, e.g., 304,
+            // would open another connection instead of reusing the kept-alive one
             // normally, 3xx is redirect
             int status = ((HttpURLConnection) connection).getResponseCode();
             if (status != HttpURLConnection.HTTP_OK) {
@@ -327,11 +494,11 @@ public class URLDownload {
                     connection = new URLDownload(newUrl).openConnection();
                 }
             }
+        } else {
+            // this does network i/o: GET + read returned headers
+            connection.connect();
         }
 
-        // this does network i/o: GET + read returned headers
-        connection.connect();
-
         return connection;
     }
 
@@ -44,8 +44,17 @@ public class EntryAnnotationImporter {
      * @return Map from each PDF to a list of file annotations
      */
     public Map<Path, List<FileAnnotation>> importAnnotationsFromFiles(BibDatabaseContext databaseContext, FilePreferences filePreferences) {
+        return importAnnotationsFromFiles(databaseContext, filePreferences, new PdfAnnotationImporter());
+    }
+
+    /**
+     * Reads the annotations from the files that are attached to a BibEntry using the given importer.
+     *
+     * @param databaseContext The context is needed for the importer.
+     * @return Map from each PDF to a list of file annotations
+     */
+    public Map<Path, List<FileAnnotation>> importAnnotationsFromFiles(BibDatabaseContext databaseContext, FilePreferences filePreferences, AnnotationImporter importer) {
         Map<Path, List<FileAnnotation>> annotations = new HashMap<>();
-        AnnotationImporter importer = new PdfAnnotationImporter();
 
         //import annotationsOfFiles if the selected files are valid which is checked in getFilteredFileList()
         for (LinkedFile linkedFile : this.getFilteredFileList()) {
@@ -33,10 +33,22 @@ public class FileAnnotationCache {
     }
 
     public FileAnnotationCache(BibDatabaseContext context, FilePreferences filePreferences) {
+        this(context, filePreferences, new PdfAnnotationImporter());
+    }
+
+    /**
+     * Creates a file annotation cache, which takes the annotations of entries not kept in memory from the given
+     * persistent cache as long as their files are unchanged.
+     */
+    public FileAnnotationCache(BibDatabaseContext context, FilePreferences filePreferences, PdfContentCache pdfContentCache) {
+        this(context, filePreferences, new PdfAnnotationImporter(pdfContentCache));
+    }
+
+    private FileAnnotationCache(BibDatabaseContext context, FilePreferences filePreferences, AnnotationImporter importer) {
         annotationCache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build(new CacheLoader<BibEntry, Map<Path, List<FileAnnotation>>>() {
             @Override
             public Map<Path, List<FileAnnotation>> load(BibEntry entry) throws Exception {
-                return new EntryAnnotationImporter(entry).importAnnotationsFromFiles(context, filePreferences);
+                return new EntryAnnotationImporter(entry).importAnnotationsFromFiles(context, filePreferences, importer);
             }
         });
     }
@@ -3,6 +3,7 @@ package org.jabref.logic.pdf;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -27,6 +28,19 @@ public class PdfAnnotationImporter implements AnnotationImporter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PdfAnnotationImporter.class);
 
+    private final Optional<PdfContentCache> cache;
+
+    public PdfAnnotationImporter() {
+        this.cache = Optional.empty();
+    }
+
+    /**
+     * @param cache the cache the annotations of unchanged files are taken from instead of loading the files again
+     */
+    public PdfAnnotationImporter(PdfContentCache cache) {
+        this.cache = Optional.of(cache);
+    }
+
     /**
      * Imports the comments from a pdf specified by its path
      *
@@ -41,7 +55,20 @@ public class PdfAnnotationImporter implements AnnotationImporter {
             return Collections.emptyList();
         }
 
+        Optional<List<FileAnnotation>> cachedAnnotations = cache.flatMap(annotationCache -> annotationCache.getAnnotations(path));
+        if (cachedAnnotations.isPresent()) {
+            return cachedAnnotations.get();
+        }
+
         List<FileAnnotation> annotationsList = new LinkedList<>();
+        BasicFileAttributes attributes;
+        try {
+            // read before loading, so that a change while loading is not recorded as the state of the annotations
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            LOGGER.error(String.format("Failed to read file '%s'.", path), e);
+            return annotationsList;
+        }
         try (PDDocument document = PDDocument.load(path.toFile())) {
             PDPageTree pdfPages = document.getDocumentCatalog().getPages();
             for (int pageIndex = 0; pageIndex < pdfPages.getCount(); pageIndex++) {
@@ -63,7 +90,9 @@ public class PdfAnnotationImporter implements AnnotationImporter {
             }
         } catch (IOException e) {
             LOGGER.error(String.format("Failed to read file '%s'.", path), e);
+            return annotationsList;
         }
+        cache.ifPresent(annotationCache -> annotationCache.putAnnotations(path, attributes, annotationsList));
         return annotationsList;
     }
 
@@ -0,0 +1,186 @@
+package org.jabref.logic.pdf;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.logic.util.io.SnapshotDirectory;
+import org.jabref.logic.xmp.PdfMetadata;
+import org.jabref.model.pdf.FileAnnotation;
+import org.jabref.model.pdf.FileAnnotationType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores what has been read from PDF files as binary snapshots in a directory, so that an unchanged file does not have
+ * to be loaded again. The annotations, the metadata and the text of the first page of a file are stored separately,
+ * since they are read by different importers.
+ * <p>
+ * A snapshot is identified by the path of the file and is only used as long as the size and the modification time of
+ * the file are the ones recorded in the snapshot. These are read before the file is loaded and passed when the content
+ * is stored, as the file may be saved while it is being loaded. The snapshots take up at most the given number of
+ * bytes; if there are more, the least recently used ones are deleted.
+ */
+public class PdfContentCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PdfContentCache.class);
+
+    private static final int MAGIC_NUMBER = 0x4A525044;
+    private static final int FORMAT_VERSION = 1;
+    private static final String SNAPSHOT_EXTENSION = ".snapshot";
+
+    private static final String ANNOTATIONS = "annotations";
+    private static final String METADATA = "metadata";
+    private static final String FIRST_PAGE_TEXT = "firstPageText";
+
+    private final SnapshotDirectory snapshots;
+
+    public PdfContentCache(Path directory, long maximumSize) {
+        this.snapshots = new SnapshotDirectory(directory, SNAPSHOT_EXTENSION, MAGIC_NUMBER, FORMAT_VERSION, maximumSize);
+    }
+
+    public Optional<List<FileAnnotation>> getAnnotations(Path file) {
+        return read(file, ANNOTATIONS, input -> {
+            int count = input.readInt();
+            List<FileAnnotation> annotations = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                annotations.add(readAnnotation(input));
+            }
+            return annotations;
+        });
+    }
+
+    /**
+     * @param attributes the attributes of the file read before it has been loaded
+     */
+    public void putAnnotations(Path file, BasicFileAttributes attributes, List<FileAnnotation> annotations) {
+        write(file, attributes, ANNOTATIONS, output -> {
+            output.writeInt(annotations.size());
+            for (FileAnnotation annotation : annotations) {
+                writeAnnotation(output, annotation);
+            }
+        });
+    }
+
+    public Optional<PdfMetadata> getMetadata(Path file) {
+        return read(file, METADATA, input -> {
+            Optional<String> xmpPacket = Optional.ofNullable(SnapshotDirectory.readString(input));
+            int count = input.readInt();
+            Map<String, String> documentInformation = new LinkedHashMap<>(count);
+            for (int i = 0; i < count; i++) {
+                documentInformation.put(SnapshotDirectory.readString(input), SnapshotDirectory.readString(input));
+            }
+            return new PdfMetadata(xmpPacket, documentInformation);
+        });
+    }
+
+    /**
+     * @param attributes the attributes of the file read before it has been loaded
+     */
+    public void putMetadata(Path file, BasicFileAttributes attributes, PdfMetadata metadata) {
+        write(file, attributes, METADATA, output -> {
+            SnapshotDirectory.writeString(output, metadata.getXmpPacket().orElse(null));
+            output.writeInt(metadata.getDocumentInformation().size());
+            for (Map.Entry<String, String> entry : metadata.getDocumentInformation().entrySet()) {
+                SnapshotDirectory.writeString(output, entry.getKey());
+                SnapshotDirectory.writeString(output, entry.getValue());
+            }
+        });
+    }
+
+    public Optional<String> getFirstPageText(Path file) {
+        return read(file, FIRST_PAGE_TEXT, SnapshotDirectory::readString);
+    }
+
+    /**
+     * @param attributes the attributes of the file read before it has been loaded
+     */
+    public void putFirstPageText(Path file, BasicFileAttributes attributes, String text) {
+        write(file, attributes, FIRST_PAGE_TEXT, output -> SnapshotDirectory.writeString(output, text));
+    }
+
+    private <T> Optional<T> read(Path file, String kind, ContentReader<T> reader) {
+        String source = file.toAbsolutePath().normalize().toString();
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        return snapshots.read(getKey(source, kind), input -> {
+            if (!input.readUTF().equals(kind) || !input.readUTF().equals(source)
+                    || (input.readLong() != attributes.size())
+                    || (input.readLong() != attributes.lastModifiedTime().toMillis())) {
+                return Optional.empty();
+            }
+            return Optional.of(reader.read(input));
+        });
+    }
+
+    /**
+     * Stores the snapshot, unless the file has been modified since the given attributes were read, as the content may
+     * then belong to either version of the file.
+     */
+    private void write(Path file, BasicFileAttributes attributes, String kind, SnapshotDirectory.SnapshotWriter writer) {
+        String source = file.toAbsolutePath().normalize().toString();
+        try {
+            BasicFileAttributes currentAttributes = Files.readAttributes(file, BasicFileAttributes.class);
+            if ((currentAttributes.size() != attributes.size())
+                    || !currentAttributes.lastModifiedTime().equals(attributes.lastModifiedTime())) {
+                LOGGER.debug("{} has been modified while it was loaded, thus it is not cached", file);
+                return;
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Could not read attributes of {}, thus it is not cached", file, e);
+            return;
+        }
+        snapshots.write(getKey(source, kind), output -> {
+            output.writeUTF(kind);
+            output.writeUTF(source);
+            output.writeLong(attributes.size());
+            output.writeLong(attributes.lastModifiedTime().toMillis());
+            writer.write(output);
+        });
+    }
+
+    private static String getKey(String source, String kind) {
+        return kind + ':' + source;
+    }
+
+    private static FileAnnotation readAnnotation(DataInputStream input) throws IOException {
+        String author = SnapshotDirectory.readString(input);
+        LocalDateTime timeModified = LocalDateTime.parse(input.readUTF());
+        int page = input.readInt();
+        String content = SnapshotDirectory.readString(input);
+        FileAnnotationType annotationType = FileAnnotationType.valueOf(input.readUTF());
+        Optional<FileAnnotation> linkedFileAnnotation = input.readBoolean() ? Optional.of(readAnnotation(input)) : Optional.empty();
+        return new FileAnnotation(author, timeModified, page, content, annotationType, linkedFileAnnotation);
+    }
+
+    private static void writeAnnotation(DataOutputStream output, FileAnnotation annotation) throws IOException {
+        SnapshotDirectory.writeString(output, annotation.getAuthor());
+        output.writeUTF(annotation.getTimeModified().toString());
+        output.writeInt(annotation.getPage());
+        SnapshotDirectory.writeString(output, annotation.getContent());
+        output.writeUTF(annotation.getAnnotationType().name());
+        output.writeBoolean(annotation.hasLinkedAnnotation());
+        if (annotation.hasLinkedAnnotation()) {
+            writeAnnotation(output, annotation.getLinkedFileAnnotation());
+        }
+    }
+
+    @FunctionalInterface
+    private interface ContentReader<T> {
+        T read(DataInputStream input) throws IOException;
+    }
+}
@@ -9,6 +9,7 @@ import java.util.regex.Pattern;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.SearchIndex;
 import org.jabref.model.search.SearchMatcher;
 import org.jabref.model.search.rules.ContainBasedSearchRule;
 import org.jabref.model.search.rules.GrammarBasedSearchRule;
@@ -40,6 +41,16 @@ public class SearchQuery implements SearchMatcher {
         return rule.applyRule(getQuery(), entry);
     }
 
+    /**
+     * Returns a matcher for this query, which uses the given index to rule out entries. This is much faster than
+     * calling {@link #isMatch(BibEntry)} for each entry, because only the candidate entries are checked.
+     * The candidates are determined once, thus a new matcher has to be requested for each search.
+     */
+    public SearchMatcher getIndexedMatcher(SearchIndex index) {
+        SearchIndex.Candidates candidates = rule.getCandidates(getQuery(), index);
+        return entry -> candidates.contains(entry) && isMatch(entry);
+    }
+
     public boolean isValid() {
         return rule.validateSearchStrings(getQuery());
     }
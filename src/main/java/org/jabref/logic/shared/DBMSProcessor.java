@@ -16,6 +16,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.shared.exception.OfflineLockException;
 import org.jabref.model.database.shared.DBMSType;
@@ -39,6 +40,12 @@ public abstract class DBMSProcessor {
 
     protected static final Logger LOGGER = LoggerFactory.getLogger(DBMSProcessor.class);
 
+    /**
+     * The maximum number of rows inserted or queried by a single statement. Oracle allows at most 1000 values in an IN
+     * list, and the number of bind parameters of a statement is limited by all database systems.
+     */
+    protected static final int ROWS_PER_STATEMENT = 1000;
+
     protected final Connection connection;
 
     protected DatabaseConnectionProperties connectionProperties;
@@ -136,19 +143,91 @@ public abstract class DBMSProcessor {
      * @param bibEntry {@link BibEntry} to be inserted
      */
     public void insertEntry(BibEntry bibEntry) {
-        if (!checkForBibEntryExistence(bibEntry)) {
-            insertIntoEntryTable(bibEntry);
-            insertIntoFieldTable(bibEntry);
+        insertEntries(Collections.singletonList(bibEntry));
+    }
+
+    /**
+     * Inserts the given entries into shared database within a single transaction. Entries already existing on shared
+     * database are skipped. If the insertion fails, none of the entries is inserted.
+     *
+     * @param bibEntries {@link BibEntry}s to be inserted
+     */
+    public void insertEntries(List<BibEntry> bibEntries) {
+        Objects.requireNonNull(bibEntries);
+        List<BibEntry> entriesToInsert = filterForNotExistingEntries(bibEntries);
+        if (entriesToInsert.isEmpty()) {
+            return;
+        }
+
+        try {
+            connection.setAutoCommit(false); // disable auto commit due to transaction
+            try {
+                insertIntoEntryTable(entriesToInsert);
+                insertIntoFieldTable(entriesToInsert);
+                connection.commit(); // apply all changes in current transaction
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error: ", e);
+                connection.rollback(); // undo changes made in current transaction
+                // the generated IDs were rolled back as well
+                entriesToInsert.forEach(entry -> entry.getSharedBibEntryData().setSharedID(-1));
+            } finally {
+                connection.setAutoCommit(true); // enable auto commit mode again
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+        }
+    }
+
+    /**
+     * Returns the given entries which do not exist on shared database yet, i.e., which have no shared ID or whose
+     * shared ID is unknown to shared database.
+     */
+    private List<BibEntry> filterForNotExistingEntries(List<BibEntry> bibEntries) {
+        List<Integer> sharedIDs = bibEntries.stream()
+                                            .map(entry -> entry.getSharedBibEntryData().getSharedID())
+                                            .filter(sharedID -> sharedID != -1)
+                                            .distinct()
+                                            .collect(Collectors.toList());
+        Set<Integer> existingSharedIDs = new HashSet<>();
+        for (int batchStart = 0; batchStart < sharedIDs.size(); batchStart += ROWS_PER_STATEMENT) {
+            List<Integer> batch = sharedIDs.subList(batchStart, Math.min(batchStart + ROWS_PER_STATEMENT, sharedIDs.size()));
+            String selectQuery =
+                    "SELECT " +
+                            escape("SHARED_ID") +
+                            " FROM " +
+                            escape("ENTRY") +
+                            " WHERE " +
+                            escape("SHARED_ID") +
+                            " IN (" +
+                            "?, ".repeat(batch.size() - 1) +
+                            "?)";
+            try (PreparedStatement preparedSelectStatement = connection.prepareStatement(selectQuery)) {
+                for (int i = 0; i < batch.size(); i++) {
+                    preparedSelectStatement.setInt(i + 1, batch.get(i));
+                }
+                try (ResultSet resultSet = preparedSelectStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        existingSharedIDs.add(resultSet.getInt(1));
+                    }
+                }
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error: ", e);
+            }
         }
+
+        return bibEntries.stream()
+                         .filter(entry -> !existingSharedIDs.contains(entry.getSharedBibEntryData().getSharedID()))
+                         .collect(Collectors.toList());
     }
 
     /**
-     * Inserts the given bibEntry into ENTRY table.
+     * Inserts the given entries into ENTRY table and sets their generated shared IDs. The entries are sent as one JDBC
+     * batch, database systems whose drivers return generated keys in a cheaper way override this method.
      *
-     * @param bibEntry {@link BibEntry} to be inserted
+     * @param bibEntries {@link BibEntry}s to be inserted
+     * @throws SQLException if an entry could not be inserted or its ID could not be determined
      */
-    protected void insertIntoEntryTable(BibEntry bibEntry) {
-        // This is the only method to get generated keys which is accepted by MySQL, PostgreSQL and Oracle.
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
         String insertIntoEntryQuery =
                 "INSERT INTO " +
                         escape("ENTRY") +
@@ -158,91 +237,78 @@ public abstract class DBMSProcessor {
 
         try (PreparedStatement preparedEntryStatement = connection.prepareStatement(insertIntoEntryQuery,
                 new String[]{"SHARED_ID"})) {
-
-            preparedEntryStatement.setString(1, bibEntry.getType().getName());
-            preparedEntryStatement.executeUpdate();
+            for (BibEntry bibEntry : bibEntries) {
+                preparedEntryStatement.setString(1, bibEntry.getType().getName());
+                preparedEntryStatement.addBatch();
+            }
+            preparedEntryStatement.executeBatch();
 
             try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    bibEntry.getSharedBibEntryData().setSharedID(generatedKeys.getInt(1)); // set generated ID locally
-                }
+                setSharedIDs(bibEntries, generatedKeys);
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
     }
 
     /**
-     * Checks whether the given bibEntry already exists on shared database.
-     *
-     * @param bibEntry {@link BibEntry} to be checked
-     * @return <code>true</code> if existent, else <code>false</code>
+     * Sets the generated keys as shared IDs of the given entries, in the order of the entries
      */
-    private boolean checkForBibEntryExistence(BibEntry bibEntry) {
-        try {
-            // Check if already exists
-            int sharedID = bibEntry.getSharedBibEntryData().getSharedID();
-            if (sharedID != -1) {
-                String selectQuery =
-                        "SELECT * FROM " +
-                                escape("ENTRY") +
-                                " WHERE " +
-                                escape("SHARED_ID") +
-                                " = ?";
-
-                try (PreparedStatement preparedSelectStatement = connection.prepareStatement(selectQuery)) {
-                    preparedSelectStatement.setInt(1, sharedID);
-                    try (ResultSet resultSet = preparedSelectStatement.executeQuery()) {
-                        if (resultSet.next()) {
-                            return true;
-                        }
-                    }
-                }
+    protected static void setSharedIDs(List<BibEntry> bibEntries, ResultSet generatedKeys) throws SQLException {
+        for (BibEntry bibEntry : bibEntries) {
+            if (!generatedKeys.next()) {
+                throw new SQLException("Fewer generated keys than inserted entries");
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
+            bibEntry.getSharedBibEntryData().setSharedID(generatedKeys.getInt(1)); // set generated ID locally
         }
-        return false;
     }
 
     /**
-     * Inserts the given bibEntry into FIELD table.
+     * Inserts the fields of the given entries, which already have a shared ID, into FIELD table. The fields are sent
+     * as multi-row inserts of at most {@link #ROWS_PER_STATEMENT} rows.
      *
-     * @param bibEntry {@link BibEntry} to be inserted
+     * @param bibEntries {@link BibEntry}s whose fields should be inserted
      */
-    private void insertIntoFieldTable(BibEntry bibEntry) {
-        try {
-            // Inserting into FIELD table
-            // Coerce to ArrayList in order to use List.get()
-            List<Field> fields = new ArrayList<>(bibEntry.getFields());
-            StringBuilder insertFieldQuery = new StringBuilder()
-                    .append("INSERT INTO ")
-                    .append(escape("FIELD"))
-                    .append("(")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(", ")
-                    .append(escape("NAME"))
-                    .append(", ")
-                    .append(escape("VALUE"))
-                    .append(") VALUES(?, ?, ?)");
-            // Number of commas is fields.size() - 1
-            for (int i = 0; i < fields.size() - 1; i++) {
-                insertFieldQuery.append(", (?, ?, ?)");
-            }
-            try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
-                for (int i = 0; i < fields.size(); i++) {
+    protected void insertIntoFieldTable(List<BibEntry> bibEntries) throws SQLException {
+        List<FieldRow> rows = getFieldRows(bibEntries);
+        for (int batchStart = 0; batchStart < rows.size(); batchStart += ROWS_PER_STATEMENT) {
+            List<FieldRow> batch = rows.subList(batchStart, Math.min(batchStart + ROWS_PER_STATEMENT, rows.size()));
+            String insertFieldQuery = getInsertIntoFieldTableQuery() + ", (?, ?, ?)".repeat(batch.size() - 1);
+            try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery)) {
+                for (int i = 0; i < batch.size(); i++) {
                     // columnIndex starts with 1
-                    preparedFieldStatement.setInt((3 * i) + 1, bibEntry.getSharedBibEntryData().getSharedID());
-                    preparedFieldStatement.setString((3 * i) + 2, fields.get(i).getName());
-                    preparedFieldStatement.setString((3 * i) + 3, bibEntry.getField(fields.get(i)).get());
+                    batch.get(i).setParameters(preparedFieldStatement, 3 * i);
                 }
                 preparedFieldStatement.executeUpdate();
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
     }
 
+    /**
+     * Returns the query inserting a single row into FIELD table
+     */
+    protected String getInsertIntoFieldTableQuery() {
+        return "INSERT INTO " +
+                escape("FIELD") +
+                "(" +
+                escape("ENTRY_SHARED_ID") +
+                ", " +
+                escape("NAME") +
+                ", " +
+                escape("VALUE") +
+                ") VALUES(?, ?, ?)";
+    }
+
+    /**
+     * Returns the rows of the FIELD table representing the given entries
+     */
+    protected static List<FieldRow> getFieldRows(List<BibEntry> bibEntries) {
+        List<FieldRow> rows = new ArrayList<>();
+        for (BibEntry bibEntry : bibEntries) {
+            int sharedID = bibEntry.getSharedBibEntryData().getSharedID();
+            bibEntry.getFieldMap().forEach((field, value) -> rows.add(new FieldRow(sharedID, field.getName(), value)));
+        }
+        return rows;
+    }
+
     /**
      * Updates the whole {@link BibEntry} on shared database.
      *
@@ -646,4 +712,29 @@ public abstract class DBMSProcessor {
     public void notifyClients() {
         // nothing to do
     }
+
+    /**
+     * A row of the FIELD table
+     */
+    protected static class FieldRow {
+
+        private final int sharedID;
+        private final String name;
+        private final String value;
+
+        FieldRow(int sharedID, String name, String value) {
+            this.sharedID = sharedID;
+            this.name = name;
+            this.value = value;
+        }
+
+        /**
+         * Sets the values of this row as the parameters following the given parameter index
+         */
+        void setParameters(PreparedStatement preparedStatement, int parameterIndex) throws SQLException {
+            preparedStatement.setInt(parameterIndex + 1, sharedID);
+            preparedStatement.setString(parameterIndex + 2, name);
+            preparedStatement.setString(parameterIndex + 3, value);
+        }
+    }
 }
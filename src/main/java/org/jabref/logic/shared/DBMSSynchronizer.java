@@ -3,10 +3,11 @@ package org.jabref.logic.shared;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -48,6 +49,11 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DBMSSynchronizer.class);
 
+    /**
+     * Oracle allows at most 1000 values in an IN list
+     */
+    private static final int SHARED_ID_BATCH_SIZE = 1000;
+
     private DBMSProcessor dbmsProcessor;
     private String dbName;
     private final BibDatabaseContext bibDatabaseContext;
@@ -82,10 +88,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         if (isEventSourceAccepted(event) && checkCurrentConnection()) {
             synchronizeLocalMetaData();
             synchronizeLocalDatabase(); // Pull changes for the case that there were some
-            List<BibEntry> entries = event.getBibEntries();
-            for (BibEntry entry : entries) {
-                dbmsProcessor.insertEntry(entry);
-            }
+            dbmsProcessor.insertEntries(event.getBibEntries());
         }
     }
 
@@ -183,44 +186,69 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
 
         // remove old entries locally
         removeNotSharedEntries(localEntries, idVersionMap.keySet());
+
+        Map<Integer, List<BibEntry>> localEntriesBySharedID = new HashMap<>();
+        for (BibEntry localEntry : localEntries) {
+            localEntriesBySharedID.computeIfAbsent(localEntry.getSharedBibEntryData().getSharedID(), id -> new ArrayList<>(1))
+                                  .add(localEntry);
+        }
+
         List<Integer> entriesToInsertIntoLocalDatabase = new ArrayList<>();
+        List<Integer> entriesToUpdateInLocalDatabase = new ArrayList<>();
         // compare versions and update local entry if needed
         for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean remoteEntryMatchingOneLocalEntryFound = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey().equals(localEntry.getSharedBibEntryData().getSharedID())) {
-                    remoteEntryMatchingOneLocalEntryFound = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntriesEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            sharedEntry.get().getFieldMap().forEach(
-                                    // copy remote values to local entry
-                                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
-                            );
-
-                            // locally remove not existing fields
-                            localEntry.getFields().stream()
-                                      .filter(field -> !sharedEntry.get().hasField(field))
-                                      .forEach(
-                                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
-                                      );
-                        }
-                    }
-                }
-            }
-            if (!remoteEntryMatchingOneLocalEntryFound) {
+            List<BibEntry> matchingLocalEntries = localEntriesBySharedID.get(idVersionEntry.getKey());
+            if (matchingLocalEntries == null) {
                 entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
+            } else if (matchingLocalEntries.stream().anyMatch(localEntry -> idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion())) {
+                entriesToUpdateInLocalDatabase.add(idVersionEntry.getKey());
+            }
+        }
+
+        for (BibEntry sharedEntry : getSharedEntries(entriesToUpdateInLocalDatabase)) {
+            int sharedID = sharedEntry.getSharedBibEntryData().getSharedID();
+            for (BibEntry localEntry : localEntriesBySharedID.getOrDefault(sharedID, Collections.emptyList())) {
+                if (idVersionMap.get(sharedID) > localEntry.getSharedBibEntryData().getVersion()) {
+                    updateLocalEntry(localEntry, sharedEntry);
+                }
             }
         }
 
         if (!entriesToInsertIntoLocalDatabase.isEmpty()) {
             // in case entries should be added into the local database, insert them
-            bibDatabase.insertEntries(dbmsProcessor.getSharedEntries(entriesToInsertIntoLocalDatabase), EntriesEventSource.SHARED);
+            bibDatabase.insertEntries(getSharedEntries(entriesToInsertIntoLocalDatabase), EntriesEventSource.SHARED);
+        }
+    }
+
+    /**
+     * Fetches the shared entries having the given IDs. The IDs are queried in batches, as some database systems limit
+     * the number of values in a query.
+     */
+    private List<BibEntry> getSharedEntries(List<Integer> sharedIDs) {
+        List<BibEntry> sharedEntries = new ArrayList<>(sharedIDs.size());
+        for (int batchStart = 0; batchStart < sharedIDs.size(); batchStart += SHARED_ID_BATCH_SIZE) {
+            List<Integer> batch = sharedIDs.subList(batchStart, Math.min(batchStart + SHARED_ID_BATCH_SIZE, sharedIDs.size()));
+            sharedEntries.addAll(dbmsProcessor.getSharedEntries(batch));
         }
+        return sharedEntries;
+    }
+
+    private void updateLocalEntry(BibEntry localEntry, BibEntry sharedEntry) {
+        // update fields
+        localEntry.setType(sharedEntry.getType(), EntriesEventSource.SHARED);
+        localEntry.getSharedBibEntryData()
+                  .setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+        sharedEntry.getFieldMap().forEach(
+                // copy remote values to local entry
+                (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
+        );
+
+        // locally remove not existing fields
+        localEntry.getFields().stream()
+                  .filter(field -> !sharedEntry.hasField(field))
+                  .forEach(
+                          field -> localEntry.clearField(field, EntriesEventSource.SHARED)
+                  );
     }
 
     /**
@@ -1,8 +1,13 @@
 package org.jabref.logic.shared;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
 
 import org.jabref.model.database.shared.DatabaseConnection;
+import org.jabref.model.entry.BibEntry;
 
 /**
  * Processes all incoming or outgoing bib data to MySQL Database and manages its structure.
@@ -39,6 +44,35 @@ public class MySQLProcessor extends DBMSProcessor {
                 "`VALUE` text NOT NULL)");
     }
 
+    /**
+     * Inserts the entries with multi-row inserts. MySQL assigns consecutive IDs to the rows of such an insert, which
+     * the driver returns as generated keys.
+     */
+    @Override
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
+        for (int batchStart = 0; batchStart < bibEntries.size(); batchStart += ROWS_PER_STATEMENT) {
+            List<BibEntry> batch = bibEntries.subList(batchStart, Math.min(batchStart + ROWS_PER_STATEMENT, bibEntries.size()));
+            String insertIntoEntryQuery = "INSERT INTO " +
+                    escape("ENTRY") +
+                    "(" +
+                    escape("TYPE") +
+                    ") VALUES(?)" +
+                    ", (?)".repeat(batch.size() - 1);
+
+            try (PreparedStatement preparedEntryStatement = connection.prepareStatement(insertIntoEntryQuery,
+                    Statement.RETURN_GENERATED_KEYS)) {
+                for (int i = 0; i < batch.size(); i++) {
+                    preparedEntryStatement.setString(i + 1, batch.get(i).getType().getName());
+                }
+                preparedEntryStatement.executeUpdate();
+
+                try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
+                    setSharedIDs(batch, generatedKeys);
+                }
+            }
+        }
+    }
+
     @Override
     String escape(String expression) {
         return "`" + expression + "`";
@@ -1,11 +1,15 @@
 package org.jabref.logic.shared;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.List;
 import java.util.Properties;
 
 import org.jabref.logic.shared.listener.OracleNotificationListener;
 import org.jabref.model.database.shared.DatabaseConnection;
+import org.jabref.model.entry.BibEntry;
 
 import oracle.jdbc.OracleConnection;
 import oracle.jdbc.OracleStatement;
@@ -60,6 +64,45 @@ public class OracleProcessor extends DBMSProcessor {
                 "\"VALUE\"  CLOB NOT NULL)");
     }
 
+    /**
+     * Inserts the entries one by one, as the Oracle driver does not return generated keys of batches. The entries are
+     * still inserted within the transaction of {@link #insertEntries(List)}.
+     */
+    @Override
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
+        String insertIntoEntryQuery = "INSERT INTO " +
+                escape("ENTRY") +
+                "(" +
+                escape("TYPE") +
+                ") VALUES(?)";
+
+        try (PreparedStatement preparedEntryStatement = connection.prepareStatement(insertIntoEntryQuery,
+                new String[]{"SHARED_ID"})) {
+            for (BibEntry bibEntry : bibEntries) {
+                preparedEntryStatement.setString(1, bibEntry.getType().getName());
+                preparedEntryStatement.executeUpdate();
+
+                try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
+                    setSharedIDs(List.of(bibEntry), generatedKeys);
+                }
+            }
+        }
+    }
+
+    /**
+     * Inserts the fields as one JDBC batch, as Oracle does not support multi-row inserts.
+     */
+    @Override
+    protected void insertIntoFieldTable(List<BibEntry> bibEntries) throws SQLException {
+        try (PreparedStatement preparedFieldStatement = connection.prepareStatement(getInsertIntoFieldTableQuery())) {
+            for (FieldRow row : getFieldRows(bibEntries)) {
+                row.setParameters(preparedFieldStatement, 0);
+                preparedFieldStatement.addBatch();
+            }
+            preparedFieldStatement.executeBatch();
+        }
+    }
+
     @Override
     String escape(String expression) {
         return expression;
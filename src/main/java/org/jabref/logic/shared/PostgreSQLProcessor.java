@@ -3,7 +3,9 @@ package org.jabref.logic.shared;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.jabref.JabRefExecutorService;
 import org.jabref.logic.shared.listener.PostgresSQLNotificationListener;
@@ -48,30 +50,42 @@ public class PostgreSQLProcessor extends DBMSProcessor {
                                                    + "\"VALUE\" TEXT)");
     }
 
+    /**
+     * Inserts the entries with multi-row inserts returning the generated IDs.
+     */
     @Override
-    protected void insertIntoEntryTable(BibEntry bibEntry) {
-        // Inserting into ENTRY table
-        StringBuilder insertIntoEntryQuery = new StringBuilder()
-                                                                .append("INSERT INTO ")
-                                                                .append(escape("ENTRY"))
-                                                                .append("(")
-                                                                .append(escape("TYPE"))
-                                                                .append(") VALUES(?)");
-
-        // This is the only method to get generated keys which is accepted by MySQL, PostgreSQL and Oracle.
-        try (PreparedStatement preparedEntryStatement = connection.prepareStatement(insertIntoEntryQuery.toString(),
-                                                                                    Statement.RETURN_GENERATED_KEYS)) {
-
-            preparedEntryStatement.setString(1, bibEntry.getType().getName());
-            preparedEntryStatement.executeUpdate();
-
-            try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    bibEntry.getSharedBibEntryData().setSharedID(generatedKeys.getInt(1)); // set generated ID locally
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
+        for (int batchStart = 0; batchStart < bibEntries.size(); batchStart += ROWS_PER_STATEMENT) {
+            List<BibEntry> batch = bibEntries.subList(batchStart, Math.min(batchStart + ROWS_PER_STATEMENT, bibEntries.size()));
+            String insertIntoEntryQuery = "INSERT INTO " +
+                    escape("ENTRY") +
+                    "(" +
+                    escape("TYPE") +
+                    ") VALUES(?)" +
+                    ", (?)".repeat(batch.size() - 1) +
+                    " RETURNING " +
+                    escape("SHARED_ID");
+
+            try (PreparedStatement preparedEntryStatement = connection.prepareStatement(insertIntoEntryQuery)) {
+                for (int i = 0; i < batch.size(); i++) {
+                    preparedEntryStatement.setString(i + 1, batch.get(i).getType().getName());
+                }
+
+                List<Integer> sharedIDs = new ArrayList<>(batch.size());
+                try (ResultSet generatedKeys = preparedEntryStatement.executeQuery()) {
+                    while (generatedKeys.next()) {
+                        sharedIDs.add(generatedKeys.getInt(1));
+                    }
+                }
+                if (sharedIDs.size() != batch.size()) {
+                    throw new SQLException("Fewer generated keys than inserted entries");
+                }
+                // the rows are numbered in the order of the values, but the order of the returned rows is not guaranteed
+                Collections.sort(sharedIDs);
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).getSharedBibEntryData().setSharedID(sharedIDs.get(i)); // set generated ID locally
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
     }
 
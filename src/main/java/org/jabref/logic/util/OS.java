@@ -1,5 +1,7 @@
 package org.jabref.logic.util;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Locale;
 
 /***
@@ -22,4 +24,22 @@ public class OS {
 
     private OS() {
     }
+
+    /**
+     * Returns the directory for data JabRef can recreate, e.g., parsed journal lists. The directory may not exist yet.
+     */
+    public static Path getCacheDirectory() {
+        String userHome = System.getProperty("user.home");
+        if (WINDOWS) {
+            String localAppData = System.getenv("LOCALAPPDATA");
+            Path base = (localAppData == null) ? Paths.get(userHome, "AppData", "Local") : Paths.get(localAppData);
+            return base.resolve("JabRef").resolve("cache");
+        } else if (OS_X) {
+            return Paths.get(userHome, "Library", "Caches", "JabRef");
+        } else {
+            String cacheHome = System.getenv("XDG_CACHE_HOME");
+            Path base = ((cacheHome == null) || cacheHome.isEmpty()) ? Paths.get(userHome, ".cache") : Paths.get(cacheHome);
+            return base.resolve("jabref");
+        }
+    }
 }
@@ -1,21 +1,13 @@
 package org.jabref.logic.util.io;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.nio.file.FileVisitOption;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
-import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.jabref.logic.bibtexkeypattern.BibtexKeyGenerator;
 import org.jabref.model.entry.BibEntry;
@@ -31,9 +23,10 @@ class CiteKeyBasedFileFinder implements FileFinder {
     }
 
     @Override
-    public List<Path> findAssociatedFiles(BibEntry entry, List<Path> directories, List<String> extensions) throws IOException {
-        Objects.requireNonNull(directories);
+    public List<Path> findAssociatedFiles(BibEntry entry, FileDirectoryIndex index, List<String> extensions) throws IOException {
+        Objects.requireNonNull(index);
         Objects.requireNonNull(entry);
+        Objects.requireNonNull(extensions, "Extensions must not be null!");
 
         Optional<String> citeKeyOptional = entry.getCiteKeyOptional();
         if (StringUtil.isBlank(citeKeyOptional)) {
@@ -43,11 +36,12 @@ class CiteKeyBasedFileFinder implements FileFinder {
 
         List<Path> result = new ArrayList<>();
 
-        // First scan directories
-        Set<Path> filesWithExtension = findFilesByExtension(directories, extensions);
+        // Only the files starting with the key are candidates, even for exact matches
+        for (Path file : index.getFilesStartingWith(citeKey)) {
+            if (!extensions.contains(FileHelper.getFileExtension(file).orElse(""))) {
+                continue;
+            }
 
-        // Now look for keys
-        for (Path file : filesWithExtension) {
             String name = file.getFileName().toString();
             String nameWithoutExtension = FileUtil.getBaseName(name);
 
@@ -62,7 +56,7 @@ class CiteKeyBasedFileFinder implements FileFinder {
             }
         }
 
-        return result.stream().sorted().collect(Collectors.toList());
+        return result.stream().distinct().sorted().collect(Collectors.toList());
     }
 
     private boolean matches(String filename, String citeKey) {
@@ -75,26 +69,4 @@ class CiteKeyBasedFileFinder implements FileFinder {
         }
         return false;
     }
-
-    /**
-     * Returns a list of all files in the given directories which have one of the given extension.
-     */
-    private Set<Path> findFilesByExtension(List<Path> directories, List<String> extensions) throws IOException {
-        Objects.requireNonNull(extensions, "Extensions must not be null!");
-
-        BiPredicate<Path, BasicFileAttributes> isFileWithCorrectExtension = (path, attributes) -> !Files.isDirectory(path)
-                && extensions.contains(FileHelper.getFileExtension(path).orElse(""));
-
-        Set<Path> result = new HashSet<>();
-        for (Path directory : directories) {
-            if (Files.exists(directory)) {
-                try (Stream<Path> pathStream = Files.find(directory, Integer.MAX_VALUE, isFileWithCorrectExtension, FileVisitOption.FOLLOW_LINKS)) {
-                    result.addAll(pathStream.collect(Collectors.toSet()));
-                } catch (UncheckedIOException e) {
-                    throw new IOException("Problem in finding files", e);
-                }
-            }
-        }
-        return result;
-    }
 }
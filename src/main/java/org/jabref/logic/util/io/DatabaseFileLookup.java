@@ -14,6 +14,7 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.metadata.FilePreferences;
+import org.jabref.model.util.FileDirectoryCache;
 
 /**
  * Search class for files. <br>
@@ -27,6 +28,8 @@ public class DatabaseFileLookup {
 
     private final List<Path> possibleFilePaths;
 
+    private final Optional<FileDirectoryCache> fileDirectoryCache;
+
     /**
      * Creates an instance by passing a {@link BibDatabase} which will be used for the searches.
      */
@@ -34,6 +37,7 @@ public class DatabaseFileLookup {
         Objects.requireNonNull(databaseContext);
         possibleFilePaths = Optional.ofNullable(databaseContext.getFileDirectoriesAsPaths(filePreferences))
                                     .orElse(new ArrayList<>());
+        fileDirectoryCache = databaseContext.getFileDirectoryCache();
 
         for (BibEntry entry : databaseContext.getDatabase().getEntries()) {
             fileCache.addAll(parseFileField(entry));
@@ -63,7 +67,8 @@ public class DatabaseFileLookup {
 
         return entry.getFiles().stream()
                 .filter(file -> !file.isOnlineLink()) // Do not query external file links (huge performance leak)
-                .map(file -> file.findIn(possibleFilePaths))
+                .map(file -> fileDirectoryCache.map(cache -> file.findIn(possibleFilePaths, cache))
+                                               .orElseGet(() -> file.findIn(possibleFilePaths)))
                 .filter(Optional::isPresent)
                 .map(Optional::get)
                 .collect(Collectors.toList());
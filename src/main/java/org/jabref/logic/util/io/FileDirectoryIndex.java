@@ -0,0 +1,227 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Snapshot of the contents of file directories, so that looking up the files of many entries does not walk the
+ * directory trees again for each entry.
+ * <p>
+ * The trees are walked lazily: the file names of the whole trees below the given directories are only indexed when
+ * files are looked up by name, a single directory is only listed when its contents are requested. Changes made to the
+ * directories after they were walked are not reflected; create a new index to see them.
+ */
+public class FileDirectoryIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileDirectoryIndex.class);
+
+    private final List<Path> directories;
+
+    /**
+     * The direct contents of each listed directory
+     */
+    private final Map<Path, Listing> listings = new HashMap<>();
+
+    /**
+     * The roots of the trees which have been walked completely
+     */
+    private final Set<Path> walkedTrees = new HashSet<>();
+
+    /**
+     * The files below {@link #directories} by their file name; sorted to look up the files starting with a prefix
+     */
+    private NavigableMap<String, List<Path>> filesByName;
+
+    public FileDirectoryIndex(List<Path> directories) {
+        this.directories = List.copyOf(Objects.requireNonNull(directories));
+    }
+
+    public List<Path> getDirectories() {
+        return directories;
+    }
+
+    /**
+     * Returns the files below the indexed directories whose file name starts with the given prefix. This includes the
+     * files whose name without extension equals the prefix.
+     */
+    public synchronized List<Path> getFilesStartingWith(String prefix) throws IOException {
+        if (filesByName == null) {
+            filesByName = indexFileNames();
+        }
+
+        List<Path> result = new ArrayList<>();
+        for (List<Path> files : filesByName.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+            result.addAll(files);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the files directly contained in the given directory, which need not be one of the indexed directories.
+     */
+    public synchronized List<Path> getFiles(Path directory) throws IOException {
+        return Collections.unmodifiableList(getListing(directory).files);
+    }
+
+    /**
+     * Returns the directories directly contained in the given directory, which need not be one of the indexed
+     * directories.
+     */
+    public synchronized List<Path> getSubDirectories(Path directory) throws IOException {
+        return Collections.unmodifiableList(getListing(directory).subDirectories);
+    }
+
+    /**
+     * Returns all directories below the given directory in depth-first order, excluding the directory itself.
+     */
+    public synchronized List<Path> getAllSubDirectories(Path directory) throws IOException {
+        walkTree(directory);
+
+        List<Path> result = new ArrayList<>();
+        addSubDirectoriesRecursively(directory, result);
+        return result;
+    }
+
+    private void addSubDirectoriesRecursively(Path directory, List<Path> result) {
+        // the walk skips symbolic links leading to an ancestor, thus the listings contain no cycles
+        for (Path subDirectory : listings.getOrDefault(directory, Listing.EMPTY).subDirectories) {
+            result.add(subDirectory);
+            addSubDirectoriesRecursively(subDirectory, result);
+        }
+    }
+
+    private NavigableMap<String, List<Path>> indexFileNames() throws IOException {
+        NavigableMap<String, List<Path>> index = new TreeMap<>();
+        Set<Path> indexedDirectories = new HashSet<>();
+        for (Path directory : directories) {
+            walkTree(directory);
+            addFilesRecursively(directory, index, indexedDirectories);
+        }
+        return index;
+    }
+
+    private void addFilesRecursively(Path directory, Map<String, List<Path>> index, Set<Path> indexedDirectories) {
+        // directories may be nested in each other
+        if (!indexedDirectories.add(directory)) {
+            return;
+        }
+
+        Listing listing = listings.getOrDefault(directory, Listing.EMPTY);
+        for (Path file : listing.files) {
+            index.computeIfAbsent(file.getFileName().toString(), name -> new ArrayList<>(1)).add(file);
+        }
+        for (Path subDirectory : listing.subDirectories) {
+            addFilesRecursively(subDirectory, index, indexedDirectories);
+        }
+    }
+
+    private Listing getListing(Path directory) throws IOException {
+        Listing listing = listings.get(directory);
+        if (listing != null) {
+            return listing;
+        }
+        if (isInWalkedTree(directory)) {
+            // the directory does not exist or could not be read during the walk
+            return Listing.EMPTY;
+        }
+
+        walk(directory, 1);
+        return listings.getOrDefault(directory, Listing.EMPTY);
+    }
+
+    private boolean isInWalkedTree(Path directory) {
+        for (Path root : walkedTrees) {
+            if (directory.startsWith(root)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void walkTree(Path directory) throws IOException {
+        if (!isInWalkedTree(directory)) {
+            walk(directory, Integer.MAX_VALUE);
+            walkedTrees.add(directory);
+        }
+    }
+
+    /**
+     * Lists the given directory and its subdirectories up to the given depth. Symbolic links are followed, but links
+     * leading to an ancestor directory are skipped.
+     */
+    private void walk(Path directory, int maxDepth) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        Files.walkFileTree(directory, EnumSet.of(FileVisitOption.FOLLOW_LINKS), maxDepth, new SimpleFileVisitor<>() {
+
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+                listings.put(dir, new Listing());
+                if (!dir.equals(directory)) {
+                    listings.get(dir.getParent()).subDirectories.add(dir);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                Listing listing = listings.get(file.getParent());
+                if (attributes.isDirectory()) {
+                    // directories at the maximum depth are visited as files
+                    listing.subDirectories.add(file);
+                } else {
+                    listing.files.add(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exception) {
+                if (!(exception instanceof FileSystemLoopException) && !(exception instanceof NoSuchFileException)) {
+                    LOGGER.warn("Could not read {}", file, exception);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static class Listing {
+
+        private static final Listing EMPTY = new Listing(Collections.emptyList(), Collections.emptyList());
+
+        private final List<Path> files;
+        private final List<Path> subDirectories;
+
+        Listing() {
+            this(new ArrayList<>(), new ArrayList<>());
+        }
+
+        Listing(List<Path> files, List<Path> subDirectories) {
+            this.files = files;
+            this.subDirectories = subDirectories;
+        }
+    }
+}
@@ -16,5 +16,17 @@ public interface FileFinder {
      * @param directories The root directories to search.
      * @param extensions  The extensions that are acceptable.
      */
-    List<Path> findAssociatedFiles(BibEntry entry, List<Path> directories, List<String> extensions) throws IOException;
+    default List<Path> findAssociatedFiles(BibEntry entry, List<Path> directories, List<String> extensions) throws IOException {
+        return findAssociatedFiles(entry, new FileDirectoryIndex(directories), extensions);
+    }
+
+    /**
+     * Finds all files in the indexed directories that are probably associated with the given entries and have one of
+     * the passed extensions. Use this method and share the index when searching files for several entries.
+     *
+     * @param entry      The entry to search files for.
+     * @param index      The index of the root directories to search.
+     * @param extensions The extensions that are acceptable.
+     */
+    List<Path> findAssociatedFiles(BibEntry entry, FileDirectoryIndex index, List<String> extensions) throws IOException;
 }
@@ -1,22 +1,13 @@
 package org.jabref.logic.util.io;
 
-import java.io.File;
 import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.nio.file.FileVisitOption;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.function.BiPredicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.jabref.logic.bibtexkeypattern.BracketedPattern;
 import org.jabref.model.database.BibDatabase;
@@ -63,15 +54,15 @@ class RegExpBasedFileFinder implements FileFinder {
      * Method for searching for files using regexp. A list of extensions and directories can be
      * given.
      *
-     * @param entry       The entry to search for.
-     * @param extensions  The extensions that are acceptable.
-     * @param directories The root directories to search.
+     * @param entry      The entry to search for.
+     * @param index      The index of the root directories to search.
+     * @param extensions The extensions that are acceptable.
      * @return A list of files paths matching the given criteria.
      */
     @Override
-    public List<Path> findAssociatedFiles(BibEntry entry, List<Path> directories, List<String> extensions) throws IOException {
+    public List<Path> findAssociatedFiles(BibEntry entry, FileDirectoryIndex index, List<String> extensions) throws IOException {
         String extensionRegExp = '(' + String.join("|", extensions) + ')';
-        return findFile(entry, directories, extensionRegExp);
+        return findFile(entry, index, extensionRegExp);
     }
 
     /**
@@ -97,17 +88,17 @@ class RegExpBasedFileFinder implements FileFinder {
      * </ul>
      *
      * @param entry non-null
-     * @param dirs  A set of root directories to start the search from. Paths are
-     *              returned relative to these directories if relative is set to
-     *              true. These directories will not be expanded or anything. Use
-     *              the file attribute for this.
+     * @param index The index of the root directories to start the search from.
+     *              Paths are returned relative to these directories if relative
+     *              is set to true. These directories will not be expanded or
+     *              anything. Use the file attribute for this.
      * @return Will return the first file found to match the given criteria or
      * null if none was found.
      */
-    private List<Path> findFile(BibEntry entry, List<Path> dirs, String extensionRegExp) throws IOException {
+    private List<Path> findFile(BibEntry entry, FileDirectoryIndex index, String extensionRegExp) throws IOException {
         List<Path> res = new ArrayList<>();
-        for (Path directory : dirs) {
-            res.addAll(findFile(entry, directory, regExp, extensionRegExp));
+        for (Path directory : index.getDirectories()) {
+            res.addAll(findFile(entry, index, directory, regExp, extensionRegExp));
         }
         return res;
     }
@@ -116,7 +107,7 @@ class RegExpBasedFileFinder implements FileFinder {
      * The actual work-horse. Will find absolute filepaths starting from the
      * given directory using the given regular expression string for search.
      */
-    private List<Path> findFile(final BibEntry entry, final Path directory, final String file, final String extensionRegExp) throws IOException {
+    private List<Path> findFile(final BibEntry entry, final FileDirectoryIndex index, final Path directory, final String file, final String extensionRegExp) throws IOException {
         List<Path> resultFiles = new ArrayList<>();
 
         String fileName = file;
@@ -142,9 +133,9 @@ class RegExpBasedFileFinder implements FileFinder {
             return resultFiles;
         }
 
-        for (int index = 0; index < (fileParts.length - 1); index++) {
+        for (int partIndex = 0; partIndex < (fileParts.length - 1); partIndex++) {
 
-            String dirToProcess = fileParts[index];
+            String dirToProcess = fileParts[partIndex];
             dirToProcess = expandBrackets(dirToProcess, entry, null, keywordDelimiter);
 
             if (dirToProcess.matches("^.:$")) { // Windows Drive Letter
@@ -159,28 +150,18 @@ class RegExpBasedFileFinder implements FileFinder {
                 continue;
             }
             if ("*".equals(dirToProcess)) { // Do for all direct subdirs
-                File[] subDirs = actualDirectory.toFile().listFiles();
-                if (subDirs != null) {
-                    String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
-                    for (File subDir : subDirs) {
-                        if (subDir.isDirectory()) {
-                            resultFiles.addAll(findFile(entry, subDir.toPath(), restOfFileString, extensionRegExp));
-                        }
-                    }
+                String restOfFileString = StringUtil.join(fileParts, "/", partIndex + 1, fileParts.length);
+                for (Path subDir : index.getSubDirectories(actualDirectory)) {
+                    resultFiles.addAll(findFile(entry, index, subDir, restOfFileString, extensionRegExp));
                 }
             }
             // Do for all direct and indirect subdirs
             if ("**".equals(dirToProcess)) {
-                String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
-
-                final Path rootDirectory = actualDirectory;
-                try (Stream<Path> pathStream = Files.walk(actualDirectory)) {
-                    // We only want to transverse directory (and not the current one; this is already done below)
-                    for (Path path : pathStream.filter(element -> isSubDirectory(rootDirectory, element)).collect(Collectors.toList())) {
-                        resultFiles.addAll(findFile(entry, path, restOfFileString, extensionRegExp));
-                    }
-                } catch (UncheckedIOException ioe) {
-                    throw new IOException(ioe);
+                String restOfFileString = StringUtil.join(fileParts, "/", partIndex + 1, fileParts.length);
+
+                // We only want to transverse directory (and not the current one; this is already done below)
+                for (Path path : index.getAllSubDirectories(actualDirectory)) {
+                    resultFiles.addAll(findFile(entry, index, path, restOfFileString, extensionRegExp));
                 }
             } // End process directory information
         }
@@ -192,24 +173,15 @@ class RegExpBasedFileFinder implements FileFinder {
         try {
             final Pattern toMatch = Pattern.compile('^' + filenameToLookFor.replaceAll("\\\\\\\\", "\\\\") + '$',
                     Pattern.CASE_INSENSITIVE);
-            BiPredicate<Path, BasicFileAttributes> matcher = (path, attributes) -> toMatch.matcher(path.getFileName().toString()).matches();
-            resultFiles.addAll(collectFilesWithMatcher(actualDirectory, matcher));
-        } catch (UncheckedIOException | PatternSyntaxException e) {
+            for (Path path : index.getFiles(actualDirectory)) {
+                if (toMatch.matcher(path.getFileName().toString()).matches()) {
+                    resultFiles.add(path);
+                }
+            }
+        } catch (PatternSyntaxException e) {
             throw new IOException("Could not look for " + filenameToLookFor, e);
         }
 
         return resultFiles;
     }
-
-    private List<Path> collectFilesWithMatcher(Path actualDirectory, BiPredicate<Path, BasicFileAttributes> matcher) {
-        try (Stream<Path> pathStream = Files.find(actualDirectory, 1, matcher, FileVisitOption.FOLLOW_LINKS)) {
-            return pathStream.collect(Collectors.toList());
-        } catch (UncheckedIOException | IOException ioe) {
-            return Collections.emptyList();
-        }
-    }
-
-    private boolean isSubDirectory(Path rootDirectory, Path path) {
-        return !rootDirectory.equals(path) && Files.isDirectory(path);
-    }
 }
@@ -0,0 +1,205 @@
+package org.jabref.logic.util.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A directory of binary snapshots of recreatable data, one file per key, taking up at most the given number of bytes.
+ * <p>
+ * Each snapshot starts with the given magic number and format version; a snapshot with another header is ignored. A
+ * snapshot is written to a temporary file first and moved atomically, so that a concurrently reading instance never sees
+ * a partial snapshot. The modification time of a snapshot is the time it has been used last. If the snapshots take up
+ * more than the maximum size, the least recently used ones are deleted.
+ */
+public class SnapshotDirectory {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotDirectory.class);
+
+    private final Path directory;
+    private final String extension;
+    private final int magicNumber;
+    private final int formatVersion;
+    private final long maximumSize;
+
+    /**
+     * The size of all snapshots, which is determined on the first write
+     */
+    private long size = -1;
+
+    /**
+     * @param extension the extension of the snapshot files, including the dot
+     */
+    public SnapshotDirectory(Path directory, String extension, int magicNumber, int formatVersion, long maximumSize) {
+        this.directory = Objects.requireNonNull(directory);
+        this.extension = Objects.requireNonNull(extension);
+        this.magicNumber = magicNumber;
+        this.formatVersion = formatVersion;
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Reads the snapshot stored under the given key and marks it as used.
+     *
+     * @param reader reads the content following the header, or returns an empty Optional if the snapshot does not
+     *               belong to the requested content
+     */
+    public <T> Optional<T> read(String key, SnapshotReader<T> reader) {
+        Path snapshot = getSnapshotPath(key);
+        try {
+            Optional<T> content;
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshot)))) {
+                if ((input.readInt() != magicNumber) || (input.readInt() != formatVersion)) {
+                    return Optional.empty();
+                }
+                content = reader.read(input);
+            }
+            if (content.isPresent()) {
+                Files.setLastModifiedTime(snapshot, FileTime.fromMillis(System.currentTimeMillis()));
+            }
+            return content;
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            LOGGER.warn("Could not read snapshot {}", snapshot, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores a snapshot under the given key, replacing the previous one.
+     *
+     * @param writer writes the content following the header
+     */
+    public void write(String key, SnapshotWriter writer) {
+        Path snapshot = getSnapshotPath(key);
+        Path temporarySnapshot = null;
+        try {
+            Files.createDirectories(directory);
+            temporarySnapshot = Files.createTempFile(directory, snapshot.getFileName().toString(), ".tmp");
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporarySnapshot)))) {
+                output.writeInt(magicNumber);
+                output.writeInt(formatVersion);
+                writer.write(output);
+            }
+            long snapshotSize = Files.size(temporarySnapshot);
+            long replacedSize = Files.exists(snapshot) ? Files.size(snapshot) : 0;
+            Files.move(temporarySnapshot, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            added(snapshotSize - replacedSize);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write snapshot {}", snapshot, e);
+            if (temporarySnapshot != null) {
+                try {
+                    Files.deleteIfExists(temporarySnapshot);
+                } catch (IOException ignored) {
+                    // the directory only contains recreatable data
+                }
+            }
+        }
+    }
+
+    /**
+     * Accounts for the given number of bytes written and deletes the least recently used snapshots if the maximum
+     * size is exceeded. Afterwards, the snapshots take up at most three quarters of the maximum size, so that the
+     * directory does not have to be listed on every write.
+     */
+    private synchronized void added(long bytes) throws IOException {
+        if (size < 0) {
+            size = 0;
+            for (Path snapshot : listSnapshots()) {
+                size += Files.size(snapshot);
+            }
+        } else {
+            size += bytes;
+        }
+        if (size <= maximumSize) {
+            return;
+        }
+
+        Map<Path, FileTime> lastUsed = new HashMap<>();
+        size = 0;
+        for (Path snapshot : listSnapshots()) {
+            lastUsed.put(snapshot, Files.getLastModifiedTime(snapshot));
+            size += Files.size(snapshot);
+        }
+        List<Path> leastRecentlyUsedFirst = new ArrayList<>(lastUsed.keySet());
+        leastRecentlyUsedFirst.sort(Comparator.comparing(lastUsed::get));
+        for (Path snapshot : leastRecentlyUsedFirst) {
+            if (size <= ((maximumSize / 4) * 3)) {
+                break;
+            }
+            long snapshotSize = Files.size(snapshot);
+            if (Files.deleteIfExists(snapshot)) {
+                size -= snapshotSize;
+            }
+        }
+    }
+
+    private List<Path> listSnapshots() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(extension))
+                        .collect(Collectors.toList());
+        }
+    }
+
+    private Path getSnapshotPath(String key) {
+        return directory.resolve(UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)) + extension);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutputStream, String)}
+     */
+    public static String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a string of any length, which may be null. {@link DataOutputStream#writeUTF(String)} is limited to 64 KB.
+     */
+    public static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    @FunctionalInterface
+    public interface SnapshotReader<T> {
+        Optional<T> read(DataInputStream input) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface SnapshotWriter {
+        void write(DataOutputStream output) throws IOException;
+    }
+}
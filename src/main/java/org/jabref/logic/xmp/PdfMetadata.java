@@ -0,0 +1,85 @@
+package org.jabref.logic.xmp;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDDocumentInformation;
+import org.apache.pdfbox.pdmodel.common.PDMetadata;
+
+/**
+ * The unparsed metadata of a PDF document: the XMP packet of the document catalog and the text entries of the
+ * document information dictionary. Converting it into entries depends on the {@link XmpPreferences}, thus only the
+ * metadata itself is kept, e.g., in a cache.
+ */
+public class PdfMetadata {
+
+    private final Optional<String> xmpPacket;
+    private final Map<String, String> documentInformation;
+
+    public PdfMetadata(Optional<String> xmpPacket, Map<String, String> documentInformation) {
+        this.xmpPacket = Objects.requireNonNull(xmpPacket);
+        this.documentInformation = Collections.unmodifiableMap(new LinkedHashMap<>(documentInformation));
+    }
+
+    /**
+     * Reads the metadata of the given document
+     */
+    public static PdfMetadata of(PDDocument document) {
+        PDMetadata metaRaw = document.getDocumentCatalog().getMetadata();
+        Optional<String> xmpPacket = Optional.ofNullable(metaRaw).map(metadata -> metadata.getCOSObject().toTextString());
+
+        Map<String, String> documentInformation = new LinkedHashMap<>();
+        COSDictionary dictionary = document.getDocumentInformation().getCOSObject();
+        for (Map.Entry<COSName, COSBase> entry : dictionary.entrySet()) {
+            String value = dictionary.getString(entry.getKey());
+            if (value != null) {
+                documentInformation.put(entry.getKey().getName(), value);
+            }
+        }
+        return new PdfMetadata(xmpPacket, documentInformation);
+    }
+
+    public Optional<String> getXmpPacket() {
+        return xmpPacket;
+    }
+
+    /**
+     * Returns the text entries of the document information dictionary by their keys
+     */
+    public Map<String, String> getDocumentInformation() {
+        return documentInformation;
+    }
+
+    /**
+     * Creates a document information dictionary holding the text entries of this metadata
+     */
+    public PDDocumentInformation toDocumentInformation() {
+        PDDocumentInformation information = new PDDocumentInformation();
+        documentInformation.forEach((key, value) -> information.getCOSObject().setString(COSName.getPDFName(key), value));
+        return information;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if ((o == null) || (getClass() != o.getClass())) {
+            return false;
+        }
+        PdfMetadata that = (PdfMetadata) o;
+        return xmpPacket.equals(that.xmpPacket) && documentInformation.equals(that.documentInformation);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(xmpPacket, documentInformation);
+    }
+}
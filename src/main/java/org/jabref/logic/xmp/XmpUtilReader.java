@@ -3,20 +3,21 @@ package org.jabref.logic.xmp;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 
+import org.jabref.logic.pdf.PdfContentCache;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 
 import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.pdmodel.PDDocumentCatalog;
 import org.apache.pdfbox.pdmodel.PDDocumentInformation;
-import org.apache.pdfbox.pdmodel.common.PDMetadata;
 import org.apache.xmpbox.XMPMetadata;
 import org.apache.xmpbox.schema.DublinCoreSchema;
 
@@ -39,7 +40,7 @@ public class XmpUtilReader {
      */
     public static List<XMPMetadata> readRawXmp(Path path) throws IOException {
         try (PDDocument document = XmpUtilReader.loadWithAutomaticDecryption(path)) {
-            return XmpUtilReader.getXmpMetadata(document);
+            return XmpUtilReader.getXmpMetadata(PdfMetadata.of(document));
         }
     }
 
@@ -66,34 +67,80 @@ public class XmpUtilReader {
      */
     public static List<BibEntry> readXmp(Path path, XmpPreferences xmpPreferences)
             throws IOException {
+        try (PDDocument document = loadWithAutomaticDecryption(path)) {
+            return readXmp(path, document, xmpPreferences);
+        }
+    }
 
-        List<BibEntry> result = new LinkedList<>();
+    /**
+     * Reads the entries as {@link #readXmp(Path, XmpPreferences)} does, but takes the metadata of the file from the
+     * given cache if the file has not been modified since. Otherwise, the metadata is read and stored in the cache.
+     */
+    public static List<BibEntry> readXmp(Path path, XmpPreferences xmpPreferences, PdfContentCache cache)
+            throws IOException {
+        Optional<PdfMetadata> cachedMetadata = cache.getMetadata(path);
+        if (cachedMetadata.isPresent()) {
+            return readXmp(path, cachedMetadata.get(), xmpPreferences);
+        }
 
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        PdfMetadata metadata;
         try (PDDocument document = loadWithAutomaticDecryption(path)) {
-            List<XMPMetadata> xmpMetaList = XmpUtilReader.getXmpMetadata(document);
+            metadata = PdfMetadata.of(document);
+        }
+        cache.putMetadata(path, attributes, metadata);
+        return readXmp(path, metadata, xmpPreferences);
+    }
 
-            if (!xmpMetaList.isEmpty()) {
-                // Only support Dublin Core since JabRef 4.2
-                for (XMPMetadata xmpMeta : xmpMetaList) {
-                    DublinCoreSchema dcSchema = xmpMeta.getDublinCoreSchema();
+    /**
+     * Try to read the given BibTexEntry from the XMP-stream of the given
+     * already loaded PDF-document. The entries are linked to the given path of the document.
+     *
+     * @param path     The path the document has been loaded from.
+     * @param document The loaded document, which is not closed.
+     * @return list of BibEntries retrieved from the document. May be empty, but never null
+     */
+    public static List<BibEntry> readXmp(Path path, PDDocument document, XmpPreferences xmpPreferences)
+            throws IOException {
+        return readXmp(path, PdfMetadata.of(document), xmpPreferences);
+    }
 
-                    if (dcSchema != null) {
-                        DublinCoreExtractor dcExtractor = new DublinCoreExtractor(dcSchema, xmpPreferences, new BibEntry());
-                        Optional<BibEntry> entry = dcExtractor.extractBibtexEntry();
+    /**
+     * Try to read the given BibTexEntry from the given metadata of a PDF-file. The entries are linked to the given
+     * path of the file.
+     *
+     * @param path     The path the metadata has been read from.
+     * @param metadata The metadata of the file.
+     * @return list of BibEntries retrieved from the metadata. May be empty, but never null
+     */
+    public static List<BibEntry> readXmp(Path path, PdfMetadata metadata, XmpPreferences xmpPreferences)
+            throws IOException {
 
-                        if (entry.isPresent()) {
-                            result.add(entry.get());
-                        }
+        List<BibEntry> result = new LinkedList<>();
+
+        List<XMPMetadata> xmpMetaList = XmpUtilReader.getXmpMetadata(metadata);
+
+        if (!xmpMetaList.isEmpty()) {
+            // Only support Dublin Core since JabRef 4.2
+            for (XMPMetadata xmpMeta : xmpMetaList) {
+                DublinCoreSchema dcSchema = xmpMeta.getDublinCoreSchema();
+
+                if (dcSchema != null) {
+                    DublinCoreExtractor dcExtractor = new DublinCoreExtractor(dcSchema, xmpPreferences, new BibEntry());
+                    Optional<BibEntry> entry = dcExtractor.extractBibtexEntry();
+
+                    if (entry.isPresent()) {
+                        result.add(entry.get());
                     }
                 }
             }
-            if (result.isEmpty()) {
-                // If we did not find any XMP metadata, search for non XMP metadata
-                PDDocumentInformation documentInformation = document.getDocumentInformation();
-                DocumentInformationExtractor diExtractor = new DocumentInformationExtractor(documentInformation);
-                Optional<BibEntry> entry = diExtractor.extractBibtexEntry();
-                entry.ifPresent(result::add);
-            }
+        }
+        if (result.isEmpty()) {
+            // If we did not find any XMP metadata, search for non XMP metadata
+            PDDocumentInformation documentInformation = metadata.toDocumentInformation();
+            DocumentInformationExtractor diExtractor = new DocumentInformationExtractor(documentInformation);
+            Optional<BibEntry> entry = diExtractor.extractBibtexEntry();
+            entry.ifPresent(result::add);
         }
 
         result.forEach(entry -> entry.addFile(new LinkedFile("", path.toAbsolutePath().toString(), "PDF")));
@@ -109,16 +156,14 @@ public class XmpUtilReader {
      *
      * @return empty Optional if no metadata has been found
      */
-    private static List<XMPMetadata> getXmpMetadata(PDDocument document) throws IOException {
-        PDDocumentCatalog catalog = document.getDocumentCatalog();
-        PDMetadata metaRaw = catalog.getMetadata();
+    private static List<XMPMetadata> getXmpMetadata(PdfMetadata metadata) throws IOException {
         List<XMPMetadata> metaList = new ArrayList<>();
 
-        if (metaRaw == null) {
+        if (metadata.getXmpPacket().isEmpty()) {
             return metaList;
         }
 
-        String xmp = metaRaw.getCOSObject().toTextString();
+        String xmp = metadata.getXmpPacket().get();
 
         int startDescriptionSection = xmp.indexOf(START_TAG);
         int endDescriptionSection = xmp.lastIndexOf(END_TAG) + END_TAG.length();
@@ -58,6 +58,11 @@ public class BibDatabase {
      */
     private final DuplicationChecker duplicationChecker = new DuplicationChecker();
 
+    /**
+     * this is kept in sync with the database (upon adding/removing an entry, it is updated as well)
+     */
+    private final EntryIndex entryIndex = new EntryIndex();
+
     /**
      * contains all entry.getID() of the current database
      */
@@ -73,6 +78,7 @@ public class BibDatabase {
 
     public BibDatabase() {
         this.eventBus.register(duplicationChecker);
+        this.eventBus.register(entryIndex);
         this.registerListener(new KeyChangeListener(this));
     }
 
@@ -151,12 +157,12 @@ public class BibDatabase {
      * Returns the entry with the given bibtex key.
      */
     public synchronized Optional<BibEntry> getEntryByKey(String key) {
-        for (BibEntry entry : entries) {
-            if (key.equals(entry.getCiteKeyOptional().orElse(null))) {
-                return Optional.of(entry);
-            }
+        List<BibEntry> entriesWithKey = entryIndex.getEntriesByKey(key);
+        if (entriesWithKey.size() > 1) {
+            // duplicate keys: the first entry in the database order is returned
+            return getEntriesByKey(key).stream().findFirst();
         }
-        return Optional.empty();
+        return entriesWithKey.stream().findFirst();
     }
 
     /**
@@ -167,14 +173,17 @@ public class BibDatabase {
      * @return list of entries that contains the given key
      */
     public synchronized List<BibEntry> getEntriesByKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
+        List<BibEntry> entriesWithKey = entryIndex.getEntriesByKey(key);
+        if (entriesWithKey.size() < 2) {
+            return entriesWithKey;
+        }
 
+        // The index does not keep the database order. Duplicate keys are rare, so the order is restored by a scan.
+        List<BibEntry> result = new ArrayList<>(entriesWithKey.size());
         for (BibEntry entry : entries) {
-            entry.getCiteKeyOptional().ifPresent(entryKey -> {
-                if (key.equals(entryKey)) {
-                    result.add(entry);
-                }
-            });
+            if (entriesWithKey.stream().anyMatch(entryWithKey -> entryWithKey == entry)) {
+                result.add(entry);
+            }
         }
         return result;
     }
@@ -186,7 +195,7 @@ public class BibDatabase {
      * @return The entry that has the given id
      */
     public synchronized Optional<BibEntry> getEntryById(String id) {
-        return entries.stream().filter(entry -> entry.getId().equals(id)).findFirst();
+        return entryIndex.getEntryById(id);
     }
 
     /**
@@ -16,8 +16,11 @@ import org.jabref.model.database.shared.DatabaseSynchronizer;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.metadata.FilePreferences;
 import org.jabref.model.metadata.MetaData;
+import org.jabref.model.search.SearchIndex;
+import org.jabref.model.util.FileDirectoryCache;
 
 /**
  * Represents everything related to a BIB file. <p> The entries are stored in BibDatabase, the other data in MetaData
@@ -36,6 +39,9 @@ public class BibDatabaseContext {
     private DatabaseSynchronizer dbmsSynchronizer;
     private CoarseChangeFilter dbmsListener;
     private DatabaseLocation location;
+    private SearchIndex searchIndex;
+    private GroupMembershipIndex groupMembershipIndex;
+    private FileDirectoryCache fileDirectoryCache;
 
     public BibDatabaseContext() {
         this(new BibDatabase());
@@ -110,6 +116,37 @@ public class BibDatabaseContext {
         return database;
     }
 
+    /**
+     * Returns the full text index of the entries. The index is created on the first call and kept up to date afterwards.
+     */
+    public synchronized SearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new SearchIndex(database);
+        }
+        return searchIndex;
+    }
+
+    /**
+     * Returns the entries contained in the groups. The index is created on the first call and kept up to date afterwards.
+     */
+    public synchronized GroupMembershipIndex getGroupMembershipIndex() {
+        if (groupMembershipIndex == null) {
+            groupMembershipIndex = new GroupMembershipIndex(database);
+        }
+        return groupMembershipIndex;
+    }
+
+    /**
+     * Returns the cache used to look up the linked files, if the directories are watched for changes
+     */
+    public Optional<FileDirectoryCache> getFileDirectoryCache() {
+        return Optional.ofNullable(fileDirectoryCache);
+    }
+
+    public void setFileDirectoryCache(FileDirectoryCache fileDirectoryCache) {
+        this.fileDirectoryCache = fileDirectoryCache;
+    }
+
     public MetaData getMetaData() {
         return metaData;
     }
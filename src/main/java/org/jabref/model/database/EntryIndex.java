@@ -0,0 +1,115 @@
+package org.jabref.model.database;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.InternalField;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Maps the bibtex cite keys and the internal ids of the entries of a single {@link BibDatabase} to the entries.
+ * <p>
+ * The index is kept in sync with the database the same way as the {@link DuplicationChecker}: by listening to the
+ * events the database posts when entries are added or removed and when a cite key (or an id) changes.
+ */
+public class EntryIndex {
+
+    /**
+     * The entries of each key in the order they were indexed. Lists contain more than one entry only if the key is a
+     * duplicate.
+     */
+    private final Map<String, List<BibEntry>> entriesByKey = new HashMap<>();
+    private final Map<String, BibEntry> entriesById = new HashMap<>();
+
+    /**
+     * Returns the entries having the given key. If there is more than one entry, the order is not necessarily the
+     * order of the entries in the database.
+     */
+    public synchronized List<BibEntry> getEntriesByKey(String citeKey) {
+        List<BibEntry> entries = entriesByKey.get(citeKey);
+        if (entries == null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(entries);
+    }
+
+    public synchronized Optional<BibEntry> getEntryById(String id) {
+        return Optional.ofNullable(entriesById.get(id));
+    }
+
+    private void addEntry(String citeKey, BibEntry entry) {
+        if ((citeKey == null) || citeKey.isEmpty()) {
+            return;
+        }
+
+        entriesByKey.computeIfAbsent(citeKey, key -> new ArrayList<>(1)).add(entry);
+    }
+
+    private void removeEntry(String citeKey, BibEntry entry) {
+        if ((citeKey == null) || citeKey.isEmpty()) {
+            return;
+        }
+
+        List<BibEntry> entries = entriesByKey.get(citeKey);
+        if (entries != null) {
+            // BibEntry#equals compares the content, but two equal entries are still two different entries of the database
+            entries.removeIf(indexedEntry -> indexedEntry == entry);
+            if (entries.isEmpty()) {
+                entriesByKey.remove(citeKey);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the given entry is the one indexed under its id. Entries removed from the database still relay
+     * their changes to it, these changes must not be indexed.
+     */
+    private boolean isIndexed(BibEntry entry, String id) {
+        return entriesById.get(id) == entry;
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent fieldChangedEvent) {
+        BibEntry entry = fieldChangedEvent.getBibEntry();
+        if (fieldChangedEvent.getField().equals(InternalField.KEY_FIELD)) {
+            if (isIndexed(entry, entry.getId())) {
+                removeEntry(fieldChangedEvent.getOldValue(), entry);
+                addEntry(fieldChangedEvent.getNewValue(), entry);
+            }
+        } else if (fieldChangedEvent.getField().equals(InternalField.INTERNAL_ID_FIELD)) {
+            // the event is posted before the id of the entry is changed
+            if (isIndexed(entry, fieldChangedEvent.getOldValue())) {
+                entriesById.remove(fieldChangedEvent.getOldValue());
+                entriesById.put(fieldChangedEvent.getNewValue(), entry);
+            }
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent entriesRemovedEvent) {
+        // entries are removed by their id, thus the given entries are not necessarily the indexed ones
+        for (BibEntry entry : entriesRemovedEvent.getBibEntries()) {
+            BibEntry indexedEntry = entriesById.remove(entry.getId());
+            if (indexedEntry != null) {
+                removeEntry(indexedEntry.getCiteKeyOptional().orElse(null), indexedEntry);
+            }
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent entriesAddedEvent) {
+        for (BibEntry entry : entriesAddedEvent.getBibEntries()) {
+            entriesById.put(entry.getId(), entry);
+            addEntry(entry.getCiteKeyOptional().orElse(null), entry);
+        }
+    }
+}
@@ -528,6 +528,8 @@ public class BibEntry implements Cloneable {
 
         changed = true;
 
+        // the listeners of the field map are notified during the put and must not see the cached old value
+        invalidateFieldCache(field);
         fields.put(field, value.intern());
         invalidateFieldCache(field);
 
@@ -575,6 +577,7 @@ public class BibEntry implements Cloneable {
 
         changed = true;
 
+        invalidateFieldCache(field);
         fields.remove(field);
         invalidateFieldCache(field);
 
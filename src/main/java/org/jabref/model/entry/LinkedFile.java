@@ -12,6 +12,7 @@ import java.nio.file.Paths;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.beans.Observable;
 import javafx.beans.property.SimpleStringProperty;
@@ -19,7 +20,7 @@ import javafx.beans.property.StringProperty;
 
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.metadata.FilePreferences;
-import org.jabref.model.util.FileHelper;
+import org.jabref.model.util.FileDirectoryCache;
 
 /**
  * Represents the link to an external file (e.g. associated PDF file).
@@ -166,7 +167,9 @@ public class LinkedFile implements Serializable {
 
     public Optional<Path> findIn(BibDatabaseContext databaseContext, FilePreferences filePreferences) {
         List<Path> dirs = databaseContext.getFileDirectoriesAsPaths(filePreferences);
-        return findIn(dirs);
+        return databaseContext.getFileDirectoryCache()
+                              .map(cache -> findIn(dirs, cache))
+                              .orElseGet(() -> findIn(dirs));
     }
 
     /**
@@ -174,6 +177,18 @@ public class LinkedFile implements Serializable {
      * optional if the file cannot be found.
      */
     public Optional<Path> findIn(List<Path> directories) {
+        return findIn(directories, Files::exists);
+    }
+
+    /**
+     * Tries to find the file in the given directories like {@link #findIn(List)}, but checks the existence of the file
+     * by the given cache.
+     */
+    public Optional<Path> findIn(List<Path> directories, FileDirectoryCache cache) {
+        return findIn(directories, cache::exists);
+    }
+
+    private Optional<Path> findIn(List<Path> directories, Predicate<Path> exists) {
         try {
             if (link.get().isEmpty()) {
                 // We do not want to match empty paths (which could be any file or none ?!)
@@ -182,13 +197,16 @@ public class LinkedFile implements Serializable {
 
             Path file = Paths.get(link.get());
             if (file.isAbsolute() || directories.isEmpty()) {
-                if (Files.exists(file)) {
+                if (exists.test(file)) {
                     return Optional.of(file);
                 } else {
                     return Optional.empty();
                 }
             } else {
-                return FileHelper.expandFilenameAsPath(link.get(), directories);
+                return directories.stream()
+                                  .map(directory -> directory.resolve(file))
+                                  .filter(exists)
+                                  .findFirst();
             }
         } catch (InvalidPathException ex) {
             return Optional.empty();
@@ -0,0 +1,210 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+import com.google.common.collect.MapMaker;
+
+/**
+ * Keeps track of the entries of a {@link BibDatabase} which are contained in a group.
+ * <p>
+ * For every group asked for, the entries it contains are stored as a bitmap over document numbers assigned to the
+ * entries. When an entry is added, removed or changed, only this entry is checked against the groups again. The
+ * hierarchical information of a {@link GroupTreeNode} (see {@link GroupTreeNode#getSearchMatcher()}) is taken into
+ * account by combining the bitmaps of the involved groups. Thus, moving a node in the tree does not require any
+ * group to be checked again.
+ * <p>
+ * The index listens to the changes of the entry list of the database, which include the changes of the fields of the
+ * entries. In contrast to the events of the database, these changes are reported before the field change events and
+ * in the order the listeners were added. Thus, a view filtering the entries with the help of the index sees the updated
+ * index, if the index was created before the view.
+ * <p>
+ * Groups are identified by instance, because their equality does not consider all settings determining the contained
+ * entries. The bitmap of a group is dropped as soon as the group is no longer used.
+ */
+public class GroupMembershipIndex {
+
+    /**
+     * The database only keeps a weak reference to the list it hands out, thus it is kept here
+     */
+    private final ObservableList<BibEntry> entries;
+
+    private final Map<BibEntry, Integer> documentNumbers = new IdentityHashMap<>();
+
+    /**
+     * The entry of each document number, null if the document number is free
+     */
+    private final List<BibEntry> documents = new ArrayList<>();
+    private final BitSet freeDocumentNumbers = new BitSet();
+
+    /**
+     * The document numbers of the entries contained in each group. Weak keys are compared by identity.
+     */
+    private final Map<AbstractGroup, BitSet> members = new MapMaker().weakKeys().makeMap();
+
+    public GroupMembershipIndex(BibDatabase database) {
+        entries = database.getEntries();
+        // listen first, so that no change gets lost while numbering the existing entries
+        entries.addListener(this::onChanged);
+        synchronized (this) {
+            for (BibEntry entry : entries) {
+                if (!documentNumbers.containsKey(entry)) {
+                    addDocument(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Determines the number of entries of the database which are matched by the given group while taking the
+     * hierarchical information into account. This is the same as {@link GroupTreeNode#calculateNumberOfMatches(BibDatabase)}.
+     */
+    public synchronized int getNumberOfMatches(GroupTreeNode node) {
+        Objects.requireNonNull(node);
+        return getMatches(node, node.getGroup().getHierarchicalContext()).cardinality();
+    }
+
+    /**
+     * Returns whether the given group matches the entry while taking the hierarchical information into account. This is
+     * the same as {@link GroupTreeNode#matches(BibEntry)}, but only looks up the entry if it belongs to the database.
+     */
+    public synchronized boolean matches(GroupTreeNode node, BibEntry entry) {
+        Objects.requireNonNull(node);
+        Integer documentNumber = documentNumbers.get(entry);
+        if (documentNumber == null) {
+            return node.matches(entry);
+        }
+        return matches(node, node.getGroup().getHierarchicalContext(), documentNumber);
+    }
+
+    /**
+     * Mirrors {@link GroupTreeNode#getSearchMatcher()}, but returns a new bitmap of the matched document numbers.
+     */
+    private BitSet getMatches(GroupTreeNode node, GroupHierarchyType originalContext) {
+        BitSet result = (BitSet) getMembers(node.getGroup()).clone();
+        GroupHierarchyType context = node.getGroup().getHierarchicalContext();
+        if ((context == GroupHierarchyType.INCLUDING) && (originalContext != GroupHierarchyType.REFINING)) {
+            for (GroupTreeNode child : node.getChildren()) {
+                result.or(getMatches(child, originalContext));
+            }
+        } else if ((context == GroupHierarchyType.REFINING) && !node.isRoot() && (originalContext != GroupHierarchyType.INCLUDING)) {
+            //noinspection OptionalGetWithoutIsPresent
+            result.and(getMatches(node.getParent().get(), originalContext));
+        }
+        return result;
+    }
+
+    /**
+     * Mirrors {@link GroupTreeNode#getSearchMatcher()} for a single document number.
+     */
+    private boolean matches(GroupTreeNode node, GroupHierarchyType originalContext, int documentNumber) {
+        boolean contained = contains(node.getGroup(), documentNumber);
+        GroupHierarchyType context = node.getGroup().getHierarchicalContext();
+        if ((context == GroupHierarchyType.INCLUDING) && (originalContext != GroupHierarchyType.REFINING)) {
+            for (GroupTreeNode child : node.getChildren()) {
+                if (contained) {
+                    break;
+                }
+                contained = matches(child, originalContext, documentNumber);
+            }
+        } else if ((context == GroupHierarchyType.REFINING) && !node.isRoot() && (originalContext != GroupHierarchyType.INCLUDING)) {
+            //noinspection OptionalGetWithoutIsPresent
+            contained = contained && matches(node.getParent().get(), originalContext, documentNumber);
+        }
+        return contained;
+    }
+
+    private boolean contains(AbstractGroup group, int documentNumber) {
+        if (!isIndexable(group)) {
+            return group.contains(documents.get(documentNumber));
+        }
+        return getMembers(group).get(documentNumber);
+    }
+
+    private BitSet getMembers(AbstractGroup group) {
+        if (!isIndexable(group)) {
+            return determineMembers(group);
+        }
+        return members.computeIfAbsent(group, this::determineMembers);
+    }
+
+    /**
+     * The entries of a tex group are determined by an aux file, which may change without the entries changing
+     */
+    private static boolean isIndexable(AbstractGroup group) {
+        return !(group instanceof TexGroup);
+    }
+
+    private BitSet determineMembers(AbstractGroup group) {
+        BitSet result = new BitSet(documents.size());
+        for (int document = 0; document < documents.size(); document++) {
+            BibEntry entry = documents.get(document);
+            if ((entry != null) && group.contains(entry)) {
+                result.set(document);
+            }
+        }
+        return result;
+    }
+
+    private void addDocument(BibEntry entry) {
+        int documentNumber = freeDocumentNumbers.nextSetBit(0);
+        if (documentNumber < 0) {
+            documentNumber = documents.size();
+            documents.add(entry);
+        } else {
+            freeDocumentNumbers.clear(documentNumber);
+            documents.set(documentNumber, entry);
+        }
+        documentNumbers.put(entry, documentNumber);
+        updateDocument(entry, documentNumber);
+    }
+
+    private void updateDocument(BibEntry entry, int documentNumber) {
+        for (Map.Entry<AbstractGroup, BitSet> groupMembers : members.entrySet()) {
+            groupMembers.getValue().set(documentNumber, groupMembers.getKey().contains(entry));
+        }
+    }
+
+    private void removeDocument(BibEntry entry) {
+        Integer documentNumber = documentNumbers.remove(entry);
+        if (documentNumber != null) {
+            documents.set(documentNumber, null);
+            freeDocumentNumbers.set(documentNumber);
+            for (BitSet groupMembers : members.values()) {
+                groupMembers.clear(documentNumber);
+            }
+        }
+    }
+
+    private synchronized void onChanged(ListChangeListener.Change<? extends BibEntry> change) {
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    BibEntry entry = change.getList().get(i);
+                    Integer documentNumber = documentNumbers.get(entry);
+                    if (documentNumber == null) {
+                        addDocument(entry);
+                    } else {
+                        updateDocument(entry, documentNumber);
+                    }
+                }
+            } else if (!change.wasPermutated()) {
+                change.getRemoved().forEach(this::removeDocument);
+                for (BibEntry entry : change.getAddedSubList()) {
+                    removeDocument(entry);
+                    addDocument(entry);
+                }
+            }
+        }
+    }
+}
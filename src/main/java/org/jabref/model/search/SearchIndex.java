@@ -0,0 +1,370 @@
+package org.jabref.model.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+
+/**
+ * Inverted index over the latex free field contents of the entries of a {@link BibDatabase}.
+ * <p>
+ * Each token (a maximal run of letters and digits of the lower-cased content) is mapped to the entries containing it.
+ * The index is used to determine the candidates of a search, which are then checked by the {@link
+ * org.jabref.model.search.rules.SearchRule} as usual. Thus, the index never decides whether an entry matches - it only
+ * rules out entries which cannot match.
+ * <p>
+ * The index listens to the changes of the entry list of the database, which include the changes of the fields of the
+ * entries. In contrast to the events of the database, these changes are reported before the field change events and
+ * in the order the listeners were added. Thus, a view filtering the entries with the help of the index sees the updated
+ * index, if the index was created before the view.
+ * <p>
+ * A changed entry is indexed again under a new document number. The old document number is only marked as removed, the
+ * index is compacted once the majority of the document numbers is removed.
+ */
+public class SearchIndex {
+
+    /**
+     * Shorter parts of search words match (nearly) every entry and thus do not restrict the candidates
+     */
+    private static final int MINIMUM_RUN_LENGTH = 2;
+
+    private static final int MINIMUM_COMPACTION_SIZE = 1024;
+    private static final int TOKEN_CACHE_SIZE = 32;
+
+    /**
+     * The database only keeps a weak reference to the list it hands out, thus it is kept here
+     */
+    private final ObservableList<BibEntry> entries;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<BibEntry, Integer> documentNumbers = new IdentityHashMap<>();
+
+    /**
+     * The entry of each document number, null if the document was removed
+     */
+    private final List<BibEntry> documents = new ArrayList<>();
+    private int removedDocuments;
+
+    /**
+     * Incremented on each compaction, which invalidates all document numbers
+     */
+    private int epoch;
+
+    /**
+     * Incremented on each change of the index
+     */
+    private volatile int modificationCount;
+
+    /**
+     * Tokens containing a search word part. It is used to narrow down the tokens to scan while the user types.
+     */
+    private final Map<String, List<String>> tokensByRun = new LinkedHashMap<>(TOKEN_CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<String>> eldest) {
+            return size() > TOKEN_CACHE_SIZE;
+        }
+    };
+
+    public SearchIndex(BibDatabase database) {
+        entries = database.getEntries();
+        // listen first, so that no change gets lost while indexing the existing entries
+        entries.addListener(this::onChanged);
+        synchronized (this) {
+            for (BibEntry entry : entries) {
+                if (!documentNumbers.containsKey(entry)) {
+                    addDocument(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns all entries of the database, i.e., candidates which do not restrict a search.
+     */
+    public synchronized Candidates getAllEntries() {
+        return new Candidates(this, null, 0, epoch, modificationCount);
+    }
+
+    /**
+     * Returns the entries having a field which may contain the given text. The case is ignored.
+     *
+     * @return a superset of the entries having a latex free field content containing the text
+     */
+    public synchronized Candidates getEntriesContaining(String text) {
+        if ((text.indexOf('\u03A3') >= 0) || (text.indexOf('\u0130') >= 0)) {
+            // lower-casing these characters (capital sigma and capital I with dot) depends on the context or changes the length
+            return getAllEntries();
+        }
+
+        BitSet result = null;
+        for (String run : getTokens(text.toLowerCase(Locale.ROOT))) {
+            if (run.length() < MINIMUM_RUN_LENGTH) {
+                continue;
+            }
+
+            BitSet documentsWithRun = new BitSet(documents.size());
+            for (String token : getTokensContaining(run)) {
+                postings.get(token).addTo(documentsWithRun);
+            }
+            if (result == null) {
+                result = documentsWithRun;
+            } else {
+                result.and(documentsWithRun);
+            }
+        }
+
+        if (result == null) {
+            return getAllEntries();
+        }
+        return new Candidates(this, result, documents.size(), epoch, modificationCount);
+    }
+
+    private List<String> getTokensContaining(String run) {
+        List<String> tokens = tokensByRun.get(run);
+        if (tokens != null) {
+            return tokens;
+        }
+
+        // while typing, the previous part of the word is a substring of the current one
+        Iterable<String> tokensToScan = postings.keySet();
+        int tokensToScanCount = postings.size();
+        for (Map.Entry<String, List<String>> cachedRun : tokensByRun.entrySet()) {
+            if (run.contains(cachedRun.getKey()) && (cachedRun.getValue().size() < tokensToScanCount)) {
+                tokensToScan = cachedRun.getValue();
+                tokensToScanCount = cachedRun.getValue().size();
+            }
+        }
+
+        tokens = new ArrayList<>();
+        for (String token : tokensToScan) {
+            if (token.contains(run)) {
+                tokens.add(token);
+            }
+        }
+        tokensByRun.put(run, tokens);
+        return tokens;
+    }
+
+    /**
+     * Splits the given lower-cased text into runs of letters and digits
+     */
+    private static Set<String> getTokens(String text) {
+        Set<String> tokens = new HashSet<>();
+        int tokenStart = -1;
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isLetterOrDigit(text.charAt(i))) {
+                if (tokenStart < 0) {
+                    tokenStart = i;
+                }
+            } else if (tokenStart >= 0) {
+                tokens.add(text.substring(tokenStart, i));
+                tokenStart = -1;
+            }
+        }
+        if (tokenStart >= 0) {
+            tokens.add(text.substring(tokenStart));
+        }
+        return tokens;
+    }
+
+    private void addDocument(BibEntry entry) {
+        int documentNumber = documents.size();
+        documents.add(entry);
+        documentNumbers.put(entry, documentNumber);
+
+        Set<String> tokens = new HashSet<>();
+        for (Field field : entry.getFields()) {
+            entry.getLatexFreeField(field).ifPresent(content -> tokens.addAll(getTokens(content.toLowerCase(Locale.ROOT))));
+        }
+        for (String token : tokens) {
+            PostingList postingList = postings.get(token);
+            if (postingList == null) {
+                postingList = new PostingList();
+                postings.put(token, postingList);
+                tokensByRun.clear();
+            }
+            postingList.add(documentNumber);
+        }
+    }
+
+    private void removeDocument(BibEntry entry) {
+        Integer documentNumber = documentNumbers.remove(entry);
+        if (documentNumber != null) {
+            documents.set(documentNumber, null);
+            removedDocuments++;
+        }
+    }
+
+    private void compactIfNeeded() {
+        if ((removedDocuments < MINIMUM_COMPACTION_SIZE) || (removedDocuments < documentNumbers.size())) {
+            return;
+        }
+
+        List<BibEntry> entries = documents.stream().filter(entry -> entry != null).collect(Collectors.toList());
+        postings.clear();
+        documentNumbers.clear();
+        documents.clear();
+        tokensByRun.clear();
+        removedDocuments = 0;
+        epoch++;
+        entries.forEach(this::addDocument);
+    }
+
+    private synchronized boolean isCandidate(Candidates candidates, BibEntry entry) {
+        if (candidates.epoch != epoch) {
+            return true;
+        }
+
+        Integer documentNumber = documentNumbers.get(entry);
+        if ((documentNumber == null) || (documentNumber >= candidates.documentLimit)) {
+            // unknown or changed after the candidates were determined
+            return true;
+        }
+        return candidates.documents.get(documentNumber);
+    }
+
+    private synchronized Set<BibEntry> getEntries(BitSet documentsToGet) {
+        Set<BibEntry> result = Collections.newSetFromMap(new IdentityHashMap<>(documentsToGet.cardinality()));
+        for (int document = documentsToGet.nextSetBit(0); document >= 0; document = documentsToGet.nextSetBit(document + 1)) {
+            BibEntry entry = documents.get(document);
+            if (entry != null) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    private synchronized void onChanged(ListChangeListener.Change<? extends BibEntry> change) {
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    BibEntry entry = change.getList().get(i);
+                    removeDocument(entry);
+                    addDocument(entry);
+                }
+            } else if (!change.wasPermutated()) {
+                change.getRemoved().forEach(this::removeDocument);
+                for (BibEntry entry : change.getAddedSubList()) {
+                    removeDocument(entry);
+                    addDocument(entry);
+                }
+            }
+        }
+        compactIfNeeded();
+        modificationCount++;
+    }
+
+    /**
+     * The entries which may match a search. Entries changed after the candidates were determined are always regarded
+     * as candidates.
+     */
+    public static class Candidates {
+
+        private final SearchIndex index;
+
+        /**
+         * The document numbers of the candidates, null if all entries are candidates
+         */
+        private final BitSet documents;
+        private final int documentLimit;
+        private final int epoch;
+        private final int modificationCount;
+
+        /**
+         * The candidate entries, determined on first use. As long as the index is not changed, a lookup in this set is
+         * sufficient, which is considerably faster than looking up the document number of the entry.
+         */
+        private volatile Set<BibEntry> entries;
+
+        private Candidates(SearchIndex index, BitSet documents, int documentLimit, int epoch, int modificationCount) {
+            this.index = index;
+            this.documents = documents;
+            this.documentLimit = documentLimit;
+            this.epoch = epoch;
+            this.modificationCount = modificationCount;
+        }
+
+        public boolean isAllEntries() {
+            return documents == null;
+        }
+
+        public boolean contains(BibEntry entry) {
+            if (isAllEntries()) {
+                return true;
+            }
+            Set<BibEntry> candidateEntries = entries;
+            if (candidateEntries == null) {
+                candidateEntries = index.getEntries(documents);
+                entries = candidateEntries;
+            }
+            if (index.modificationCount != modificationCount) {
+                return index.isCandidate(this, entry);
+            }
+            return candidateEntries.contains(entry);
+        }
+
+        public Candidates and(Candidates other) {
+            Objects.requireNonNull(other);
+            if (other.isAllEntries() || (other.epoch != epoch)) {
+                return this;
+            }
+            if (isAllEntries()) {
+                return other;
+            }
+
+            BitSet result = (BitSet) documents.clone();
+            result.and(other.documents);
+            return new Candidates(index, result, Math.min(documentLimit, other.documentLimit), epoch, Math.min(modificationCount, other.modificationCount));
+        }
+
+        public Candidates or(Candidates other) {
+            Objects.requireNonNull(other);
+            if (isAllEntries() || other.isAllEntries() || (other.epoch != epoch)) {
+                return index.getAllEntries();
+            }
+
+            BitSet result = (BitSet) documents.clone();
+            result.or(other.documents);
+            return new Candidates(index, result, Math.min(documentLimit, other.documentLimit), epoch, Math.min(modificationCount, other.modificationCount));
+        }
+    }
+
+    private static class PostingList {
+
+        private int[] documentNumbers = new int[2];
+        private int size;
+
+        /**
+         * Adds the given document number, which is larger than all contained ones
+         */
+        void add(int documentNumber) {
+            if (size == documentNumbers.length) {
+                documentNumbers = Arrays.copyOf(documentNumbers, size * 2);
+            }
+            documentNumbers[size++] = documentNumber;
+        }
+
+        void addTo(BitSet bitSet) {
+            for (int i = 0; i < size; i++) {
+                bitSet.set(documentNumbers[i]);
+            }
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Locale;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
+import org.jabref.model.search.SearchIndex;
 
 /**
  * Search rule for contain-based search.
@@ -59,4 +60,19 @@ public class ContainBasedSearchRule implements SearchRule {
         return false; // Didn't match all words.
     }
 
+    @Override
+    public SearchIndex.Candidates getCandidates(String query, SearchIndex index) {
+        String searchString = query;
+        if (!caseSensitive) {
+            searchString = searchString.toLowerCase(Locale.ROOT);
+        }
+
+        // each word has to be contained in (at least) one field
+        SearchIndex.Candidates candidates = index.getAllEntries();
+        for (String word : new SentenceAnalyzer(searchString).getWords()) {
+            candidates = candidates.and(index.getEntriesContaining(word));
+        }
+        return candidates;
+    }
+
 }
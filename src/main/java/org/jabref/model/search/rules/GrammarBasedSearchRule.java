@@ -12,6 +12,7 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.Keyword;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.search.SearchIndex;
 import org.jabref.search.SearchBaseVisitor;
 import org.jabref.search.SearchLexer;
 import org.jabref.search.SearchParser;
@@ -105,6 +106,14 @@ public class GrammarBasedSearchRule implements SearchRule {
         }
     }
 
+    @Override
+    public SearchIndex.Candidates getCandidates(String query, SearchIndex index) {
+        if (regExpSearch || (tree == null)) {
+            return index.getAllEntries();
+        }
+        return new CandidatesSearchVisitor(caseSensitiveSearch, index).visit(tree);
+    }
+
     @Override
     public boolean validateSearchStrings(String query) {
         try {
@@ -133,11 +142,15 @@ public class GrammarBasedSearchRule implements SearchRule {
     public static class Comparator {
 
         private final ComparisonOperator operator;
+        private final String value;
+        private final boolean regex;
         private final Pattern fieldPattern;
         private final Pattern valuePattern;
 
         public Comparator(String field, String value, ComparisonOperator operator, boolean caseSensitive, boolean regex) {
             this.operator = operator;
+            this.value = value;
+            this.regex = regex;
 
             int option = caseSensitive ? 0 : Pattern.CASE_INSENSITIVE;
             this.fieldPattern = Pattern.compile(regex ? field : "\\Q" + field + "\\E", option);
@@ -146,12 +159,12 @@ public class GrammarBasedSearchRule implements SearchRule {
 
         public boolean compare(BibEntry entry) {
             // special case for searching for entrytype=phdthesis
-            if (fieldPattern.matcher(InternalField.TYPE_HEADER.getName()).matches()) {
+            if (isEntryTypeComparison()) {
                 return matchFieldValue(entry.getType().getName());
             }
 
             // special case for searching a single keyword
-            if (fieldPattern.matcher("anykeyword").matches()) {
+            if (isKeywordComparison()) {
                 return entry.getKeywords(',').stream().map(Keyword::toString).anyMatch(this::matchFieldValue);
             }
 
@@ -177,6 +190,26 @@ public class GrammarBasedSearchRule implements SearchRule {
             return fieldsKeys.isEmpty() && (operator == ComparisonOperator.DOES_NOT_CONTAIN);
         }
 
+        private boolean isEntryTypeComparison() {
+            return fieldPattern.matcher(InternalField.TYPE_HEADER.getName()).matches();
+        }
+
+        private boolean isKeywordComparison() {
+            return fieldPattern.matcher("anykeyword").matches();
+        }
+
+        /**
+         * Determines the entries which may fulfill this comparison
+         */
+        public SearchIndex.Candidates getCandidates(SearchIndex index) {
+            if (regex || (operator == ComparisonOperator.DOES_NOT_CONTAIN) || isEntryTypeComparison() || isKeywordComparison()) {
+                // neither the entry type nor the keywords (without latex conversion) are indexed
+                return index.getAllEntries();
+            }
+            // the value is contained in the content of a field for both, exact and contains comparisons
+            return index.getEntriesContaining(value);
+        }
+
         private Predicate<Field> matchFieldKey() {
             return field -> fieldPattern.matcher(field.getName()).matches();
         }
@@ -196,6 +229,15 @@ public class GrammarBasedSearchRule implements SearchRule {
 
     }
 
+    private static String getValue(SearchParser.ComparisonContext context) {
+        // remove possible enclosing " symbols
+        String right = context.right.getText();
+        if (right.startsWith("\"") && right.endsWith("\"")) {
+            right = right.substring(1, right.length() - 1);
+        }
+        return right;
+    }
+
     /**
      * Search results in boolean. It may be later on converted to an int.
      */
@@ -223,11 +265,7 @@ public class GrammarBasedSearchRule implements SearchRule {
 
         @Override
         public Boolean visitComparison(SearchParser.ComparisonContext context) {
-            // remove possible enclosing " symbols
-            String right = context.right.getText();
-            if (right.startsWith("\"") && right.endsWith("\"")) {
-                right = right.substring(1, right.length() - 1);
-            }
+            String right = getValue(context);
 
             Optional<SearchParser.NameContext> fieldDescriptor = Optional.ofNullable(context.left);
             if (fieldDescriptor.isPresent()) {
@@ -257,4 +295,55 @@ public class GrammarBasedSearchRule implements SearchRule {
         }
     }
 
+    /**
+     * Determines the candidates of a (non regular expression) search using a {@link SearchIndex}.
+     */
+    static class CandidatesSearchVisitor extends SearchBaseVisitor<SearchIndex.Candidates> {
+
+        private final boolean caseSensitive;
+        private final SearchIndex index;
+
+        public CandidatesSearchVisitor(boolean caseSensitive, SearchIndex index) {
+            this.caseSensitive = caseSensitive;
+            this.index = index;
+        }
+
+        @Override
+        public SearchIndex.Candidates visitStart(SearchParser.StartContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public SearchIndex.Candidates visitComparison(SearchParser.ComparisonContext context) {
+            String right = getValue(context);
+
+            Optional<SearchParser.NameContext> fieldDescriptor = Optional.ofNullable(context.left);
+            if (fieldDescriptor.isPresent()) {
+                Comparator comparator = new Comparator(fieldDescriptor.get().getText(), right, ComparisonOperator.build(context.operator.getText()), caseSensitive, false);
+                return comparator.getCandidates(index);
+            } else {
+                return new ContainBasedSearchRule(caseSensitive).getCandidates(right, index);
+            }
+        }
+
+        @Override
+        public SearchIndex.Candidates visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            // entries not matching the expression cannot be determined by the index
+            return index.getAllEntries();
+        }
+
+        @Override
+        public SearchIndex.Candidates visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+            return visit(ctx.expression()); // ignore parenthesis
+        }
+
+        @Override
+        public SearchIndex.Candidates visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+            if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
+                return visit(ctx.left).and(visit(ctx.right)); // and
+            } else {
+                return visit(ctx.left).or(visit(ctx.right)); // or
+            }
+        }
+    }
 }
@@ -1,10 +1,19 @@
 package org.jabref.model.search.rules;
 
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.SearchIndex;
 
 public interface SearchRule {
 
     boolean applyRule(String query, BibEntry bibEntry);
 
     boolean validateSearchStrings(String query);
+
+    /**
+     * Determines the entries which may match the given query. Only these entries have to be checked by {@link
+     * #applyRule(String, BibEntry)}. By default, all entries are candidates.
+     */
+    default SearchIndex.Candidates getCandidates(String query, SearchIndex index) {
+        return index.getAllEntries();
+    }
 }
@@ -13,8 +13,18 @@ public class DummyFileUpdateMonitor implements FileUpdateMonitor {
 
     }
 
+    @Override
+    public void addListenerForDirectory(Path directory, FileUpdateListener listener) throws IOException {
+
+    }
+
     @Override
     public void removeListener(Path path, FileUpdateListener listener) {
 
     }
+
+    @Override
+    public boolean isActive() {
+        return true;
+    }
 }
@@ -0,0 +1,376 @@
+package org.jabref.model.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the contents of directories, so that checking the existence of linked files and listing file directories
+ * does not access the file system each time. On network mounts, each access takes milliseconds.
+ * <p>
+ * A directory is listed on its first access and watched by the {@link FileUpdateMonitor} afterwards. A change in the
+ * directory discards its listing, so that it is listed again on the next access. Directories which cannot be watched
+ * are not cached.
+ * <p>
+ * The listings of the directories accessed in a session can be stored in a snapshot file and read in the next session.
+ * A listing read from the snapshot is only used if the modification time of the directory did not change since it was
+ * listed.
+ */
+public class FileDirectoryCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileDirectoryCache.class);
+
+    private static final int MAGIC_NUMBER = 0x4A524644;
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * File systems store modification times with a resolution of up to two seconds. Thus, a listing is only trusted if
+     * the directory was not modified within this time before it was listed.
+     */
+    private static final long MODIFICATION_TIME_RESOLUTION = 2000;
+
+    private final FileUpdateMonitor fileUpdateMonitor;
+    private final Path snapshotFile;
+
+    /**
+     * The listings of the watched directories, by absolute and normalized path
+     */
+    private final Map<Path, Listing> listings = new ConcurrentHashMap<>();
+
+    /**
+     * The listings read from the snapshot, which have not been checked in this session yet
+     */
+    private final Map<Path, Listing> snapshotListings = new ConcurrentHashMap<>();
+
+    private final Map<Path, FileUpdateListener> watchedDirectories = new ConcurrentHashMap<>();
+
+    /**
+     * The number of changes of each directory, which is increased before its listing is discarded. A listing is only
+     * stored if the directory did not change while it was listed.
+     */
+    private final Map<Path, Long> versions = new ConcurrentHashMap<>();
+
+    private final Set<Path> unwatchableDirectories = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param snapshotFile the file the listings are stored in between sessions
+     */
+    public FileDirectoryCache(FileUpdateMonitor fileUpdateMonitor, Path snapshotFile) {
+        this.fileUpdateMonitor = Objects.requireNonNull(fileUpdateMonitor);
+        this.snapshotFile = Objects.requireNonNull(snapshotFile);
+    }
+
+    /**
+     * Checks whether the given file or directory exists. This is equivalent to {@link Files#exists}, but answered from
+     * the listing of the parent directory.
+     */
+    public boolean exists(Path file) {
+        Path absoluteFile = file.toAbsolutePath().normalize();
+        Path directory = absoluteFile.getParent();
+        if ((directory == null) || (absoluteFile.getFileName() == null)) {
+            return Files.exists(file);
+        }
+
+        Optional<Listing> listing = getListing(directory);
+        if (listing.isEmpty()) {
+            return Files.exists(file);
+        }
+
+        String name = absoluteFile.getFileName().toString();
+        if (listing.get().contains(name)) {
+            return true;
+        }
+        // the file system may ignore the case of names, but then the listing contains the name in another case
+        return listing.get().containsIgnoringCase(name) && Files.exists(file);
+    }
+
+    /**
+     * Returns the files directly contained in the given directory, resolved against the given directory.
+     */
+    public List<Path> getFiles(Path directory) {
+        return resolve(directory, getListing(directory.toAbsolutePath().normalize())
+                .orElseGet(() -> listOrEmpty(directory)).files);
+    }
+
+    /**
+     * Returns the directories directly contained in the given directory, resolved against the given directory.
+     */
+    public List<Path> getSubDirectories(Path directory) {
+        return resolve(directory, getListing(directory.toAbsolutePath().normalize())
+                .orElseGet(() -> listOrEmpty(directory)).subDirectories);
+    }
+
+    private static List<Path> resolve(Path directory, List<String> names) {
+        return names.stream().map(directory::resolve).collect(Collectors.toList());
+    }
+
+    private static Listing listOrEmpty(Path directory) {
+        try {
+            return list(directory, 0);
+        } catch (IOException e) {
+            return Listing.EMPTY;
+        }
+    }
+
+    /**
+     * Returns the listing of the given directory, or an empty Optional if it is not a directory or cannot be watched
+     */
+    private Optional<Listing> getListing(Path directory) {
+        Listing listing = listings.get(directory);
+        if (listing != null) {
+            return Optional.of(listing);
+        }
+        if (unwatchableDirectories.contains(directory)) {
+            return Optional.empty();
+        }
+
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(directory, BasicFileAttributes.class);
+            if (!attributes.isDirectory()) {
+                return Optional.empty();
+            }
+            // start watching before listing, so that no change after the listing is missed
+            if (!watch(directory)) {
+                return Optional.empty();
+            }
+
+            long version = getVersion(directory);
+            long lastModified = attributes.lastModifiedTime().toMillis();
+            Listing snapshotListing = snapshotListings.remove(directory);
+            Listing currentListing;
+            if ((snapshotListing != null) && snapshotListing.isUpToDate(lastModified)) {
+                currentListing = snapshotListing;
+            } else {
+                currentListing = list(directory, lastModified);
+            }
+            // checked and stored at once, as a change may discard the listing between a check and storing it
+            listings.compute(directory, (key, storedListing) -> (getVersion(key) == version) ? currentListing : storedListing);
+            return Optional.of(currentListing);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private boolean watch(Path directory) {
+        if (watchedDirectories.containsKey(directory)) {
+            return true;
+        }
+        if (!fileUpdateMonitor.isActive()) {
+            // the monitor has not been started yet, thus the directory may be watched later
+            return false;
+        }
+
+        FileUpdateListener listener = () -> directoryChanged(directory);
+        try {
+            fileUpdateMonitor.addListenerForDirectory(directory, listener);
+            watchedDirectories.put(directory, listener);
+            return true;
+        } catch (IOException e) {
+            // e.g., the limit of watched directories is reached
+            LOGGER.debug("Could not watch {}, thus it is not cached", directory, e);
+            unwatchableDirectories.add(directory);
+            return false;
+        }
+    }
+
+    private long getVersion(Path directory) {
+        return versions.getOrDefault(directory, 0L);
+    }
+
+    /**
+     * Discards the listing of the given directory. The version is increased first, so that a listing running at the
+     * same time is not stored afterwards.
+     */
+    private void discardListing(Path directory) {
+        versions.merge(directory, 1L, Long::sum);
+        listings.remove(directory);
+    }
+
+    private void directoryChanged(Path directory) {
+        discardListing(directory);
+
+        // subdirectories which were moved away are watched under their new location, thus they are forgotten
+        for (Path subDirectory : new ArrayList<>(watchedDirectories.keySet())) {
+            if (directory.equals(subDirectory.getParent()) && !Files.isDirectory(subDirectory)) {
+                forgetTree(subDirectory);
+            }
+        }
+    }
+
+    private void forgetTree(Path root) {
+        for (Path directory : new ArrayList<>(watchedDirectories.keySet())) {
+            if (directory.startsWith(root)) {
+                discardListing(directory);
+                FileUpdateListener listener = watchedDirectories.remove(directory);
+                if (listener != null) {
+                    fileUpdateMonitor.removeListener(directory, listener);
+                }
+            }
+        }
+    }
+
+    private static Listing list(Path directory, long lastModified) throws IOException {
+        long listedAt = System.currentTimeMillis();
+        List<String> files = new ArrayList<>();
+        List<String> subDirectories = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path path : stream) {
+                BasicFileAttributes attributes;
+                try {
+                    attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                } catch (IOException e) {
+                    // e.g., a broken symbolic link, which does not exist according to Files.exists
+                    continue;
+                }
+                if (attributes.isDirectory()) {
+                    subDirectories.add(path.getFileName().toString());
+                } else {
+                    files.add(path.getFileName().toString());
+                }
+            }
+        }
+        return new Listing(lastModified, listedAt, files, subDirectories);
+    }
+
+    /**
+     * Reads the listings stored by {@link #writeSnapshot()}. A missing or unreadable snapshot is ignored.
+     */
+    public void readSnapshot() {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotFile)))) {
+            if ((input.readInt() != MAGIC_NUMBER) || (input.readInt() != FORMAT_VERSION)) {
+                return;
+            }
+
+            int count = input.readInt();
+            for (int i = 0; i < count; i++) {
+                Path directory = Paths.get(input.readUTF());
+                long lastModified = input.readLong();
+                long listedAt = input.readLong();
+                List<String> files = readNames(input);
+                List<String> subDirectories = readNames(input);
+                snapshotListings.put(directory, new Listing(lastModified, listedAt, files, subDirectories));
+            }
+        } catch (NoSuchFileException e) {
+            // no snapshot written yet
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Could not read directory snapshot {}", snapshotFile, e);
+            snapshotListings.clear();
+        }
+    }
+
+    private static List<String> readNames(DataInputStream input) throws IOException {
+        int count = input.readInt();
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(input.readUTF());
+        }
+        return names;
+    }
+
+    /**
+     * Stores the listings of the directories accessed in this session. If no directory was accessed, the previous
+     * snapshot is kept. The snapshot is written to a temporary file first, so that a concurrently reading instance never
+     * sees a partial snapshot.
+     */
+    public void writeSnapshot() {
+        Map<Path, Listing> currentListings = Map.copyOf(listings);
+        if (currentListings.isEmpty()) {
+            return;
+        }
+
+        Path temporarySnapshot = null;
+        try {
+            Files.createDirectories(snapshotFile.toAbsolutePath().getParent());
+            temporarySnapshot = Files.createTempFile(snapshotFile.toAbsolutePath().getParent(), snapshotFile.getFileName().toString(), ".tmp");
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporarySnapshot)))) {
+                output.writeInt(MAGIC_NUMBER);
+                output.writeInt(FORMAT_VERSION);
+                output.writeInt(currentListings.size());
+                for (Map.Entry<Path, Listing> entry : currentListings.entrySet()) {
+                    Listing listing = entry.getValue();
+                    output.writeUTF(entry.getKey().toString());
+                    output.writeLong(listing.lastModified);
+                    output.writeLong(listing.listedAt);
+                    writeNames(output, listing.files);
+                    writeNames(output, listing.subDirectories);
+                }
+            }
+            Files.move(temporarySnapshot, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write directory snapshot {}", snapshotFile, e);
+            if (temporarySnapshot != null) {
+                try {
+                    Files.deleteIfExists(temporarySnapshot);
+                } catch (IOException ignored) {
+                    // the snapshot only contains recreatable data
+                }
+            }
+        }
+    }
+
+    private static void writeNames(DataOutputStream output, List<String> names) throws IOException {
+        output.writeInt(names.size());
+        for (String name : names) {
+            output.writeUTF(name);
+        }
+    }
+
+    private static class Listing {
+
+        private static final Listing EMPTY = new Listing(0, 0, Collections.emptyList(), Collections.emptyList());
+
+        private final long lastModified;
+        private final long listedAt;
+        private final List<String> files;
+        private final List<String> subDirectories;
+        private final Set<String> names = new HashSet<>();
+        private final Set<String> foldedNames = new HashSet<>();
+
+        Listing(long lastModified, long listedAt, List<String> files, List<String> subDirectories) {
+            this.lastModified = lastModified;
+            this.listedAt = listedAt;
+            this.files = files;
+            this.subDirectories = subDirectories;
+            names.addAll(files);
+            names.addAll(subDirectories);
+            for (String name : names) {
+                foldedNames.add(name.toLowerCase(Locale.ROOT));
+            }
+        }
+
+        boolean isUpToDate(long currentLastModified) {
+            return (currentLastModified == lastModified) && ((listedAt - lastModified) >= MODIFICATION_TIME_RESOLUTION);
+        }
+
+        boolean contains(String name) {
+            return names.contains(name);
+        }
+
+        boolean containsIgnoringCase(String name) {
+            return foldedNames.contains(name.toLowerCase(Locale.ROOT));
+        }
+    }
+}
@@ -12,10 +12,24 @@ public interface FileUpdateMonitor {
      */
     void addListenerForFile(Path file, FileUpdateListener listener) throws IOException;
 
+    /**
+     * Add a new directory to monitor. The listener is notified when a file or directory is created in, deleted from
+     * or modified in the directory, but not for changes in its subdirectories.
+     *
+     * @param directory The directory to monitor.
+     * @throws IOException if the directory does not exist or cannot be monitored.
+     */
+    void addListenerForDirectory(Path directory, FileUpdateListener listener) throws IOException;
+
     /**
      * Removes a listener from the monitor.
      *
      * @param path The path to remove.
      */
     void removeListener(Path path, FileUpdateListener listener);
+
+    /**
+     * Indicates whether the monitor is running, i.e., whether listeners can be added and are notified about changes.
+     */
+    boolean isActive();
 }
@@ -6,21 +6,28 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.OpenDatabase;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexFileIndex;
 import org.jabref.logic.importer.fileformat.BibtexParser;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Answers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class AuxCommandLineTest {
 
@@ -45,4 +52,33 @@ public class AuxCommandLineTest {
             assertEquals(2, newDB.getEntries().size());
         }
     }
+
+    @Test
+    public void performWithIndex() throws URISyntaxException, IOException {
+        when(importFormatPreferences.getEncoding()).thenReturn(StandardCharsets.UTF_8);
+        Path originalFile = Paths.get(AuxCommandLineTest.class.getResource("origin.bib").toURI());
+        File auxFile = Paths.get(AuxCommandLineTest.class.getResource("paper.aux").toURI()).toFile();
+
+        BibtexFileIndex index = BibtexFileIndex.create(originalFile, importFormatPreferences, new DummyFileUpdateMonitor());
+        BibDatabase newDB = new AuxCommandLine(auxFile.getAbsolutePath(), index).perform();
+
+        assertNotNull(newDB);
+        assertEquals(2, newDB.getEntries().size());
+    }
+
+    @Test
+    public void utf16LibraryIsParsedCompletelyInsteadOfIndexed(@TempDir Path temporaryFolder) throws URISyntaxException, IOException {
+        when(importFormatPreferences.getEncoding()).thenReturn(StandardCharsets.UTF_8);
+        Path originalFile = Paths.get(AuxCommandLineTest.class.getResource("origin.bib").toURI());
+        Path utf16File = temporaryFolder.resolve("origin.bib");
+        Files.writeString(utf16File, "% Encoding: UTF-16\n" + Files.readString(originalFile, StandardCharsets.UTF_8), StandardCharsets.UTF_16);
+        File auxFile = Paths.get(AuxCommandLineTest.class.getResource("paper.aux").toURI()).toFile();
+
+        assertThrows(IOException.class, () -> BibtexFileIndex.create(utf16File, importFormatPreferences, new DummyFileUpdateMonitor()));
+        ParserResult result = OpenDatabase.loadDatabase(utf16File, importFormatPreferences, new DummyFileUpdateMonitor());
+        BibDatabase newDB = new AuxCommandLine(auxFile.getAbsolutePath(), result.getDatabase()).perform();
+
+        assertNotNull(newDB);
+        assertEquals(2, newDB.getEntries().size());
+    }
 }
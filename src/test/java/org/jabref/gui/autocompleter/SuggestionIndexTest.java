@@ -0,0 +1,70 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SuggestionIndexTest {
+
+    private SuggestionIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SuggestionIndex<>(Function.identity(), Comparator.naturalOrder());
+    }
+
+    @Test
+    void findsSubstringsIgnoringCase() {
+        index.add("Einstein");
+        index.add("Steinberg");
+        index.add("Bohr");
+
+        assertEquals(List.of("Einstein", "Steinberg"), index.find("STEIN"));
+        assertEquals(List.of("Einstein", "Steinberg"), index.find("ei"));
+        assertEquals(List.of(), index.find("steinx"));
+    }
+
+    @Test
+    void addingSuggestionTwiceFindsItOnce() {
+        index.add("Bohr");
+        index.add("Bohr");
+
+        assertEquals(List.of("Bohr"), index.find("bohr"));
+    }
+
+    @Test
+    void suggestionsAddedAfterRankingAreMergedInOrder() {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 3000; i += 2) {
+            String suggestion = String.format("name%04d", i);
+            index.add(suggestion);
+            expected.add(suggestion);
+        }
+        // ranks all suggestions
+        index.find("name");
+        for (int i = 1; i < 3000; i += 200) {
+            String suggestion = String.format("name%04d", i);
+            index.add(suggestion);
+            expected.add(suggestion);
+        }
+
+        assertEquals(expected.stream().sorted().collect(Collectors.toList()), index.find("name"));
+    }
+
+    @Test
+    void clearRemovesAllSuggestions() {
+        index.add("Bohr");
+        index.clear();
+        index.add("Einstein");
+
+        assertEquals(List.of(), index.find("bohr"));
+        assertEquals(List.of("Einstein"), index.find("ein"));
+    }
+}
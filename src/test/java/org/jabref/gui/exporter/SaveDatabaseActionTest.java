@@ -17,6 +17,7 @@ import org.jabref.gui.undo.CountingUndoManager;
 import org.jabref.gui.util.FileDialogConfiguration;
 import org.jabref.logic.bibtex.FieldContentFormatterPreferences;
 import org.jabref.logic.bibtex.FieldWriterPreferences;
+import org.jabref.logic.exporter.IncrementalSaveState;
 import org.jabref.logic.exporter.SavePreferences;
 import org.jabref.model.bibtexkeypattern.GlobalBibtexKeyPattern;
 import org.jabref.model.database.BibDatabase;
@@ -138,6 +139,8 @@ class SaveDatabaseActionTest {
         when(basePanel.getBibDatabaseContext()).thenReturn(dbContext);
         when(basePanel.getUndoManager()).thenReturn(mock(CountingUndoManager.class));
         when(basePanel.getBibDatabaseContext()).thenReturn(dbContext);
+        IncrementalSaveState saveState = new IncrementalSaveState(dbContext);
+        when(basePanel.getSaveState()).thenReturn(saveState);
         saveDatabaseAction = new SaveDatabaseAction(basePanel, preferences, mock(BibEntryTypesManager.class));
         return saveDatabaseAction;
     }
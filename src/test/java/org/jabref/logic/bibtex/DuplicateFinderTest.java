@@ -0,0 +1,114 @@
+package org.jabref.logic.bibtex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DuplicateFinderTest {
+
+    private BibEntry article;
+    private BibEntry articleWithOtherCase;
+    private BibEntry articleWithDoi;
+    private BibEntry articleWithDoiUrl;
+    private BibEntry unrelatedArticle;
+    private BibEntry book;
+    private List<BibEntry> entries;
+
+    @BeforeEach
+    void setUp() {
+        article = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A serious paper about something")
+                .withField(StandardField.JOURNAL, "Journal of Serious Papers")
+                .withField(StandardField.YEAR, "2017");
+        unrelatedArticle = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Completely Different")
+                .withField(StandardField.TITLE, "Holy Moly Uffdada und Trallalla")
+                .withField(StandardField.YEAR, "1992");
+        articleWithDoi = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Yet another title")
+                .withField(StandardField.DOI, "10.1000/XYZ123");
+        book = new BibEntry(StandardEntryType.Book)
+                .withField(StandardField.AUTHOR, "Donald E. Knuth")
+                .withField(StandardField.TITLE, "The Art of Computer Programming")
+                .withField(StandardField.YEAR, "1968");
+        articleWithOtherCase = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A Serious Paper About Something.")
+                .withField(StandardField.JOURNAL, "Journal of Serious Papers")
+                .withField(StandardField.YEAR, "2017");
+        articleWithDoiUrl = new BibEntry(StandardEntryType.Misc)
+                .withField(StandardField.TITLE, "Completely different title")
+                .withField(StandardField.DOI, "https://doi.org/10.1000/xyz123");
+        entries = Arrays.asList(article, unrelatedArticle, articleWithDoi, book, articleWithOtherCase, articleWithDoiUrl);
+    }
+
+    @Test
+    void getCandidatePairsContainsPairsSharingTitleOrIdentifier() {
+        long[] expected = {pair(0, 4), pair(2, 5)};
+
+        assertArrayEquals(expected, DuplicateFinder.getCandidatePairs(entries));
+    }
+
+    @Test
+    void getCandidatePairsContainsPairsWithSameFirstAuthorAndYear() {
+        BibEntry otherTitle = new BibEntry(StandardEntryType.Book)
+                .withField(StandardField.AUTHOR, "Knuth, Donald and Someone Else")
+                .withField(StandardField.TITLE, "Fundamental Algorithms")
+                .withField(StandardField.YEAR, "1968");
+
+        long[] expected = {pair(0, 1)};
+
+        assertArrayEquals(expected, DuplicateFinder.getCandidatePairs(Arrays.asList(book, otherTitle, unrelatedArticle)));
+    }
+
+    @Test
+    void findDuplicatesFindsSameDuplicatesAsCheckingAllPairs() {
+        DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
+        List<List<BibEntry>> expected = new ArrayList<>();
+        for (int i = 0; i < (entries.size() - 1); i++) {
+            for (int j = i + 1; j < entries.size(); j++) {
+                if (duplicateCheck.isDuplicate(entries.get(i), entries.get(j), BibDatabaseMode.BIBTEX)) {
+                    expected.add(Arrays.asList(entries.get(i), entries.get(j)));
+                }
+            }
+        }
+
+        List<List<BibEntry>> duplicates = new ArrayList<>();
+        List<Double> progress = new ArrayList<>();
+        new DuplicateFinder(new BibEntryTypesManager()).findDuplicates(entries, BibDatabaseMode.BIBTEX,
+                (first, second) -> duplicates.add(Arrays.asList(first, second)), progress::add);
+
+        assertEquals(List.of(Arrays.asList(article, articleWithOtherCase)), expected);
+        assertEquals(expected, duplicates);
+        assertEquals(1.0, progress.get(progress.size() - 1));
+    }
+
+    @Test
+    void findDuplicatesWithoutCandidatesReportsProgress() {
+        List<Double> progress = new ArrayList<>();
+        new DuplicateFinder(new BibEntryTypesManager()).findDuplicates(List.of(article, book), BibDatabaseMode.BIBTEX,
+                (first, second) -> {
+                    throw new AssertionError();
+                }, progress::add);
+
+        assertTrue(progress.contains(0.0));
+    }
+
+    private static long pair(int first, int second) {
+        return ((long) first << 32) | second;
+    }
+}
@@ -1,5 +1,6 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
 
@@ -11,6 +12,7 @@ import org.jabref.model.entry.field.StandardField;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 class BibDatabaseDiffTest {
 
@@ -46,4 +48,37 @@ class BibDatabaseDiffTest {
 
         assertEquals(Collections.emptyList(), diff.getEntryDifferences());
     }
+
+    @Test
+    void compareOfChangedEntryReportsChangeOfMatchingEntry() throws Exception {
+        BibEntry entryOne = new BibEntry(BibEntry.DEFAULT_TYPE).withField(StandardField.TITLE, "test").withField(StandardField.YEAR, "2019");
+        entryOne.setCiteKey("key");
+        BibEntry entryTwo = new BibEntry(BibEntry.DEFAULT_TYPE).withField(StandardField.TITLE, "test").withField(StandardField.YEAR, "2018");
+        entryTwo.setCiteKey("key");
+        BibEntry unchangedEntry = new BibEntry(BibEntry.DEFAULT_TYPE).withField(StandardField.TITLE, "unchanged");
+        BibDatabaseContext databaseOne = new BibDatabaseContext(new BibDatabase(Arrays.asList(unchangedEntry, entryOne)));
+        BibDatabaseContext databaseTwo = new BibDatabaseContext(new BibDatabase(Arrays.asList(entryTwo, unchangedEntry)));
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(databaseOne, databaseTwo);
+
+        assertEquals(1, diff.getEntryDifferences().size());
+        assertEquals(entryOne, diff.getEntryDifferences().get(0).getOriginalEntry());
+        assertEquals(entryTwo, diff.getEntryDifferences().get(0).getNewEntry());
+    }
+
+    @Test
+    void compareReportsRemovedDuplicateAndAddedEntry() throws Exception {
+        BibEntry entry = new BibEntry(BibEntry.DEFAULT_TYPE).withField(StandardField.TITLE, "test");
+        BibEntry duplicate = new BibEntry(BibEntry.DEFAULT_TYPE).withField(StandardField.TITLE, "test");
+        BibEntry addedEntry = new BibEntry(BibEntry.DEFAULT_TYPE).withField(StandardField.AUTHOR, "Someone");
+        BibDatabaseContext databaseOne = new BibDatabaseContext(new BibDatabase(Arrays.asList(entry, duplicate)));
+        BibDatabaseContext databaseTwo = new BibDatabaseContext(new BibDatabase(Arrays.asList(entry, addedEntry)));
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(databaseOne, databaseTwo);
+
+        assertEquals(2, diff.getEntryDifferences().size());
+        assertNull(diff.getEntryDifferences().get(0).getNewEntry());
+        assertNull(diff.getEntryDifferences().get(1).getOriginalEntry());
+        assertEquals(addedEntry, diff.getEntryDifferences().get(1).getNewEntry());
+    }
 }
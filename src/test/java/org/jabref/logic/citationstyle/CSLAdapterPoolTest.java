@@ -0,0 +1,81 @@
+package org.jabref.logic.citationstyle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CSLAdapterPoolTest {
+
+    private String style;
+    private List<BibEntry> entries;
+
+    @BeforeEach
+    void setUp() {
+        style = CitationStyle.getDefault().getSource();
+        entries = new ArrayList<>();
+        for (int i = 1; i <= 12; i++) {
+            BibEntry entry = new BibEntry(StandardEntryType.Article);
+            entry.setCiteKey("key" + i);
+            entry.setField(StandardField.AUTHOR, "Author" + i + ", Anna");
+            entry.setField(StandardField.TITLE, "Title number " + i);
+            entry.setField(StandardField.YEAR, "2000");
+            entries.add(entry);
+        }
+    }
+
+    @Test
+    void bibliographyRenderedInParallelEqualsBibliographyRenderedByOneAdapter() throws Exception {
+        // the parallel path is only taken for styles listing the entries in the order they are cited
+        assertTrue(CitationStyleGenerator.isBibliographyInCitationOrder(style));
+
+        List<String> sequential = CitationStyleGenerator.makeBibliography(entries, style, CitationStyleOutputFormat.HTML, new CSLAdapterPool(1), 2);
+        List<String> parallel = CitationStyleGenerator.makeBibliography(entries, style, CitationStyleOutputFormat.HTML, new CSLAdapterPool(3), 2);
+
+        assertEquals(sequential, parallel);
+        assertEquals(entries.size(), parallel.size());
+        for (int i = 0; i < parallel.size(); i++) {
+            assertTrue(parallel.get(i).contains("[" + (i + 1) + "]"), parallel.get(i));
+            assertTrue(parallel.get(i).contains("Title number " + (i + 1)), parallel.get(i));
+        }
+    }
+
+    @Test
+    void renderedAdapterIsGivenBackToPool() throws Exception {
+        CSLAdapterPool pool = new CSLAdapterPool(1);
+        List<CSLAdapter> used = new ArrayList<>();
+
+        CitationStyleGenerator.makeBibliography(pool, style, CitationStyleOutputFormat.HTML, adapter -> {
+            used.add(adapter);
+            return adapter.makeBibliography(entries);
+        });
+
+        assertSame(used.get(0), pool.borrow(style, CitationStyleOutputFormat.HTML));
+    }
+
+    @Test
+    void failedRenderingFreesAdapterOfPool() throws Exception {
+        CSLAdapterPool pool = new CSLAdapterPool(1);
+
+        assertThrows(IllegalStateException.class, () -> CitationStyleGenerator.makeBibliography(pool, style, CitationStyleOutputFormat.HTML, adapter -> {
+            throw new IllegalStateException("engine failed");
+        }));
+
+        // with the only adapter still borrowed, this would wait forever
+        CSLAdapter adapter = assertTimeoutPreemptively(Duration.ofMinutes(1), () -> pool.borrow(style, CitationStyleOutputFormat.HTML));
+        assertNotNull(adapter);
+    }
+}
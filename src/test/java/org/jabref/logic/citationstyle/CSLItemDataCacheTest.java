@@ -0,0 +1,87 @@
+package org.jabref.logic.citationstyle;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import de.undercouch.citeproc.csl.CSLItemData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CSLItemDataCacheTest {
+
+    private CSLItemDataCache cache;
+    private BibEntry entry;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CSLItemDataCache();
+        entry = new BibEntry(StandardEntryType.Article);
+        entry.setCiteKey("key");
+        entry.setField(StandardField.TITLE, "Title of {\\\"a}");
+    }
+
+    @Test
+    void convertsEntry() {
+        CSLItemData itemData = cache.get(entry);
+
+        assertEquals("key", itemData.getId());
+        assertEquals("Title of ä", itemData.getTitle());
+    }
+
+    @Test
+    void unchangedEntryIsNotConvertedAgain() {
+        assertSame(cache.get(entry), cache.get(entry));
+    }
+
+    @Test
+    void changedEntryIsConvertedAgain() {
+        CSLItemData itemData = cache.get(entry);
+
+        entry.setField(StandardField.TITLE, "Another title");
+
+        assertNotSame(itemData, cache.get(entry));
+        assertEquals("Another title", cache.get(entry).getTitle());
+    }
+
+    @Test
+    void entryChangedWhileConvertingIsConvertedAgain() {
+        AtomicBoolean changeTitle = new AtomicBoolean();
+        BibEntry changingEntry = new BibEntry(StandardEntryType.Article) {
+            @Override
+            public Optional<String> getField(Field field) {
+                Optional<String> value = super.getField(field);
+                if (StandardField.TITLE.equals(field) && changeTitle.compareAndSet(true, false)) {
+                    // changes the title after it has been read for the conversion
+                    setField(StandardField.TITLE, "Another title");
+                }
+                return value;
+            }
+        };
+        changingEntry.setField(StandardField.TITLE, "Title");
+        changeTitle.set(true);
+        cache.get(changingEntry);
+
+        assertEquals("Another title", cache.get(changingEntry).getTitle());
+    }
+
+    @Test
+    void changeOfEqualEntryDoesNotAffectEntry() {
+        BibEntry equalEntry = (BibEntry) entry.clone();
+        CSLItemData itemData = cache.get(entry);
+        cache.get(equalEntry);
+
+        equalEntry.setField(StandardField.TITLE, "Another title");
+
+        assertSame(itemData, cache.get(entry));
+        assertEquals("Another title", cache.get(equalEntry).getTitle());
+    }
+}
@@ -0,0 +1,75 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AtomicFileWriterTest {
+
+    private Path file;
+
+    @BeforeEach
+    void setUp(@TempDir Path temporaryFolder) {
+        file = temporaryFolder.resolve("test.bib");
+    }
+
+    @Test
+    void writeReplacesFileOnClose() throws IOException {
+        Files.writeString(file, "old content");
+
+        try (AtomicFileWriter writer = new AtomicFileWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("new content");
+            assertEquals("old content", Files.readString(file));
+        }
+
+        assertEquals("new content", Files.readString(file));
+        assertFalse(Files.exists(file.resolveSibling("test.bib.tmp")));
+    }
+
+    @Test
+    void writeLargeContentWithSurrogatePairs() throws IOException {
+        // the surrogate pairs end up split between two writes and between two buffers
+        String content = "a😀".repeat(200_000);
+
+        AtomicFileWriter writer = new AtomicFileWriter(file, StandardCharsets.UTF_8);
+        for (int i = 0; i < content.length(); i += 1000) {
+            writer.write(content, i, Math.min(1000, content.length() - i));
+        }
+        writer.close();
+
+        assertEquals(content, Files.readString(file));
+        assertFalse(writer.hasEncodingProblems());
+    }
+
+    @Test
+    void unmappableCharactersAreReplacedAndReported() throws IOException {
+        AtomicFileWriter writer = new AtomicFileWriter(file, StandardCharsets.US_ASCII);
+        writer.write("Müller and Ärger");
+        writer.close();
+
+        assertEquals("M?ller and ?rger", Files.readString(file, StandardCharsets.US_ASCII));
+        assertTrue(writer.hasEncodingProblems());
+        assertEquals(Set.of('ü', 'Ä'), writer.getEncodingProblems());
+    }
+
+    @Test
+    void encodableTextHasNoProblems() throws IOException {
+        AtomicFileWriter writer = new AtomicFileWriter(file, StandardCharsets.ISO_8859_1);
+        writer.write("Müller");
+        writer.close();
+
+        assertEquals("Müller", Files.readString(file, StandardCharsets.ISO_8859_1));
+        assertEquals(Collections.emptySet(), writer.getEncodingProblems());
+    }
+}
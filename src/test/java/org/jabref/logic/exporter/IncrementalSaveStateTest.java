@@ -0,0 +1,120 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.metadata.SaveOrderConfig;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IncrementalSaveStateTest {
+
+    private SavePreferences preferences;
+    private BibEntryTypesManager entryTypesManager;
+    private BibDatabase database;
+    private BibDatabaseContext bibDatabaseContext;
+    private IncrementalSaveState saveState;
+
+    @BeforeEach
+    void setUp() {
+        preferences = mock(SavePreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(preferences.getSaveOrder()).thenReturn(new SaveOrderConfig());
+        when(preferences.getEncoding()).thenReturn(null);
+        when(preferences.takeMetadataSaveOrderInAccount()).thenReturn(true);
+        entryTypesManager = new BibEntryTypesManager();
+
+        database = new BibDatabase();
+        MetaData metaData = new MetaData();
+        metaData.setSaveOrderConfig(new SaveOrderConfig(false, true,
+                new SaveOrderConfig.SortCriterion(StandardField.AUTHOR, false),
+                new SaveOrderConfig.SortCriterion(StandardField.YEAR, true),
+                new SaveOrderConfig.SortCriterion(StandardField.TITLE, false)));
+        bibDatabaseContext = new BibDatabaseContext(database, metaData);
+        // enough entries that a few changes are sorted in incrementally
+        for (int i = 0; i < 50; i++) {
+            database.insertEntry(createEntry(String.valueOf((char) ('A' + ((i * 7) % 26)))));
+        }
+
+        saveState = new IncrementalSaveState(bibDatabaseContext);
+    }
+
+    private static BibEntry createEntry(String author) {
+        BibEntry entry = new BibEntry(StandardEntryType.Article);
+        entry.setField(StandardField.AUTHOR, author);
+        entry.setField(StandardField.YEAR, "2000");
+        return entry;
+    }
+
+    private String saveIncrementally() throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        new BibtexDatabaseWriter(stringWriter, preferences, entryTypesManager).saveDatabase(bibDatabaseContext, saveState);
+        return stringWriter.toString();
+    }
+
+    private String saveCompletely() throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        new BibtexDatabaseWriter(stringWriter, preferences, entryTypesManager).saveDatabase(bibDatabaseContext);
+        return stringWriter.toString();
+    }
+
+    @Test
+    void firstSaveEqualsCompleteSave() throws IOException {
+        assertEquals(saveCompletely(), saveIncrementally());
+    }
+
+    @Test
+    void changedEntryIsMovedToSortedPosition() throws IOException {
+        saveIncrementally();
+
+        database.getEntries().get(0).setField(StandardField.AUTHOR, "B");
+        database.getEntries().get(2).setField(StandardField.YEAR, "2010");
+
+        assertEquals(saveCompletely(), saveIncrementally());
+    }
+
+    @Test
+    void addedAndRemovedEntriesAreSaved() throws IOException {
+        saveIncrementally();
+
+        database.removeEntry(database.getEntries().get(1));
+        database.insertEntry(createEntry("A"));
+        database.insertEntry(createEntry("E"));
+
+        assertEquals(saveCompletely(), saveIncrementally());
+    }
+
+    @Test
+    void saveActionsAreAppliedToChangedEntries() throws IOException {
+        saveIncrementally();
+
+        database.getEntries().get(3).setField(StandardField.TITLE, " Title with spaces ");
+        saveIncrementally();
+
+        assertEquals("Title with spaces", database.getEntries().get(3).getField(StandardField.TITLE).get());
+    }
+
+    @Test
+    void changedSaveOrderSortsAllEntries() throws IOException {
+        saveIncrementally();
+
+        bibDatabaseContext.getMetaData().setSaveOrderConfig(new SaveOrderConfig(false, true,
+                new SaveOrderConfig.SortCriterion(StandardField.AUTHOR, true),
+                new SaveOrderConfig.SortCriterion(StandardField.YEAR, false),
+                new SaveOrderConfig.SortCriterion(StandardField.TITLE, false)));
+
+        assertEquals(saveCompletely(), saveIncrementally());
+    }
+}
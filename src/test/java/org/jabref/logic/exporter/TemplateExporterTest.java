@@ -0,0 +1,72 @@
+package org.jabref.logic.exporter;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.logic.layout.LayoutFormatterPreferences;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TemplateExporterTest {
+
+    private final BibDatabaseContext databaseContext = new BibDatabaseContext();
+    private LayoutFormatterPreferences layoutPreferences;
+    private SavePreferences savePreferences;
+    private Path layoutFile;
+    private Path exportFile;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) {
+        layoutPreferences = mock(LayoutFormatterPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        savePreferences = mock(SavePreferences.class);
+        when(savePreferences.isSaveInOriginalOrder()).thenReturn(true);
+        layoutFile = tempDir.resolve("test.layout");
+        exportFile = tempDir.resolve("export.txt");
+    }
+
+    private void export(String layout, List<BibEntry> entries) throws Exception {
+        Files.writeString(layoutFile, layout);
+        TemplateExporter exporter = new TemplateExporter("test", layoutFile.toString(), "txt", layoutPreferences, savePreferences);
+        exporter.setCustomExport(true);
+        exporter.export(databaseContext, exportFile, StandardCharsets.UTF_8, entries);
+    }
+
+    @Test
+    void entriesOfAllChunksAreWrittenInOrderWithTheirNumbers() throws Exception {
+        List<BibEntry> entries = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int i = 1; i <= 2500; i++) {
+            entries.add(new BibEntry().withField(StandardField.TITLE, "Title " + i));
+            expected.add(i + ": Title " + i);
+        }
+
+        export("\\format[Number]{}: \\title\n", entries);
+
+        assertEquals(expected, Files.readAllLines(exportFile));
+    }
+
+    @Test
+    void groupHeadingsAreWrittenAcrossChunks() throws Exception {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            entries.add(new BibEntry().withField(StandardField.YEAR, i < 2000 ? "2000" : "2001"));
+        }
+
+        export("\\begingroup{year}\\year\n\\endgroup{year}", entries);
+
+        assertEquals(List.of("2000", "2001"), Files.readAllLines(exportFile));
+    }
+}
@@ -0,0 +1,55 @@
+package org.jabref.logic.externalfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.fileformat.PdfContentImporter;
+import org.jabref.logic.xmp.XmpPreferences;
+import org.jabref.logic.xmp.XmpUtilReader;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExternalFilesContentImporterTest {
+
+    private ImportFormatPreferences importFormatPreferences;
+    private XmpPreferences xmpPreferences;
+    private ExternalFilesContentImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        importFormatPreferences = mock(ImportFormatPreferences.class);
+        xmpPreferences = mock(XmpPreferences.class);
+        when(importFormatPreferences.getXmpPreferences()).thenReturn(xmpPreferences);
+        importer = new ExternalFilesContentImporter(importFormatPreferences);
+    }
+
+    @Test
+    void importPDFPrefersXmpMetadata() throws Exception {
+        Path file = Paths.get(ExternalFilesContentImporterTest.class.getResource("/org/jabref/logic/xmp/article_dublinCore.pdf").toURI());
+
+        assertEquals(XmpUtilReader.readXmp(file, xmpPreferences), importer.importPDF(file));
+    }
+
+    @Test
+    void importPDFFallsBackToContentOfFirstPage() throws Exception {
+        Path file = Paths.get(ExternalFilesContentImporterTest.class.getResource("/pdfs/minimal.pdf").toURI());
+
+        assertEquals(new PdfContentImporter(importFormatPreferences).importDatabase(file, StandardCharsets.UTF_8).getDatabase().getEntries(),
+                importer.importPDF(file));
+    }
+
+    @Test
+    void importPDFOfEncryptedFileReturnsNoEntries() throws Exception {
+        Path file = Paths.get(ExternalFilesContentImporterTest.class.getResource("/pdfs/encrypted.pdf").toURI());
+
+        assertEquals(Collections.emptyList(), importer.importPDF(file));
+    }
+}
@@ -3,11 +3,19 @@ package org.jabref.logic.importer;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.jabref.logic.importer.fetcher.TrustLevel;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -72,4 +80,52 @@ public class FulltextFetchersTest {
 
         assertEquals(Optional.of(highUrl), fetcher.findFullTextPDF(entry));
     }
+
+    @Test
+    public void findFullTextPDFsReportsEveryEntry() {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            entries.add(new BibEntry().withField(StandardField.DOI, "10.1000/" + i));
+        }
+        FulltextFetcher finder = (e) -> Optional.empty();
+        FulltextFetchers fetcher = new FulltextFetchers(Set.of(finder));
+
+        Map<BibEntry, Optional<URL>> results = new ConcurrentHashMap<>();
+        fetcher.findFullTextPDFs(entries, results::put).join();
+
+        assertEquals(20, results.size());
+        assertEquals(Set.of(Optional.empty()), Set.copyOf(results.values()));
+    }
+
+    @Test
+    public void findFullTextPDFsDoesNotWaitForHangingFetcher() throws Exception {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            entries.add(new BibEntry().withField(StandardField.DOI, "10.1000/" + i));
+        }
+        CountDownLatch released = new CountDownLatch(1);
+        FulltextFetcher hanging = (e) -> {
+            // ignores interrupts, like a connection without read timeout
+            boolean done = false;
+            while (!done) {
+                try {
+                    done = released.await(1, TimeUnit.MINUTES);
+                } catch (InterruptedException ignored) {
+                    // keep waiting
+                }
+            }
+            return Optional.empty();
+        };
+        FulltextFetchers fetcher = new FulltextFetchers(Set.of(hanging), Duration.ofMillis(200));
+
+        Map<BibEntry, Optional<URL>> results = new ConcurrentHashMap<>();
+        try {
+            fetcher.findFullTextPDFs(entries, results::put).get(10, TimeUnit.SECONDS);
+        } finally {
+            released.countDown();
+        }
+
+        assertEquals(3, results.size());
+        assertEquals(Set.of(Optional.empty()), Set.copyOf(results.values()));
+    }
 }
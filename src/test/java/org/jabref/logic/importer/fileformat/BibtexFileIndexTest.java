@@ -0,0 +1,122 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BibtexFileIndexTest {
+
+    private static final String CONTENT = "% Encoding: UTF-8\n\n"
+            + "@Preamble{some preamble}\n\n"
+            + "@String{aString = {some content}}\n\n"
+            + "% a comment\n"
+            + "@Article{first, journal = aString, crossref = {book}}\n\n"
+            + "@Article{second, author = {M{\\\"u}ller, \\{escaped}}\n\n"
+            + "@Book(book, title = {Ünïcödé})\n\n"
+            + "@Comment{jabref-meta: databaseType:bibtex;}\n\n"
+            + "some epilog";
+
+    private ImportFormatPreferences importFormatPreferences;
+    private Path file;
+
+    @BeforeEach
+    void setUp(@TempDir Path temporaryFolder) throws IOException {
+        importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.getKeywordSeparator()).thenReturn(',');
+        when(importFormatPreferences.getEncoding()).thenReturn(StandardCharsets.UTF_8);
+        file = temporaryFolder.resolve("test.bib");
+        Files.writeString(file, CONTENT, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void createIndexesAllEntries() throws IOException {
+        BibtexFileIndex index = BibtexFileIndex.create(file, importFormatPreferences, new DummyFileUpdateMonitor());
+
+        assertEquals(3, index.getEntryCount());
+        assertEquals(Set.of("first", "second", "book"), index.getCiteKeys());
+        assertFalse(index.containsKey("aString"));
+    }
+
+    @Test
+    void getEntryByKeyYieldsSameEntryAsParser() throws IOException {
+        BibtexFileIndex index = BibtexFileIndex.create(file, importFormatPreferences, new DummyFileUpdateMonitor());
+        List<BibEntry> expected = parseCompletely().getDatabase().getEntries();
+
+        for (BibEntry expectedEntry : expected) {
+            Optional<BibEntry> entry = index.getEntryByKey(expectedEntry.getCiteKey());
+            assertEquals(Optional.of(expectedEntry), entry);
+            assertEquals(expectedEntry.getParsedSerialization(), entry.get().getParsedSerialization());
+        }
+    }
+
+    @Test
+    void loadAllKeysYieldsSameResultAsParser() throws IOException {
+        BibtexFileIndex index = BibtexFileIndex.create(file, importFormatPreferences, new DummyFileUpdateMonitor());
+        ParserResult expected = parseCompletely();
+
+        ParserResult result = index.load(index.getCiteKeys());
+
+        assertEquals(expected.getDatabase().getEntries(), result.getDatabase().getEntries());
+        assertEquals(expected.getDatabase().getPreamble(), result.getDatabase().getPreamble());
+        assertEquals(expected.getDatabase().getEpilog(), result.getDatabase().getEpilog());
+        assertEquals(expected.getMetaData(), result.getMetaData());
+        assertEquals(Optional.of("some content"), result.getDatabase().getStringByName("aString").map(string -> string.getContent()));
+    }
+
+    @Test
+    void loadIncludesCrossReferencedEntries() throws IOException {
+        BibtexFileIndex index = BibtexFileIndex.create(file, importFormatPreferences, new DummyFileUpdateMonitor());
+
+        ParserResult result = index.load(Collections.singleton("first"));
+
+        assertEquals(List.of("first", "book"), result.getDatabase().getEntries().stream()
+                                                      .map(BibEntry::getCiteKey)
+                                                      .collect(Collectors.toList()));
+        assertEquals(Optional.of("Ünïcödé"), result.getDatabase().getEntryByKey("book").flatMap(entry -> entry.getField(StandardField.TITLE)));
+    }
+
+    @Test
+    void loadIgnoresUnknownKeys() throws IOException {
+        BibtexFileIndex index = BibtexFileIndex.create(file, importFormatPreferences, new DummyFileUpdateMonitor());
+
+        ParserResult result = index.load(Collections.singleton("unknown"));
+
+        assertTrue(result.getDatabase().getEntries().isEmpty());
+    }
+
+    @Test
+    void createRejectsUtf16Library() throws IOException {
+        Files.writeString(file, CONTENT.replace("UTF-8", "UTF-16"), StandardCharsets.UTF_16);
+
+        assertThrows(IOException.class, () -> BibtexFileIndex.create(file, importFormatPreferences, new DummyFileUpdateMonitor()));
+    }
+
+    private ParserResult parseCompletely() throws IOException {
+        return new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor()).parse(new StringReader(CONTENT));
+    }
+}
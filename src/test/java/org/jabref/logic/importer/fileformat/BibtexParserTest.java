@@ -396,6 +396,28 @@ class BibtexParserTest {
         }
     }
 
+    @Test
+    void parseSetsParsedSerializationForEntriesSpanningSeveralReadBuffers() throws IOException {
+        StringBuilder bibtexString = new StringBuilder();
+        List<String> serializations = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String serialization = "% comment " + i + OS.NEWLINE + "@article{key" + i + "," + OS.NEWLINE
+                    + "  author = {Crowston, K. and Annabi, H.}," + OS.NEWLINE
+                    + "  title = {Title " + i + "}" + OS.NEWLINE + "}" + OS.NEWLINE;
+            serializations.add(serialization);
+            bibtexString.append(serialization);
+        }
+
+        ParserResult result = parser.parse(new StringReader(bibtexString.toString()));
+        List<BibEntry> parsed = result.getDatabase().getEntries();
+
+        assertEquals(500, parsed.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(Optional.of("key" + i), parsed.get(i).getCiteKeyOptional());
+            assertEquals(serializations.get(i), parsed.get(i).getParsedSerialization());
+        }
+    }
+
     @Test
     void parseRecognizesMultipleEntriesOnSameLine() throws IOException {
         List<BibEntry> expected = new ArrayList<>();
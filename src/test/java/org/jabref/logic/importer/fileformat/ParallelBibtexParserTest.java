@@ -0,0 +1,140 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ParallelBibtexParserTest {
+
+    private ImportFormatPreferences importFormatPreferences;
+
+    @BeforeEach
+    void setUp() {
+        importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.getKeywordSeparator()).thenReturn(',');
+    }
+
+    private static Stream<String> testBibFiles() throws URISyntaxException, IOException {
+        Path directory = Paths.get(ParallelBibtexParserTest.class.getResource("/testbib/complex.bib").toURI()).getParent();
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(Path::toString)
+                        .filter(file -> file.endsWith(".bib"))
+                        .collect(Collectors.toList())
+                        .stream();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("testBibFiles")
+    void parseYieldsSameResultAsSequentialParser(String file) throws IOException {
+        String content = Files.readString(Paths.get(file), StandardCharsets.UTF_8);
+        ParserResult expected = new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor()).parse(new StringReader(content));
+
+        // chunk size 1 splits at every possible position
+        ParserResult result = new ParallelBibtexParser(importFormatPreferences, new DummyFileUpdateMonitor(), 1).parse(new StringReader(content));
+
+        assertSameResult(expected, result);
+    }
+
+    @Test
+    void parseKeepsStringsPreambleAndEpilog() throws IOException {
+        String content = "% DBID: 123456789\n"
+                + "@Preamble{some preamble}\n\n"
+                + "@String{aString = {some content}}\n\n"
+                + "% a comment\n"
+                + "@Article{first, journal = aString}\n\n"
+                + "@String{anotherString = {other content}}\n"
+                + "@Article{second, author = {Test}}\n\n"
+                + "@Article{first, author = {Duplicate}}\n\n"
+                + "@Comment{jabref-meta: databaseType:bibtex;}\n\n"
+                + "some epilog";
+
+        ParserResult expected = new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor()).parse(new StringReader(content));
+        ParserResult result = new ParallelBibtexParser(importFormatPreferences, new DummyFileUpdateMonitor(), 1).parse(new StringReader(content));
+
+        assertSameResult(expected, result);
+        assertEquals(List.of("first"), result.getDuplicateKeys());
+    }
+
+    @Test
+    void parseReportsWarningsLikeSequentialParser() throws IOException {
+        String content = "@String{aString = {some content}}\n"
+                + "@Article{first, author = {Test}}\n"
+                + "@String{aString = {duplicate}}\n"
+                + "@Article{second, author = {Test}}\n"
+                + "@Article{third author = {Test}}\n";
+
+        ParserResult expected = new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor()).parse(new StringReader(content));
+        ParserResult result = new ParallelBibtexParser(importFormatPreferences, new DummyFileUpdateMonitor(), 1).parse(new StringReader(content));
+
+        assertSameResult(expected, result);
+    }
+
+    @Test
+    void splitIntoChunksSplitsAfterNewlineOfEntry() {
+        String content = "@Article{first, title = {A}}\n\n@Article{second, title = {B}}\n";
+
+        assertEquals(List.of("@Article{first, title = {A}}\n", "\n@Article{second, title = {B}}\n"),
+                ParallelBibtexParser.splitIntoChunks(content, 1));
+    }
+
+    @Test
+    void splitIntoChunksDoesNotSplitInsideOfEntry() {
+        String content = "@Article{first, title = {A},\nabstract = {text {with} braces}\n@ not an entry}\n";
+
+        assertEquals(List.of(content), ParallelBibtexParser.splitIntoChunks(content, 1));
+    }
+
+    @Test
+    void splitIntoChunksStopsSplittingAtFirstComment() {
+        String content = "@Article{first, title = {A}}\n@Article{second, title = {B}}\n@Comment{jabref-meta: databaseType:bibtex;}\n@Article{third, title = {C}}\n";
+
+        assertEquals(List.of("@Article{first, title = {A}}\n", "@Article{second, title = {B}}\n@Comment{jabref-meta: databaseType:bibtex;}\n@Article{third, title = {C}}\n"),
+                ParallelBibtexParser.splitIntoChunks(content, 1));
+    }
+
+    private static void assertSameResult(ParserResult expected, ParserResult result) {
+        List<BibEntry> expectedEntries = expected.getDatabase().getEntries();
+        List<BibEntry> entries = result.getDatabase().getEntries();
+        assertEquals(expectedEntries, entries);
+        assertEquals(expectedEntries.stream().map(BibEntry::getParsedSerialization).collect(Collectors.toList()),
+                entries.stream().map(BibEntry::getParsedSerialization).collect(Collectors.toList()));
+        assertEquals(getStrings(expected), getStrings(result));
+        assertEquals(expected.getDatabase().getPreamble(), result.getDatabase().getPreamble());
+        assertEquals(expected.getDatabase().getEpilog(), result.getDatabase().getEpilog());
+        assertEquals(expected.getDatabase().getSharedDatabaseID(), result.getDatabase().getSharedDatabaseID());
+        assertEquals(expected.getMetaData(), result.getMetaData());
+        assertEquals(expected.getEntryTypes(), result.getEntryTypes());
+        assertEquals(expected.getDuplicateKeys(), result.getDuplicateKeys());
+        assertEquals(expected.warnings(), result.warnings());
+    }
+
+    private static Map<String, String> getStrings(ParserResult result) {
+        return result.getDatabase().getStringValues().stream()
+                     .collect(Collectors.toMap(BibtexString::getName, BibtexString::getParsedSerialization));
+    }
+}
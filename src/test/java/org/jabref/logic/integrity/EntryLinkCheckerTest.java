@@ -2,6 +2,7 @@ package org.jabref.logic.integrity;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
@@ -64,6 +65,14 @@ class EntryLinkCheckerTest {
         assertEquals(Collections.emptyList(), message);
     }
 
+    @Test
+    void checkWithCollectedKeys() {
+        entry.setField(StandardField.RELATED, "banana,pineapple");
+
+        List<IntegrityMessage> message = EntryLinkChecker.forKeys(Set.of("banana")).check(entry);
+        assertEquals(1, message.size(), message.toString());
+    }
+
     @Test
     void testCheckExistingRelated() {
         entry.setField(StandardField.RELATED, "banana,pineapple");
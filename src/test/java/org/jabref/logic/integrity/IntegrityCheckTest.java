@@ -3,6 +3,7 @@ package org.jabref.logic.integrity;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -353,6 +354,47 @@ class IntegrityCheckTest {
         assertEquals(clonedEntry, entry);
     }
 
+    @Test
+    void checkDatabaseReportsMessagesOfAllEntriesInOrder() {
+        BibDatabase bibDatabase = new BibDatabase();
+        for (int i = 0; i < 5000; i++) {
+            BibEntry entry = new BibEntry();
+            entry.setCiteKey("key" + i);
+            entry.setField(StandardField.YEAR, (i % 2) == 0 ? "2014" : "abc");
+            entry.setField(StandardField.CROSSREF, (i % 3) == 0 ? "key0" : "missing");
+            bibDatabase.insertEntry(entry);
+        }
+        BibDatabaseContext context = new BibDatabaseContext(bibDatabase);
+        context.setMode(BibDatabaseMode.BIBTEX);
+        IntegrityCheck check = new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createBibtexKeyPatternPreferences(),
+                new JournalAbbreviationRepository(new Abbreviation("IEEE Software", "IEEE SW")), true, false);
+
+        List<IntegrityMessage> expected = new ArrayList<>();
+        for (BibEntry entry : bibDatabase.getEntries()) {
+            expected.addAll(check.checkEntry(entry));
+        }
+
+        assertEquals(expected, check.checkDatabase());
+    }
+
+    @Test
+    void checkEntriesReportsProgress() {
+        BibDatabaseContext context = createContext(StandardField.YEAR, "abc");
+        List<Double> progress = new ArrayList<>();
+        List<IntegrityMessage> messages = new ArrayList<>();
+
+        new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createBibtexKeyPatternPreferences(),
+                new JournalAbbreviationRepository(new Abbreviation("IEEE Software", "IEEE SW")), true, false)
+                .checkEntries(context.getDatabase().getEntries(), messages::addAll, progress::add);
+
+        assertEquals(Arrays.asList(0.0, 1.0), progress);
+        assertNotEquals(Collections.emptyList(), messages);
+    }
+
     @Test
     void testASCIIChecks() {
         assertCorrect(createContext(StandardField.TITLE, "Only ascii characters!'@12"));
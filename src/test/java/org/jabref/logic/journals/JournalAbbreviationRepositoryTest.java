@@ -127,4 +127,47 @@ public class JournalAbbreviationRepositoryTest {
         assertEquals("LA. N.", repository.getDefaultAbbreviation("Long Name").orElse("WRONG"));
         assertEquals("LAN", repository.getShortestUniqueAbbreviation("Long Name").orElse("WRONG"));
     }
+
+    @Test
+    public void lookupIgnoresCase() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository();
+        repository.addEntry(new Abbreviation("Long Name", "L. N.", "LN"));
+
+        assertEquals("L. N.", repository.getDefaultAbbreviation(" long NAME ").orElse("WRONG"));
+        assertTrue(repository.isKnownName("l. n."));
+        assertTrue(repository.isKnownName("l n"));
+        assertTrue(repository.isKnownName("ln"));
+    }
+
+    @Test
+    public void lookupFindsEntryAddedAfterLookup() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository();
+        repository.addEntry(new Abbreviation("Long Name", "L. N."));
+        assertFalse(repository.isKnownName("Other Name"));
+
+        repository.addEntry(new Abbreviation("Other Name", "O. N."));
+
+        assertTrue(repository.isKnownName("Other Name"));
+        assertTrue(repository.isAbbreviatedName("O. N."));
+    }
+
+    @Test
+    public void isAbbreviatedNameIgnoresAbbreviationsEqualToName() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository();
+        repository.addEntry(new Abbreviation("Nature", "Nature"));
+        repository.addEntry(new Abbreviation("Long Name", "L. N."));
+
+        assertFalse(repository.isAbbreviatedName("Nature"));
+        assertFalse(repository.isAbbreviatedName("Long Name"));
+        assertTrue(repository.isAbbreviatedName("l. n."));
+    }
+
+    @Test
+    public void isAbbreviatedNameFindsAbbreviationEqualToNameOfOtherJournal() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository();
+        repository.addEntry(new Abbreviation("Nature", "Nature"));
+        repository.addEntry(new Abbreviation("Nature Reviews", "Nature"));
+
+        assertTrue(repository.isAbbreviatedName("Nature"));
+    }
 }
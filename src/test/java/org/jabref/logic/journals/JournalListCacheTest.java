@@ -0,0 +1,69 @@
+package org.jabref.logic.journals;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JournalListCacheTest {
+
+    private JournalListCache cache;
+    private List<Abbreviation> abbreviations;
+
+    @BeforeEach
+    void setUp(@TempDir Path cacheDirectory) {
+        cache = new JournalListCache(cacheDirectory.resolve("journals"));
+        abbreviations = List.of(new Abbreviation("Long Name", "L. N.", "LN"), new Abbreviation("Other Name", "O. N."));
+    }
+
+    @Test
+    void readReturnsWrittenAbbreviations() {
+        cache.write("list.csv", 42, 100, abbreviations);
+
+        List<Abbreviation> snapshot = cache.read("list.csv", 42, 100).get();
+
+        assertEquals(abbreviations, snapshot);
+        assertEquals(List.of("LN", "O. N."), snapshot.stream().map(Abbreviation::getShortestUniqueAbbreviation).collect(Collectors.toList()));
+        assertEquals(List.of("L. N.", "O. N."), snapshot.stream().map(Abbreviation::getAbbreviation).collect(Collectors.toList()));
+    }
+
+    @Test
+    void readIgnoresSnapshotOfModifiedList() {
+        cache.write("list.csv", 42, 100, abbreviations);
+
+        assertEquals(Optional.empty(), cache.read("list.csv", 43, 100));
+        assertEquals(Optional.empty(), cache.read("list.csv", 42, 101));
+    }
+
+    @Test
+    void readWithoutSnapshotReturnsEmpty() {
+        assertEquals(Optional.empty(), cache.read("list.csv", 42, 100));
+    }
+
+    @Test
+    void loaderReadsSameAbbreviationsFromSnapshots(@TempDir Path cacheDirectory) throws Exception {
+        Path personalList = cacheDirectory.resolve("personal.csv");
+        Files.writeString(personalList, "Long Name;L. N.;LN\n");
+        JournalAbbreviationPreferences preferences = mock(JournalAbbreviationPreferences.class);
+        when(preferences.getPersonalJournalLists()).thenReturn(personalList.toString());
+        when(preferences.getDefaultEncoding()).thenReturn(StandardCharsets.UTF_8);
+
+        JournalAbbreviationRepository expected = new JournalAbbreviationLoader().getRepository(preferences);
+        // the first loader writes the snapshots, the second one reads them
+        new JournalAbbreviationLoader(cacheDirectory.resolve("journals")).getRepository(preferences);
+        JournalAbbreviationRepository repository = new JournalAbbreviationLoader(cacheDirectory.resolve("journals")).getRepository(preferences);
+
+        assertEquals(expected.getAbbreviations(), repository.getAbbreviations());
+        assertEquals(Optional.of("LN"), repository.getShortestUniqueAbbreviation("Long Name"));
+    }
+}
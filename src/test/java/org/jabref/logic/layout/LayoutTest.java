@@ -165,4 +165,29 @@ class LayoutTest {
 
         assertEquals("JoeDoe and MaryJ", layoutText);
     }
+
+    @Test
+    void entryNumberIsTakenFromContext() throws IOException {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "title");
+        Layout layout = new LayoutHelper(new StringReader("\\format[Number]{\\title}"), layoutFormatterPreferences)
+                .getLayoutFromText();
+
+        assertEquals("1", layout.doLayout(entry, null));
+        assertEquals("3", layout.doLayout(entry, null, new LayoutContext(3, null)));
+    }
+
+    @Test
+    void groupHeadingIsOnlyRepeatedForAnotherGroupOfTheSameContext() throws IOException {
+        BibEntry first = new BibEntry(StandardEntryType.Article).withField(StandardField.YEAR, "2020");
+        BibEntry second = new BibEntry(StandardEntryType.Article).withField(StandardField.YEAR, "2020");
+        BibEntry third = new BibEntry(StandardEntryType.Article).withField(StandardField.YEAR, "2021");
+        Layout layout = new LayoutHelper(new StringReader("\\begingroup{year}\\year\\endgroup{year}"), layoutFormatterPreferences)
+                .getLayoutFromText();
+        LayoutContext context = new LayoutContext();
+
+        assertEquals("2020", layout.doLayout(first, null, context));
+        assertEquals("", layout.doLayout(second, null, context));
+        assertEquals("2021", layout.doLayout(third, null, context));
+        assertEquals("2020", layout.doLayout(second, null, new LayoutContext()));
+    }
 }
@@ -0,0 +1,114 @@
+package org.jabref.logic.net;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestSchedulerTest {
+
+    private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void requestsToOneHostDoNotExceedConcurrencyLimit() {
+        RequestScheduler scheduler = new RequestScheduler(executor, 2, Duration.ZERO);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maximumRunning = new AtomicInteger();
+
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            int request = i;
+            results.add(scheduler.schedule("example.org", () -> {
+                maximumRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(5);
+                running.decrementAndGet();
+                return request;
+            }));
+        }
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i, results.get(i).join());
+        }
+        assertEquals(2, maximumRunning.get());
+    }
+
+    @Test
+    void requestsToOneHostAreStartedApart() {
+        RequestScheduler scheduler = new RequestScheduler(executor, 4, Duration.ofMillis(50));
+        long scheduled = System.nanoTime();
+        List<CompletableFuture<Long>> starts = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            starts.add(scheduler.schedule("example.org", System::nanoTime));
+        }
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue((starts.get(i).join() - scheduled) >= Duration.ofMillis(50 * i).toNanos());
+        }
+    }
+
+    @Test
+    void otherHostIsNotDelayed() {
+        RequestScheduler scheduler = new RequestScheduler(executor, 1, Duration.ofSeconds(10));
+        scheduler.schedule("example.org", () -> "first");
+        CompletableFuture<String> delayed = scheduler.schedule("example.org", () -> "second");
+
+        assertEquals("other", scheduler.schedule("example.com", () -> "other").join());
+        assertFalse(delayed.isDone());
+    }
+
+    @Test
+    void failedRequestReleasesHost() {
+        RequestScheduler scheduler = new RequestScheduler(executor, 1, Duration.ZERO);
+        CompletableFuture<String> failed = scheduler.schedule("example.org", () -> {
+            throw new IOException("unreachable");
+        });
+
+        assertThrows(CompletionException.class, failed::join);
+        assertEquals("next", scheduler.schedule("example.org", () -> "next").join());
+    }
+
+    @Test
+    void timedOutRequestReleasesHost() throws InterruptedException {
+        RequestScheduler scheduler = new RequestScheduler(executor, 1, Duration.ZERO);
+        CountDownLatch released = new CountDownLatch(1);
+        CompletableFuture<Boolean> hanging = scheduler.schedule("example.org", () -> released.await(1, TimeUnit.MINUTES), Duration.ofMillis(100));
+
+        CompletionException exception = assertThrows(CompletionException.class, hanging::join);
+        assertTrue(exception.getCause() instanceof TimeoutException);
+        assertEquals("next", scheduler.schedule("example.org", () -> "next").join());
+        released.countDown();
+    }
+
+    @Test
+    void completedRequestIsNotStarted() {
+        RequestScheduler scheduler = new RequestScheduler(executor, 1, Duration.ofMillis(100));
+        AtomicInteger started = new AtomicInteger();
+        scheduler.schedule("example.org", started::incrementAndGet);
+        CompletableFuture<Integer> cancelled = scheduler.schedule("example.org", started::incrementAndGet, Duration.ofSeconds(1));
+        cancelled.cancel(true);
+
+        assertEquals("next", scheduler.schedule("example.org", () -> "next").join());
+        assertEquals(1, started.get());
+    }
+}
@@ -0,0 +1,241 @@
+package org.jabref.logic.net;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class URLDownloadResponseCacheTest {
+
+    private static final String ENTITY_TAG = "\"v1\"";
+    private static final Map<String, String> CACHE_CONTROL = Map.of(
+            "/no-cache", "\r\nCache-Control: no-cache",
+            "/private", "\r\nCache-Control: private, max-age=3600",
+            "/max-age", "\r\nCache-Control: max-age=0");
+
+    private ServerSocket serverSocket;
+    private final AtomicInteger connections = new AtomicInteger();
+    private final List<Map<String, String>> requests = new CopyOnWriteArrayList<>();
+    private Path cacheDirectory;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDirectory) throws IOException {
+        cacheDirectory = tempDirectory;
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread server = new Thread(this::serve, "HTTP stub server");
+        server.setDaemon(true);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        URLDownload.setResponseCache(null);
+        serverSocket.close();
+    }
+
+    /**
+     * Accepts connections, each of which is served by a thread of its own
+     */
+    private void serve() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.incrementAndGet();
+                Thread connection = new Thread(() -> serve(socket), "HTTP stub connection");
+                connection.setDaemon(true);
+                connection.start();
+            } catch (IOException e) {
+                // the server has been closed
+            }
+        }
+    }
+
+    /**
+     * Answers every request for /missing with 404, every other request with the body "content: " followed by the data
+     * sent, or with 304 if the client already knows the entity tag. The paths /no-cache, /private and /max-age are
+     * answered with the respective Cache-Control header.
+     */
+    private void serve(Socket socket) {
+        try (socket) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+            OutputStream output = socket.getOutputStream();
+            String requestLine;
+            while ((requestLine = reader.readLine()) != null) {
+                Map<String, String> request = new HashMap<>();
+                request.put("path", requestLine.split(" ")[1]);
+                String line;
+                while (!(line = reader.readLine()).isEmpty()) {
+                    int colon = line.indexOf(':');
+                    request.put(line.substring(0, colon).toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+                }
+                char[] data = new char[Integer.parseInt(request.getOrDefault("content-length", "0"))];
+                reader.read(data);
+                requests.add(request);
+
+                String response;
+                if ("/missing".equals(request.get("path"))) {
+                    response = "HTTP/1.1 404 Not Found\r\nContent-Length: 0\r\n\r\n";
+                } else if (ENTITY_TAG.equals(request.get("if-none-match"))) {
+                    response = "HTTP/1.1 304 Not Modified\r\nETag: " + ENTITY_TAG + "\r\nContent-Length: 0\r\n\r\n";
+                } else {
+                    String body = "content: " + new String(data);
+                    String cacheControl = CACHE_CONTROL.getOrDefault(request.get("path"), "");
+                    response = "HTTP/1.1 200 OK\r\nETag: " + ENTITY_TAG + cacheControl + "\r\nContent-Length: " + body.length() + "\r\n\r\n" + body;
+                }
+                output.write(response.getBytes(StandardCharsets.ISO_8859_1));
+                output.flush();
+            }
+        } catch (IOException e) {
+            // the client closed the connection
+        }
+    }
+
+    private URLDownload download(String path) throws IOException {
+        return new URLDownload(new URL("http", "localhost", serverSocket.getLocalPort(), path));
+    }
+
+    private long countCachedResponses() throws IOException {
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    void freshResponseIsTakenFromCache() throws IOException {
+        URLDownload.setResponseCache(new HttpResponseCache(cacheDirectory, Duration.ofHours(1), 1024 * 1024));
+
+        assertEquals("content: \n", download("/resource").asString());
+        assertEquals("content: \n", download("/resource").asString());
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    void staleResponseIsRevalidatedUsingEntityTag() throws IOException {
+        URLDownload.setResponseCache(new HttpResponseCache(cacheDirectory, Duration.ZERO, 1024 * 1024));
+
+        download("/resource").asString();
+        String content = download("/resource").asString();
+
+        assertEquals("content: \n", content);
+        assertEquals(2, requests.size());
+        assertEquals(ENTITY_TAG, requests.get(1).get("if-none-match"));
+    }
+
+    @Test
+    void responsesToOtherPostDataAreNotTakenFromCache() throws IOException {
+        URLDownload.setResponseCache(new HttpResponseCache(cacheDirectory, Duration.ofHours(1), 1024 * 1024));
+        URLDownload first = download("/resource");
+        first.setPostData("first");
+        URLDownload second = download("/resource");
+        second.setPostData("second");
+
+        assertEquals("content: first\n", first.asString());
+        assertEquals("content: second\n", second.asString());
+        assertEquals(2, requests.size());
+    }
+
+    @Test
+    void missingResourceIsNotCached() throws IOException {
+        URLDownload.setResponseCache(new HttpResponseCache(cacheDirectory, Duration.ofHours(1), 1024 * 1024));
+
+        assertEquals(0, download("/missing").asCachedInputStream().readAllBytes().length);
+        assertEquals(0, download("/missing").asCachedInputStream().readAllBytes().length);
+        assertEquals(2, requests.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/no-cache", "/private", "/max-age"})
+    void responseLimitedByCacheControlIsRevalidated(String path) throws IOException {
+        URLDownload.setResponseCache(new HttpResponseCache(cacheDirectory, Duration.ofHours(1), 1024 * 1024));
+
+        download(path).asString();
+        download(path).asString();
+
+        assertEquals(2, requests.size());
+        assertEquals(ENTITY_TAG, requests.get(1).get("if-none-match"));
+    }
+
+    @Test
+    void authenticatedRequestIsNotCached() throws IOException {
+        URLDownload.setResponseCache(new HttpResponseCache(cacheDirectory, Duration.ofHours(1), 1024 * 1024));
+
+        for (int i = 0; i < 2; i++) {
+            URLDownload download = download("/resource");
+            download.addHeader("Authorization", "Bearer secret");
+            assertEquals("content: \n", download.asString());
+        }
+
+        assertEquals(2, requests.size());
+        assertEquals(0, countCachedResponses());
+    }
+
+    @Test
+    void cachedResponseDoesNotContainApiKey() throws IOException {
+        URLDownload.setResponseCache(new HttpResponseCache(cacheDirectory, Duration.ofHours(1), 1024 * 1024));
+
+        download("/resource?api_key=secret").asString();
+
+        assertEquals(1, countCachedResponses());
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                assertFalse(new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1).contains("secret"));
+            }
+        }
+    }
+
+    @Test
+    void fileDownloadIsNotCached() throws IOException {
+        URLDownload.setResponseCache(new HttpResponseCache(cacheDirectory, Duration.ofHours(1), 1024 * 1024));
+
+        for (int i = 0; i < 2; i++) {
+            try (InputStream input = download("/resource").asInputStream()) {
+                assertEquals("content: ", new String(input.readAllBytes(), StandardCharsets.ISO_8859_1));
+            }
+        }
+        Path destination = cacheDirectory.resolve("downloaded.pdf");
+        download("/resource").toFile(destination);
+        Files.delete(destination);
+
+        assertEquals(3, requests.size());
+        assertEquals(0, countCachedResponses());
+    }
+
+    @Test
+    void connectionIsReusedForRevalidations() throws IOException {
+        URLDownload.setResponseCache(new HttpResponseCache(cacheDirectory, Duration.ZERO, 1024 * 1024));
+
+        for (int i = 0; i < 3; i++) {
+            download("/resource").asCachedInputStream().close();
+        }
+
+        assertEquals(3, requests.size());
+        assertEquals(1, connections.get());
+    }
+}
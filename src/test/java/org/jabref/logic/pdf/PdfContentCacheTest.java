@@ -0,0 +1,127 @@
+package org.jabref.logic.pdf;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.jabref.logic.xmp.PdfMetadata;
+import org.jabref.model.pdf.FileAnnotation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PdfContentCacheTest {
+
+    private Path cacheDirectory;
+    private PdfContentCache cache;
+    private Path file;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDirectory) throws Exception {
+        cacheDirectory = tempDirectory.resolve("pdfs");
+        cache = new PdfContentCache(cacheDirectory, 1024 * 1024);
+        file = tempDirectory.resolve("minimal-highlight-with-note.pdf");
+        Files.copy(Paths.get(PdfContentCacheTest.class.getResource("/pdfs/minimal-highlight-with-note.pdf").toURI()), file);
+    }
+
+    private static BasicFileAttributes readAttributes(Path file) throws IOException {
+        return Files.readAttributes(file, BasicFileAttributes.class);
+    }
+
+    @Test
+    void getAnnotationsReturnsStoredAnnotations() throws Exception {
+        List<FileAnnotation> annotations = new PdfAnnotationImporter().importAnnotations(file);
+
+        cache.putAnnotations(file, readAttributes(file), annotations);
+
+        assertFalse(annotations.isEmpty());
+        assertEquals(Optional.of(annotations), cache.getAnnotations(file));
+    }
+
+    @Test
+    void annotationImporterStoresAnnotationsInCache() {
+        List<FileAnnotation> annotations = new PdfAnnotationImporter(cache).importAnnotations(file);
+
+        assertEquals(Optional.of(annotations), cache.getAnnotations(file));
+        assertEquals(annotations, new PdfAnnotationImporter(cache).importAnnotations(file));
+    }
+
+    @Test
+    void getMetadataReturnsStoredMetadata() throws Exception {
+        PdfMetadata metadata = new PdfMetadata(Optional.of("<x:xmpmeta/>"), Map.of("Title", "A title"));
+
+        cache.putMetadata(file, readAttributes(file), metadata);
+
+        assertEquals(Optional.of(metadata), cache.getMetadata(file));
+    }
+
+    @Test
+    void getFirstPageTextReturnsStoredTextLongerThan64Kilobytes() throws Exception {
+        String text = "ä".repeat(40_000);
+
+        cache.putFirstPageText(file, readAttributes(file), text);
+
+        assertEquals(Optional.of(text), cache.getFirstPageText(file));
+    }
+
+    @Test
+    void getIgnoresSnapshotOfModifiedFile() throws Exception {
+        cache.putFirstPageText(file, readAttributes(file), "text");
+
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 2000));
+
+        assertEquals(Optional.empty(), cache.getFirstPageText(file));
+    }
+
+    @Test
+    void contentOfFileModifiedWhileLoadingIsNotStored() throws Exception {
+        BasicFileAttributes attributes = readAttributes(file);
+        List<FileAnnotation> annotations = new PdfAnnotationImporter().importAnnotations(file);
+        // saved by another application while the annotations were read
+        Files.setLastModifiedTime(file, FileTime.fromMillis(attributes.lastModifiedTime().toMillis() + 2000));
+
+        cache.putAnnotations(file, attributes, annotations);
+
+        assertEquals(Optional.empty(), cache.getAnnotations(file));
+        assertFalse(Files.exists(cacheDirectory));
+    }
+
+    @Test
+    void getWithoutSnapshotReturnsEmpty() {
+        assertEquals(Optional.empty(), cache.getAnnotations(file));
+        assertEquals(Optional.empty(), cache.getMetadata(file));
+        assertEquals(Optional.empty(), cache.getFirstPageText(file));
+    }
+
+    @Test
+    void leastRecentlyUsedSnapshotsAreDeletedWhenMaximumSizeIsExceeded(@TempDir Path tempDirectory) throws Exception {
+        cache = new PdfContentCache(cacheDirectory, 280_000);
+        Path otherFile = tempDirectory.resolve("other.pdf");
+        Files.copy(file, otherFile);
+
+        cache.putFirstPageText(file, readAttributes(file), "a".repeat(100_000));
+        cache.putMetadata(file, readAttributes(file), new PdfMetadata(Optional.of("b".repeat(100_000)), Map.of()));
+        try (Stream<Path> snapshots = Files.list(cacheDirectory)) {
+            // the first snapshot has been used least recently
+            snapshots.forEach(snapshot -> snapshot.toFile().setLastModified(0));
+        }
+        cache.getMetadata(file);
+        cache.putFirstPageText(otherFile, readAttributes(otherFile), "c".repeat(100_000));
+
+        assertEquals(Optional.empty(), cache.getFirstPageText(file));
+        assertTrue(cache.getMetadata(file).isPresent());
+        assertTrue(cache.getFirstPageText(otherFile).isPresent());
+    }
+}
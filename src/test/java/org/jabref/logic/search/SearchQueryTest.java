@@ -3,9 +3,12 @@ package org.jabref.logic.search;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.SearchIndex;
+import org.jabref.model.search.SearchMatcher;
 
 import org.junit.jupiter.api.Test;
 
@@ -43,6 +46,19 @@ public class SearchQueryTest {
         assertTrue(searchQuery.isMatch(entry));
     }
 
+    @Test
+    public void indexedMatcherMatchesSameEntriesAsQuery() {
+        BibEntry matching = new BibEntry().withField(StandardField.TITLE, "systematic review");
+        BibEntry other = new BibEntry().withField(StandardField.TITLE, "survey");
+        BibDatabase database = new BibDatabase();
+        database.insertEntries(matching, other);
+
+        SearchMatcher matcher = new SearchQuery("title=review", false, false).getIndexedMatcher(new SearchIndex(database));
+
+        assertTrue(matcher.isMatch(matching));
+        assertFalse(matcher.isMatch(other));
+    }
+
     @Test
     public void testGrammarSearchFullEntryLastCharMissing() {
         BibEntry entry = new BibEntry();
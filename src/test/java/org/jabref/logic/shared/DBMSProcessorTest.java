@@ -104,10 +104,7 @@ class DBMSProcessorTest {
         BibEntry thirdEntry = getBibEntryExample3();
         String thirdId = thirdEntry.getId();
 
-        // This must eventually be changed to insertEntries() once that method is implemented
-        dbmsProcessor.insertEntry(firstEntry);
-        dbmsProcessor.insertEntry(secondEntry);
-        dbmsProcessor.insertEntry(thirdEntry);
+        dbmsProcessor.insertEntries(Arrays.asList(firstEntry, secondEntry, thirdEntry));
 
         Map<Integer, Map<String, String>> actualFieldMap = new HashMap<>();
 
@@ -0,0 +1,95 @@
+package org.jabref.logic.shared;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jabref.model.database.shared.DatabaseConnection;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks the statements sent by {@link PostgreSQLProcessor#insertEntries(List)} against a mocked connection
+ */
+class PostgreSQLProcessorTest {
+
+    private Connection connection;
+    private PreparedStatement entryStatement;
+    private PreparedStatement fieldStatement;
+    private PostgreSQLProcessor processor;
+    private BibEntry firstEntry;
+    private BibEntry secondEntry;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = mock(Connection.class);
+        entryStatement = mock(PreparedStatement.class);
+        fieldStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(startsWith("INSERT INTO \"ENTRY\""))).thenReturn(entryStatement);
+        when(connection.prepareStatement(startsWith("INSERT INTO \"FIELD\""))).thenReturn(fieldStatement);
+
+        DatabaseConnection databaseConnection = mock(DatabaseConnection.class);
+        when(databaseConnection.getConnection()).thenReturn(connection);
+        processor = new PostgreSQLProcessor(databaseConnection);
+
+        firstEntry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "First");
+        secondEntry = new BibEntry(StandardEntryType.Book).withField(StandardField.TITLE, "Second");
+    }
+
+    @Test
+    void insertEntriesUsesSingleTransaction() throws SQLException {
+        ResultSet generatedKeys = mock(ResultSet.class);
+        when(generatedKeys.next()).thenReturn(true, true, false);
+        // rows returned in another order than the order of the values
+        when(generatedKeys.getInt(1)).thenReturn(8, 7);
+        when(entryStatement.executeQuery()).thenReturn(generatedKeys);
+
+        processor.insertEntries(Arrays.asList(firstEntry, secondEntry));
+
+        InOrder transaction = inOrder(connection, entryStatement, fieldStatement);
+        transaction.verify(connection).setAutoCommit(false);
+        transaction.verify(entryStatement).executeQuery();
+        transaction.verify(fieldStatement).executeUpdate();
+        transaction.verify(connection).commit();
+        transaction.verify(connection).setAutoCommit(true);
+        verify(connection).prepareStatement("INSERT INTO \"ENTRY\"(\"TYPE\") VALUES(?), (?) RETURNING \"SHARED_ID\"");
+        verify(connection, times(2)).prepareStatement(anyString());
+        assertEquals(7, firstEntry.getSharedBibEntryData().getSharedID());
+        assertEquals(8, secondEntry.getSharedBibEntryData().getSharedID());
+    }
+
+    @Test
+    void insertEntriesRollsBackIfFieldsCannotBeInserted() throws SQLException {
+        ResultSet generatedKeys = mock(ResultSet.class);
+        when(generatedKeys.next()).thenReturn(true, true, false);
+        when(generatedKeys.getInt(1)).thenReturn(7, 8);
+        when(entryStatement.executeQuery()).thenReturn(generatedKeys);
+        when(fieldStatement.executeUpdate()).thenThrow(new SQLException());
+
+        processor.insertEntries(Arrays.asList(firstEntry, secondEntry));
+
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+        verify(connection).setAutoCommit(true);
+        assertEquals(-1, firstEntry.getSharedBibEntryData().getSharedID());
+        assertEquals(-1, secondEntry.getSharedBibEntryData().getSharedID());
+    }
+}
@@ -0,0 +1,86 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FileDirectoryIndexTest {
+
+    private Path rootDir;
+    private Path subDir;
+    private Path subSubDir;
+    private Path rootFile;
+    private Path subFile;
+    private Path subSubFile;
+
+    @BeforeEach
+    void setUp(@TempDir Path temporaryFolder) throws IOException {
+        rootDir = temporaryFolder;
+        subDir = Files.createDirectory(rootDir.resolve("sub"));
+        subSubDir = Files.createDirectory(subDir.resolve("subsub"));
+
+        rootFile = Files.createFile(rootDir.resolve("HipKro03.pdf"));
+        subFile = Files.createFile(subDir.resolve("HipKro03 - Hello.pdf"));
+        subSubFile = Files.createFile(subSubDir.resolve("Other.pdf"));
+    }
+
+    @Test
+    void getFilesStartingWithFindsFilesInAllSubDirectories() throws IOException {
+        FileDirectoryIndex index = new FileDirectoryIndex(Collections.singletonList(rootDir));
+
+        List<Path> result = index.getFilesStartingWith("HipKro03");
+        Collections.sort(result);
+
+        assertEquals(Arrays.asList(rootFile, subFile), result);
+    }
+
+    @Test
+    void getFilesStartingWithIndexesNestedDirectoriesOnce() throws IOException {
+        FileDirectoryIndex index = new FileDirectoryIndex(Arrays.asList(rootDir, subSubDir));
+
+        assertEquals(Collections.singletonList(subSubFile), index.getFilesStartingWith("Other"));
+    }
+
+    @Test
+    void getFilesReturnsDirectContentsOnly() throws IOException {
+        FileDirectoryIndex index = new FileDirectoryIndex(Collections.singletonList(rootDir));
+
+        assertEquals(Collections.singletonList(rootFile), index.getFiles(rootDir));
+        assertEquals(Collections.singletonList(subDir), index.getSubDirectories(rootDir));
+    }
+
+    @Test
+    void getAllSubDirectoriesReturnsDirectoriesInDepthFirstOrder() throws IOException {
+        FileDirectoryIndex index = new FileDirectoryIndex(Collections.singletonList(rootDir));
+
+        assertEquals(Arrays.asList(subDir, subSubDir), index.getAllSubDirectories(rootDir));
+    }
+
+    @Test
+    void indexDoesNotSeeFilesCreatedAfterWalk() throws IOException {
+        FileDirectoryIndex index = new FileDirectoryIndex(Collections.singletonList(rootDir));
+        index.getFilesStartingWith("HipKro03");
+
+        Files.createFile(subDir.resolve("HipKro03a.pdf"));
+
+        assertEquals(2, index.getFilesStartingWith("HipKro03").size());
+        assertEquals(3, new FileDirectoryIndex(Collections.singletonList(rootDir)).getFilesStartingWith("HipKro03").size());
+    }
+
+    @Test
+    void nonExistingDirectoryContainsNothing() throws IOException {
+        FileDirectoryIndex index = new FileDirectoryIndex(Collections.singletonList(rootDir.resolve("missing")));
+
+        assertEquals(Collections.emptyList(), index.getFilesStartingWith(""));
+        assertEquals(Collections.emptyList(), index.getFiles(rootDir.resolve("missing")));
+    }
+}
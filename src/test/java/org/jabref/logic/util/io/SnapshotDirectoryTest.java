@@ -0,0 +1,88 @@
+package org.jabref.logic.util.io;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnapshotDirectoryTest {
+
+    private static final int MAGIC_NUMBER = 0x54455354;
+
+    private Path directory;
+    private SnapshotDirectory snapshots;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDirectory) {
+        directory = tempDirectory.resolve("snapshots");
+        snapshots = new SnapshotDirectory(directory, ".snapshot", MAGIC_NUMBER, 1, 1024 * 1024);
+    }
+
+    private Optional<List<String>> readStrings(SnapshotDirectory snapshotDirectory, String key) {
+        return snapshotDirectory.read(key, input -> Optional.of(Arrays.asList(SnapshotDirectory.readString(input), SnapshotDirectory.readString(input))));
+    }
+
+    private void writeStrings(SnapshotDirectory snapshotDirectory, String key, String first, String second) {
+        snapshotDirectory.write(key, output -> {
+            SnapshotDirectory.writeString(output, first);
+            SnapshotDirectory.writeString(output, second);
+        });
+    }
+
+    @Test
+    void readReturnsWrittenStringsLongerThan64KilobytesAndNull() {
+        String text = "ä".repeat(40_000);
+
+        writeStrings(snapshots, "key", text, null);
+
+        assertEquals(Optional.of(Arrays.asList(text, null)), readStrings(snapshots, "key"));
+        assertEquals(Optional.empty(), readStrings(snapshots, "other key"));
+    }
+
+    @Test
+    void writeReplacesSnapshotWithoutLeavingTemporaryFiles() throws Exception {
+        writeStrings(snapshots, "key", "first", "first");
+        writeStrings(snapshots, "key", "second", "second");
+
+        assertEquals(Optional.of(List.of("second", "second")), readStrings(snapshots, "key"));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void snapshotOfOtherFormatVersionIsIgnored() {
+        writeStrings(snapshots, "key", "first", "second");
+
+        SnapshotDirectory nextVersion = new SnapshotDirectory(directory, ".snapshot", MAGIC_NUMBER, 2, 1024 * 1024);
+
+        assertEquals(Optional.empty(), readStrings(nextVersion, "key"));
+    }
+
+    @Test
+    void leastRecentlyUsedSnapshotsAreDeletedWhenMaximumSizeIsExceeded() throws Exception {
+        snapshots = new SnapshotDirectory(directory, ".snapshot", MAGIC_NUMBER, 1, 280_000);
+        writeStrings(snapshots, "first", "a".repeat(100_000), null);
+        writeStrings(snapshots, "second", "b".repeat(100_000), null);
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(snapshot -> snapshot.toFile().setLastModified(0));
+        }
+        // the first snapshot has been used least recently
+        readStrings(snapshots, "second");
+
+        writeStrings(snapshots, "third", "c".repeat(100_000), null);
+
+        assertEquals(Optional.empty(), readStrings(snapshots, "first"));
+        assertTrue(readStrings(snapshots, "second").isPresent());
+        assertTrue(readStrings(snapshots, "third").isPresent());
+    }
+}
@@ -276,6 +276,57 @@ public class BibDatabaseTest {
         assertEquals(1, database.getDuplicationChecker().getNumberOfKeyOccurrences("AAA"));
     }
 
+    @Test
+    public void getEntryByKeyFindsInsertedEntry() {
+        BibEntry entry = new BibEntry().withCiteKey("AAA");
+        database.insertEntry(entry);
+        assertEquals(Optional.of(entry), database.getEntryByKey("AAA"));
+        assertEquals(Optional.empty(), database.getEntryByKey("BBB"));
+    }
+
+    @Test
+    public void getEntryByKeyFollowsKeyChange() {
+        BibEntry entry = new BibEntry().withCiteKey("AAA");
+        database.insertEntry(entry);
+        entry.setCiteKey("BBB");
+        assertEquals(Optional.empty(), database.getEntryByKey("AAA"));
+        assertEquals(Optional.of(entry), database.getEntryByKey("BBB"));
+        entry.clearCiteKey();
+        assertEquals(Optional.empty(), database.getEntryByKey("BBB"));
+    }
+
+    @Test
+    public void getEntryByKeyIgnoresRemovedEntry() {
+        BibEntry entry = new BibEntry().withCiteKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+        entry.setCiteKey("BBB");
+        assertEquals(Optional.empty(), database.getEntryByKey("AAA"));
+        assertEquals(Optional.empty(), database.getEntryByKey("BBB"));
+    }
+
+    @Test
+    public void getEntriesByKeyKeepsDatabaseOrderAfterKeyChange() {
+        BibEntry first = new BibEntry().withCiteKey("AAA");
+        BibEntry second = new BibEntry().withCiteKey("BBB");
+        database.insertEntries(first, second);
+        first.setCiteKey("BBB");
+        assertEquals(List.of(first, second), database.getEntriesByKey("BBB"));
+        assertEquals(Optional.of(first), database.getEntryByKey("BBB"));
+    }
+
+    @Test
+    public void getEntryByIdFindsEntryAfterIdChange() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        String oldId = entry.getId();
+        entry.setId("newId");
+        assertEquals(Optional.empty(), database.getEntryById(oldId));
+        assertEquals(Optional.of(entry), database.getEntryById("newId"));
+        database.removeEntry(entry);
+        assertEquals(Optional.empty(), database.getEntryById("newId"));
+    }
+
     @Test
     public void circularStringResolving() {
         BibtexString string = new BibtexString("AAA", "#BBB#");
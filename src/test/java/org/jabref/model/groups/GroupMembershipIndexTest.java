@@ -0,0 +1,96 @@
+package org.jabref.model.groups;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupMembershipIndexTest {
+
+    private BibDatabase database;
+    private GroupMembershipIndex index;
+    private GroupTreeNode root;
+    private GroupTreeNode alpha;
+    private BibEntry alphaEntry;
+    private BibEntry betaEntry;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase();
+        alphaEntry = createEntry("alpha");
+        betaEntry = createEntry("beta");
+        database.insertEntry(alphaEntry);
+        database.insertEntry(betaEntry);
+        database.insertEntry(createEntry("alpha, beta"));
+
+        root = GroupTreeNode.fromGroup(new AllEntriesGroup("All entries"));
+        alpha = root.addSubgroup(createKeywordGroup("alpha", GroupHierarchyType.INDEPENDENT));
+        index = new GroupMembershipIndex(database);
+    }
+
+    private static BibEntry createEntry(String keywords) {
+        BibEntry entry = new BibEntry();
+        entry.setField(StandardField.KEYWORDS, keywords);
+        return entry;
+    }
+
+    private static AbstractGroup createKeywordGroup(String keyword, GroupHierarchyType context) {
+        return new WordKeywordGroup(keyword, context, StandardField.KEYWORDS, keyword, true, ',', false);
+    }
+
+    @Test
+    void numberOfMatchesEqualsCalculatedNumber() {
+        assertEquals(3, index.getNumberOfMatches(root));
+        assertEquals(2, index.getNumberOfMatches(alpha));
+        assertEquals(alpha.calculateNumberOfMatches(database), index.getNumberOfMatches(alpha));
+    }
+
+    @Test
+    void changedEntryIsCheckedAgain() {
+        index.getNumberOfMatches(alpha);
+
+        betaEntry.setField(StandardField.KEYWORDS, "alpha");
+        alphaEntry.clearField(StandardField.KEYWORDS);
+
+        assertEquals(2, index.getNumberOfMatches(alpha));
+        assertTrue(index.matches(alpha, betaEntry));
+        assertFalse(index.matches(alpha, alphaEntry));
+    }
+
+    @Test
+    void addedAndRemovedEntriesAreCounted() {
+        index.getNumberOfMatches(alpha);
+
+        database.removeEntry(alphaEntry);
+        assertEquals(1, index.getNumberOfMatches(alpha));
+
+        database.insertEntry(createEntry("alpha"));
+        database.insertEntry(createEntry("alpha"));
+        assertEquals(3, index.getNumberOfMatches(alpha));
+        assertEquals(4, index.getNumberOfMatches(root));
+    }
+
+    @Test
+    void hierarchicalContextIsTakenIntoAccount() {
+        GroupTreeNode refining = alpha.addSubgroup(createKeywordGroup("beta", GroupHierarchyType.REFINING));
+        GroupTreeNode including = root.addSubgroup(createKeywordGroup("gamma", GroupHierarchyType.INCLUDING));
+        including.addSubgroup(createKeywordGroup("beta", GroupHierarchyType.INDEPENDENT));
+
+        assertEquals(1, index.getNumberOfMatches(refining));
+        assertEquals(2, index.getNumberOfMatches(including));
+        assertFalse(index.matches(refining, betaEntry));
+        assertTrue(index.matches(including, betaEntry));
+    }
+
+    @Test
+    void entryNotInDatabaseIsMatchedByGroup() {
+        assertTrue(index.matches(alpha, createEntry("alpha")));
+        assertFalse(index.matches(alpha, createEntry("beta")));
+    }
+}
@@ -0,0 +1,145 @@
+package org.jabref.model.search;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.rules.SearchRule;
+import org.jabref.model.search.rules.SearchRules;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchIndexTest {
+
+    private BibDatabase database;
+    private BibEntry einstein;
+    private BibEntry knuth;
+    private BibEntry smith;
+
+    @BeforeEach
+    void setUp() {
+        einstein = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Albert Einstein")
+                .withField(StandardField.TITLE, "Zur Elektrodynamik bewegter K{\\\"o}rper")
+                .withField(StandardField.YEAR, "1905");
+        einstein.setCiteKey("Einstein1905");
+        knuth = new BibEntry(StandardEntryType.Book)
+                .withField(StandardField.AUTHOR, "Donald E. Knuth")
+                .withField(StandardField.TITLE, "The Art of Computer Programming")
+                .withField(StandardField.KEYWORDS, "algorithms, programming");
+        smith = new BibEntry(StandardEntryType.Misc)
+                .withField(StandardField.AUTHOR, "John Smith")
+                .withField(StandardField.NOTE, "Σίσυφος");
+        database = new BibDatabase(List.of(einstein, knuth, smith));
+    }
+
+    @Test
+    void getEntriesContainingRulesOutEntriesWithoutText() {
+        SearchIndex.Candidates candidates = new SearchIndex(database).getEntriesContaining("einst");
+
+        assertTrue(candidates.contains(einstein));
+        assertFalse(candidates.contains(knuth));
+        assertFalse(candidates.contains(smith));
+    }
+
+    @Test
+    void getEntriesContainingUsesLatexFreeContent() {
+        SearchIndex.Candidates candidates = new SearchIndex(database).getEntriesContaining("KÖRPER");
+
+        assertTrue(candidates.contains(einstein));
+        assertFalse(candidates.contains(knuth));
+    }
+
+    @Test
+    void getEntriesContainingWithShortTextReturnsAllEntries() {
+        assertTrue(new SearchIndex(database).getEntriesContaining("a").isAllEntries());
+    }
+
+    @Test
+    void candidatesContainEntryChangedAfterwards() {
+        SearchIndex index = new SearchIndex(database);
+        SearchIndex.Candidates candidates = index.getEntriesContaining("einstein");
+
+        knuth.setField(StandardField.NOTE, "Einstein");
+
+        assertTrue(candidates.contains(knuth));
+        assertTrue(index.getEntriesContaining("einstein").contains(knuth));
+        assertFalse(index.getEntriesContaining("einstein").contains(smith));
+    }
+
+    @Test
+    void indexContainsEntriesAddedLater() {
+        SearchIndex index = new SearchIndex(database);
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "Relativity");
+        database.insertEntry(entry);
+
+        assertTrue(index.getEntriesContaining("relativ").contains(entry));
+        assertFalse(index.getEntriesContaining("relativ").contains(knuth));
+    }
+
+    @Test
+    void indexIgnoresChangesOfRemovedEntries() {
+        SearchIndex index = new SearchIndex(database);
+        database.removeEntry(knuth);
+        knuth.setField(StandardField.NOTE, "Einstein");
+
+        assertFalse(index.getEntriesContaining("donald").contains(einstein));
+        assertFalse(index.getEntriesContaining("einstein").contains(smith));
+    }
+
+    @Test
+    void compactionKeepsIndexedEntries() {
+        SearchIndex index = new SearchIndex(database);
+        for (int i = 0; i < 3000; i++) {
+            knuth.setField(StandardField.NOTE, "note " + i);
+        }
+
+        assertTrue(index.getEntriesContaining("note 2999").contains(knuth));
+        assertTrue(index.getEntriesContaining("einstein").contains(einstein));
+        assertFalse(index.getEntriesContaining("einstein").contains(knuth));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "einstein, false",
+            "Einstein, true",
+            "einstein, true",
+            "art comp, false",
+            "'\"of comp\"', false",
+            "kör, false",
+            "Σίσυφος, true",
+            "σίσυφος, false",
+            "author = einstein, false",
+            "author = knuth or title = körper, false",
+            "author = knuth and title = körper, false",
+            "not author = knuth, false",
+            "author != knuth, false",
+            "entrytype = book, false",
+            "anykeyword = algorithms, false",
+            "title == \"The Art of Computer Programming\", false",
+            "einstein or programming, false",
+    })
+    void indexedSearchYieldsSameResultAsFullSearch(String query, boolean caseSensitive) {
+        SearchRule rule = SearchRules.getSearchRuleByQuery(query, caseSensitive, false);
+        SearchIndex.Candidates candidates = rule.getCandidates(query, new SearchIndex(database));
+
+        List<BibEntry> expected = database.getEntries().stream()
+                                          .filter(entry -> rule.applyRule(query, entry))
+                                          .collect(Collectors.toList());
+        List<BibEntry> result = database.getEntries().stream()
+                                        .filter(candidates::contains)
+                                        .filter(entry -> rule.applyRule(query, entry))
+                                        .collect(Collectors.toList());
+        assertEquals(expected, result);
+    }
+}
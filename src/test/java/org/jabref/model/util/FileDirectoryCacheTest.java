@@ -0,0 +1,138 @@
+package org.jabref.model.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileDirectoryCacheTest {
+
+    private final List<FileUpdateListener> directoryListeners = new ArrayList<>();
+
+    private Path directory;
+    private Path subDirectory;
+    private Path file;
+    private Path snapshotFile;
+    private FileDirectoryCache cache;
+
+    @BeforeEach
+    void setUp(@TempDir Path temporaryFolder) throws IOException {
+        directory = Files.createDirectory(temporaryFolder.resolve("files"));
+        subDirectory = Files.createDirectory(directory.resolve("sub"));
+        file = Files.createFile(directory.resolve("paper.pdf"));
+        snapshotFile = temporaryFolder.resolve("cache").resolve("directories.snapshot");
+        cache = new FileDirectoryCache(new RecordingFileUpdateMonitor(), snapshotFile);
+    }
+
+    @Test
+    void existsFindsFilesAndDirectories() {
+        assertTrue(cache.exists(file));
+        assertTrue(cache.exists(subDirectory));
+        assertTrue(cache.exists(subDirectory.resolve("..").resolve("paper.pdf")));
+        assertFalse(cache.exists(directory.resolve("other.pdf")));
+        assertFalse(cache.exists(directory.resolve("missing").resolve("other.pdf")));
+    }
+
+    @Test
+    void changeOfDirectoryDiscardsListing() throws IOException {
+        Path otherFile = directory.resolve("other.pdf");
+        assertFalse(cache.exists(otherFile));
+
+        Files.createFile(otherFile);
+        // not reported by the monitor yet
+        assertFalse(cache.exists(otherFile));
+
+        directoryListeners.forEach(FileUpdateListener::fileUpdated);
+        assertTrue(cache.exists(otherFile));
+    }
+
+    @Test
+    void unwatchableDirectoryIsNotCached() throws IOException {
+        cache = new FileDirectoryCache(new DummyFileUpdateMonitor() {
+            @Override
+            public void addListenerForDirectory(Path directory, FileUpdateListener listener) throws IOException {
+                throw new IOException("Too many watches");
+            }
+        }, snapshotFile);
+        Path otherFile = directory.resolve("other.pdf");
+        assertFalse(cache.exists(otherFile));
+
+        Files.createFile(otherFile);
+
+        assertTrue(cache.exists(otherFile));
+    }
+
+    @Test
+    void directoryIsNotCachedBeforeMonitorIsStarted() throws IOException {
+        cache = new FileDirectoryCache(new RecordingFileUpdateMonitor() {
+            @Override
+            public boolean isActive() {
+                return false;
+            }
+        }, snapshotFile);
+        Path otherFile = directory.resolve("other.pdf");
+        assertFalse(cache.exists(otherFile));
+
+        Files.createFile(otherFile);
+
+        assertTrue(cache.exists(otherFile));
+        assertTrue(directoryListeners.isEmpty());
+    }
+
+    @Test
+    void getFilesAndSubDirectoriesAreResolvedAgainstDirectory() {
+        assertEquals(Collections.singletonList(file), cache.getFiles(directory));
+        assertEquals(Collections.singletonList(subDirectory), cache.getSubDirectories(directory));
+    }
+
+    @Test
+    void snapshotIsUsedIfDirectoryWasNotModified() throws IOException {
+        FileTime lastModified = FileTime.from(Instant.now().minus(1, ChronoUnit.HOURS));
+        Files.setLastModifiedTime(directory, lastModified);
+        cache.exists(file);
+        cache.writeSnapshot();
+
+        // a change which is not visible in the modification time is not seen
+        Path otherFile = Files.createFile(directory.resolve("other.pdf"));
+        Files.setLastModifiedTime(directory, lastModified);
+        FileDirectoryCache nextCache = new FileDirectoryCache(new RecordingFileUpdateMonitor(), snapshotFile);
+        nextCache.readSnapshot();
+
+        assertTrue(nextCache.exists(file));
+        assertFalse(nextCache.exists(otherFile));
+    }
+
+    @Test
+    void snapshotIsNotUsedIfDirectoryWasModified() throws IOException {
+        Files.setLastModifiedTime(directory, FileTime.from(Instant.now().minus(1, ChronoUnit.HOURS)));
+        cache.exists(file);
+        cache.writeSnapshot();
+
+        Path otherFile = Files.createFile(directory.resolve("other.pdf"));
+        Files.setLastModifiedTime(directory, FileTime.from(Instant.now()));
+        FileDirectoryCache nextCache = new FileDirectoryCache(new RecordingFileUpdateMonitor(), snapshotFile);
+        nextCache.readSnapshot();
+
+        assertTrue(nextCache.exists(otherFile));
+    }
+
+    private class RecordingFileUpdateMonitor extends DummyFileUpdateMonitor {
+        @Override
+        public void addListenerForDirectory(Path directory, FileUpdateListener listener) {
+            directoryListeners.add(listener);
+        }
+    }
+}